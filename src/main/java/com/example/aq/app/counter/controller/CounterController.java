@@ -0,0 +1,35 @@
+package com.example.aq.app.counter.controller;
+
+import com.example.aq.app.counter.domain.CounterFamily;
+import com.example.aq.app.counter.dto.CounterReconciliationReport;
+import com.example.aq.app.counter.service.CounterReconciliationService;
+import com.example.aq.common.dto.BaseResponse;
+import com.example.aq.common.util.SecurityUtil;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/admin/counters")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "카운터 관리", description = "역정규화된 카운터 재계산 관련 API (관리자)")
+public class CounterController {
+
+    private final CounterReconciliationService counterReconciliationService;
+
+    @PostMapping("/reconcile")
+    @Operation(summary = "카운터 재계산 (관리자)",
+               description = "리뷰 수, 좋아요 수, 북마크 수 등을 실제 데이터 기준으로 재계산하고 불일치 통계를 반환합니다")
+    public ResponseEntity<BaseResponse<CounterReconciliationReport>> reconcile(
+            @Parameter(description = "재계산할 카운터 종류 (생략 시 전체)") @RequestParam(required = false) CounterFamily family) {
+
+        Long adminId = SecurityUtil.getCurrentUserId();
+        CounterReconciliationReport report = counterReconciliationService.reconcileByAdmin(adminId, family);
+        return ResponseEntity.ok(BaseResponse.success(report));
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.aq.app.counter.domain;
+
+import com.example.aq.app.ranking.domain.HotScoreTarget;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 메모리에 모았다가 주기적으로 증분 UPDATE로 반영하는 카운터 (원본 테이블이 없어 재계산할 수 없는 조회수/사용수)
+ */
+@Getter
+@RequiredArgsConstructor
+public enum BufferedCounter {
+    REVIEW_VIEW_COUNT("리뷰 조회수", "reviews", "view_count", HotScoreTarget.REVIEW),
+    RECIPE_VIEW_COUNT("레시피 조회수", "recipes", "view_count", HotScoreTarget.RECIPE),
+    RECIPE_USE_COUNT("레시피 사용수", "recipes", "use_count", null);
+
+    private final String description;
+    private final String table;
+    private final String column;
+    private final HotScoreTarget rankingTarget; // 반영 후 인기 점수를 다시 계산할 대상 (없으면 null)
+
+    public String incrementSql() {
+        return "UPDATE " + table + " SET " + column + " = " + column + " + ? WHERE id = ?";
+    }
+}
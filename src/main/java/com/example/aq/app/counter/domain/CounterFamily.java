@@ -0,0 +1,48 @@
+package com.example.aq.app.counter.domain;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 역정규화된 카운터 컬럼과, 그 값을 원본 테이블에서 다시 계산하는 그룹 집계 쿼리
+ * 집계 쿼리는 대상 ID 범위(BETWEEN ? AND ?)를 받아 (target_id, count) 행을 반환해야 합니다.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum CounterFamily {
+    MODEL_REVIEW_COUNT("모델 리뷰 수", "ai_models", "review_count", true,
+            "SELECT model_id, COUNT(*) FROM reviews " +
+            "WHERE active = true AND model_id BETWEEN ? AND ? GROUP BY model_id"),
+    MODEL_RATING_SUM("모델 평점 합계", "ai_models", "rating_sum", true,
+            "SELECT model_id, SUM(rating) FROM reviews " +
+            "WHERE active = true AND model_id BETWEEN ? AND ? GROUP BY model_id"),
+    // 단일 컬럼이 아닌 평점 분포 행(model_rating_histograms)을 모델 ID 키셋으로 재계산
+    MODEL_RATING_HISTOGRAM("모델 평점 분포", "ai_models", null, false,
+            "SELECT model_id, rating, COUNT(*) FROM reviews " +
+            "WHERE active = true AND model_id BETWEEN ? AND ? GROUP BY model_id, rating"),
+    REVIEW_LIKE_COUNT("리뷰 좋아요 수", "reviews", "like_count", false,
+            "SELECT target_id, COUNT(*) FROM likes " +
+            "WHERE target_type = 'REVIEW' AND target_id BETWEEN ? AND ? GROUP BY target_id"),
+    RECIPE_LIKE_COUNT("레시피 좋아요 수", "recipes", "like_count", false,
+            "SELECT target_id, COUNT(*) FROM likes " +
+            "WHERE target_type = 'RECIPE' AND target_id BETWEEN ? AND ? GROUP BY target_id"),
+    RECIPE_BOOKMARK_COUNT("레시피 북마크 수", "recipes", "bookmark_count", false,
+            "SELECT target_id, COUNT(*) FROM bookmarks " +
+            "WHERE target_type = 'RECIPE' AND target_id BETWEEN ? AND ? GROUP BY target_id"),
+    PROPOSAL_LIKE_COUNT("모델 제안 좋아요 수", "model_proposals", "like_count", false,
+            "SELECT target_id, COUNT(*) FROM likes " +
+            "WHERE target_type = 'PROPOSAL' AND target_id BETWEEN ? AND ? GROUP BY target_id");
+
+    private final String description;
+    private final String table;
+    private final String column;
+    private final boolean touchUpdatedAt; // 변경분 동기화(updated_at 커서) 대상 테이블이면 수정 시각도 갱신
+    private final String actualCountSql;
+
+    /**
+     * 값이 바뀌면 모델의 평균/가중 평점도 다시 계산해야 하는 카운터인지 여부
+     */
+    public boolean affectsModelRating() {
+        return this == MODEL_REVIEW_COUNT || this == MODEL_RATING_SUM;
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.aq.app.counter.dto;
+
+import com.example.aq.app.counter.domain.CounterFamily;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 카운터 패밀리 하나의 재계산 결과
+ */
+@Getter
+@NoArgsConstructor
+public class CounterDriftResult {
+    private CounterFamily family;
+    private long scannedRows;
+    private long driftedRows;
+    private long updatedRows;
+    private long totalAbsoluteDrift;
+    private long maxAbsoluteDrift;
+    private long elapsedMillis;
+
+    @Builder
+    public CounterDriftResult(CounterFamily family, long scannedRows, long driftedRows, long updatedRows,
+                              long totalAbsoluteDrift, long maxAbsoluteDrift, long elapsedMillis) {
+        this.family = family;
+        this.scannedRows = scannedRows;
+        this.driftedRows = driftedRows;
+        this.updatedRows = updatedRows;
+        this.totalAbsoluteDrift = totalAbsoluteDrift;
+        this.maxAbsoluteDrift = maxAbsoluteDrift;
+        this.elapsedMillis = elapsedMillis;
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.aq.app.counter.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+public class CounterReconciliationReport {
+    private LocalDateTime startedAt;
+    private long elapsedMillis;
+    private long totalDriftedRows;
+    private List<CounterDriftResult> results;
+
+    @Builder
+    public CounterReconciliationReport(LocalDateTime startedAt, long elapsedMillis, List<CounterDriftResult> results) {
+        this.startedAt = startedAt;
+        this.elapsedMillis = elapsedMillis;
+        this.results = results;
+        this.totalDriftedRows = results.stream().mapToLong(CounterDriftResult::getDriftedRows).sum();
+    }
+}
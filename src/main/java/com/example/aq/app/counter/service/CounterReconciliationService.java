@@ -0,0 +1,328 @@
+package com.example.aq.app.counter.service;
+
+import com.example.aq.app.counter.domain.CounterFamily;
+import com.example.aq.app.counter.dto.CounterDriftResult;
+import com.example.aq.app.counter.dto.CounterReconciliationReport;
+import com.example.aq.app.model.event.ModelChangedEvent;
+import com.example.aq.app.model.repository.AIModelRepository;
+import com.example.aq.app.model.service.ModelRatingPrior;
+import com.example.aq.app.user.domain.User;
+import com.example.aq.app.user.domain.UserRole;
+import com.example.aq.app.user.repository.UserRepository;
+import com.example.aq.common.exception.ResourceNotFoundException;
+import com.example.aq.common.exception.UnauthorizedException;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 역정규화된 카운터(리뷰 수, 좋아요 수, 북마크 수 등)를 원본 테이블 기준으로 재계산합니다.
+ * 대상 테이블을 ID 키셋 청크로 나누어 청크마다 짧은 트랜잭션에서 그룹 집계 한 번으로 실제 값을 구하고,
+ * 어긋난 행만 배치 UPDATE로 고칩니다. 카운터 패밀리들은 병렬로 처리됩니다.
+ */
+@Service
+@Slf4j
+public class CounterReconciliationService {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate chunkTransaction;
+    private final UserRepository userRepository;
+    private final AIModelRepository aiModelRepository;
+    private final ModelRatingPrior ratingPrior;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ExecutorService executor;
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    @Value("${app.counter.reconcile.chunk-size:1000}")
+    private int chunkSize;
+
+    public CounterReconciliationService(JdbcTemplate jdbcTemplate,
+                                        PlatformTransactionManager transactionManager,
+                                        UserRepository userRepository,
+                                        AIModelRepository aiModelRepository,
+                                        ModelRatingPrior ratingPrior,
+                                        ApplicationEventPublisher eventPublisher,
+                                        @Value("${app.counter.reconcile.parallelism:3}") int parallelism) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.chunkTransaction = new TransactionTemplate(transactionManager);
+        this.userRepository = userRepository;
+        this.aiModelRepository = aiModelRepository;
+        this.ratingPrior = ratingPrior;
+        this.eventPublisher = eventPublisher;
+        this.executor = Executors.newFixedThreadPool(parallelism);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    @Scheduled(cron = "${app.counter.reconcile.cron:0 30 4 * * *}", zone = "Asia/Seoul")
+    public void scheduledReconcile() {
+        reconcile(EnumSet.allOf(CounterFamily.class));
+    }
+
+    // 관리자 수동 실행 (family가 null이면 전체)
+    public CounterReconciliationReport reconcileByAdmin(Long adminId, CounterFamily family) {
+        User admin = userRepository.findById(adminId)
+                .orElseThrow(() -> new ResourceNotFoundException("사용자", "id", adminId));
+
+        if (admin.getRole() != UserRole.ADMIN) {
+            throw new UnauthorizedException("관리자만 카운터를 재계산할 수 있습니다");
+        }
+
+        return reconcile(family == null ? EnumSet.allOf(CounterFamily.class) : EnumSet.of(family));
+    }
+
+    public CounterReconciliationReport reconcile(Set<CounterFamily> families) {
+        if (!running.compareAndSet(false, true)) {
+            throw new IllegalStateException("카운터 재계산이 이미 진행 중입니다");
+        }
+
+        LocalDateTime startedAt = LocalDateTime.now();
+        long start = System.currentTimeMillis();
+        try {
+            List<CompletableFuture<CounterDriftResult>> futures = families.stream()
+                    .map(family -> CompletableFuture.supplyAsync(() -> reconcileFamily(family), executor))
+                    .toList();
+
+            List<CounterDriftResult> results = futures.stream()
+                    .map(CompletableFuture::join)
+                    .toList();
+
+            CounterReconciliationReport report = CounterReconciliationReport.builder()
+                    .startedAt(startedAt)
+                    .elapsedMillis(System.currentTimeMillis() - start)
+                    .results(results)
+                    .build();
+
+            results.forEach(result -> log.info("카운터 재계산 [{}]: 검사 {}건, 불일치 {}건, 수정 {}건, 총 오차 {}, 최대 오차 {} ({}ms)",
+                    result.getFamily(), result.getScannedRows(), result.getDriftedRows(), result.getUpdatedRows(),
+                    result.getTotalAbsoluteDrift(), result.getMaxAbsoluteDrift(), result.getElapsedMillis()));
+
+            boolean modelCountsChanged = results.stream()
+                    .anyMatch(result -> result.getFamily().isTouchUpdatedAt() && result.getUpdatedRows() > 0);
+            if (modelCountsChanged) {
+                eventPublisher.publishEvent(new ModelChangedEvent(null));
+            }
+
+            return report;
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private CounterDriftResult reconcileFamily(CounterFamily family) {
+        long start = System.currentTimeMillis();
+        ChunkStats total = new ChunkStats();
+
+        long lastId = 0;
+        while (true) {
+            long afterId = lastId;
+            ChunkStats chunk = chunkTransaction.execute(status -> family == CounterFamily.MODEL_RATING_HISTOGRAM
+                    ? reconcileHistogramChunk(afterId)
+                    : reconcileChunk(family, afterId));
+            if (chunk.scanned == 0) {
+                break;
+            }
+            total.add(chunk);
+            lastId = chunk.lastId;
+        }
+
+        return CounterDriftResult.builder()
+                .family(family)
+                .scannedRows(total.scanned)
+                .driftedRows(total.drifted)
+                .updatedRows(total.updated)
+                .totalAbsoluteDrift(total.totalDrift)
+                .maxAbsoluteDrift(total.maxDrift)
+                .elapsedMillis(System.currentTimeMillis() - start)
+                .build();
+    }
+
+    private ChunkStats reconcileChunk(CounterFamily family, long afterId) {
+        ChunkStats stats = new ChunkStats();
+
+        // 1. 저장된 카운터 값 (키셋 청크)
+        LinkedHashMap<Long, Long> stored = new LinkedHashMap<>();
+        jdbcTemplate.query(
+                "SELECT id, " + family.getColumn() + " FROM " + family.getTable() +
+                " WHERE id > ? ORDER BY id LIMIT ?",
+                rs -> {
+                    stored.put(rs.getLong(1), rs.getLong(2));
+                },
+                afterId, chunkSize);
+
+        if (stored.isEmpty()) {
+            return stats;
+        }
+
+        long firstId = stored.firstEntry().getKey();
+        stats.scanned = stored.size();
+        stats.lastId = stored.lastEntry().getKey();
+
+        // 2. 같은 ID 범위의 실제 값 (그룹 집계 1회)
+        Map<Long, Long> actual = new HashMap<>();
+        jdbcTemplate.query(family.getActualCountSql(),
+                rs -> {
+                    actual.put(rs.getLong(1), rs.getLong(2));
+                },
+                firstId, stats.lastId);
+
+        // 3. 어긋난 행만 배치 UPDATE (읽은 이후 값이 바뀐 행은 건드리지 않고 다음 실행에서 처리)
+        List<Object[]> updates = new ArrayList<>();
+        List<Long> driftedIds = new ArrayList<>();
+        LocalDateTime updatedAt = LocalDateTime.now(); // 감사(auditing)와 같은 애플리케이션 시계 기준
+        stored.forEach((id, storedCount) -> {
+            long actualCount = actual.getOrDefault(id, 0L);
+            if (actualCount != storedCount) {
+                long drift = Math.abs(actualCount - storedCount);
+                stats.drifted++;
+                stats.totalDrift += drift;
+                stats.maxDrift = Math.max(stats.maxDrift, drift);
+                driftedIds.add(id);
+                updates.add(family.isTouchUpdatedAt()
+                        ? new Object[]{actualCount, updatedAt, id, storedCount}
+                        : new Object[]{actualCount, id, storedCount});
+            }
+        });
+
+        if (!updates.isEmpty()) {
+            int[] results = jdbcTemplate.batchUpdate(
+                    "UPDATE " + family.getTable() + " SET " + family.getColumn() + " = ?" +
+                    (family.isTouchUpdatedAt() ? ", updated_at = ?" : "") +
+                    " WHERE id = ? AND " + family.getColumn() + " = ?",
+                    updates);
+            stats.updated += countUpdated(results);
+
+            if (family.affectsModelRating()) {
+                aiModelRepository.refreshRatingScores(driftedIds,
+                        ratingPrior.getPriorWeight(), ratingPrior.getPriorMean());
+            }
+        }
+
+        return stats;
+    }
+
+    private ChunkStats reconcileHistogramChunk(long afterId) {
+        ChunkStats stats = new ChunkStats();
+
+        List<Long> modelIds = jdbcTemplate.queryForList(
+                "SELECT id FROM ai_models WHERE id > ? ORDER BY id LIMIT ?", Long.class, afterId, chunkSize);
+        if (modelIds.isEmpty()) {
+            return stats;
+        }
+
+        long firstId = modelIds.get(0);
+        stats.scanned = modelIds.size();
+        stats.lastId = modelIds.get(modelIds.size() - 1);
+
+        Map<Long, long[]> stored = new HashMap<>();
+        jdbcTemplate.query(
+                "SELECT model_id, star1_count, star2_count, star3_count, star4_count, star5_count " +
+                "FROM model_rating_histograms WHERE model_id BETWEEN ? AND ?",
+                rs -> {
+                    stored.put(rs.getLong(1), new long[]{
+                            rs.getLong(2), rs.getLong(3), rs.getLong(4), rs.getLong(5), rs.getLong(6)});
+                },
+                firstId, stats.lastId);
+
+        Map<Long, long[]> actual = new HashMap<>();
+        jdbcTemplate.query(CounterFamily.MODEL_RATING_HISTOGRAM.getActualCountSql(),
+                rs -> {
+                    int rating = rs.getInt(2);
+                    if (rating >= 1 && rating <= 5) {
+                        actual.computeIfAbsent(rs.getLong(1), key -> new long[5])[rating - 1] = rs.getLong(3);
+                    }
+                },
+                firstId, stats.lastId);
+
+        // 행이 없으면 INSERT IGNORE, 있으면 읽은 값 그대로일 때만 UPDATE
+        List<Object[]> inserts = new ArrayList<>();
+        List<Object[]> updates = new ArrayList<>();
+        for (Long modelId : modelIds) {
+            long[] actualCounts = actual.getOrDefault(modelId, new long[5]);
+            long[] storedCounts = stored.getOrDefault(modelId, new long[5]);
+
+            long drift = 0;
+            for (int i = 0; i < 5; i++) {
+                drift += Math.abs(actualCounts[i] - storedCounts[i]);
+            }
+            if (drift == 0) {
+                continue;
+            }
+
+            stats.drifted++;
+            stats.totalDrift += drift;
+            stats.maxDrift = Math.max(stats.maxDrift, drift);
+
+            if (stored.containsKey(modelId)) {
+                updates.add(new Object[]{
+                        actualCounts[0], actualCounts[1], actualCounts[2], actualCounts[3], actualCounts[4], modelId,
+                        storedCounts[0], storedCounts[1], storedCounts[2], storedCounts[3], storedCounts[4]});
+            } else {
+                inserts.add(new Object[]{
+                        modelId, actualCounts[0], actualCounts[1], actualCounts[2], actualCounts[3], actualCounts[4]});
+            }
+        }
+
+        if (!inserts.isEmpty()) {
+            stats.updated += countUpdated(jdbcTemplate.batchUpdate(
+                    "INSERT IGNORE INTO model_rating_histograms " +
+                    "(model_id, star1_count, star2_count, star3_count, star4_count, star5_count) " +
+                    "VALUES (?, ?, ?, ?, ?, ?)",
+                    inserts));
+        }
+        if (!updates.isEmpty()) {
+            stats.updated += countUpdated(jdbcTemplate.batchUpdate(
+                    "UPDATE model_rating_histograms SET " +
+                    "star1_count = ?, star2_count = ?, star3_count = ?, star4_count = ?, star5_count = ? " +
+                    "WHERE model_id = ? AND star1_count = ? AND star2_count = ? AND star3_count = ? " +
+                    "AND star4_count = ? AND star5_count = ?",
+                    updates));
+        }
+
+        return stats;
+    }
+
+    private static int countUpdated(int[] results) {
+        int updated = 0;
+        for (int result : results) {
+            if (result > 0 || result == Statement.SUCCESS_NO_INFO) {
+                updated++;
+            }
+        }
+        return updated;
+    }
+
+    private static class ChunkStats {
+        private long scanned;
+        private long drifted;
+        private long updated;
+        private long totalDrift;
+        private long maxDrift;
+        private long lastId;
+
+        private void add(ChunkStats other) {
+            scanned += other.scanned;
+            drifted += other.drifted;
+            updated += other.updated;
+            totalDrift += other.totalDrift;
+            maxDrift = Math.max(maxDrift, other.maxDrift);
+        }
+    }
+}
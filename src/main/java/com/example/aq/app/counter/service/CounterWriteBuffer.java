@@ -0,0 +1,106 @@
+package com.example.aq.app.counter.service;
+
+import com.example.aq.app.counter.domain.BufferedCounter;
+import com.example.aq.app.ranking.event.RankingSignalChangedEvent;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 조회수/사용수 증가를 대상 ID별 LongAdder에 모았다가 주기적으로 배치 증분 UPDATE로 반영합니다.
+ * 상세 조회가 쓰기 트랜잭션과 행 잠금 없이 끝나고, 같은 행에 몰리는 증가가 한 번의 UPDATE로 합쳐집니다.
+ * 반영 주기만큼 DB 값이 늦게 보이며, 애플리케이션이 정상 종료되면 남은 증분을 모두 반영합니다.
+ */
+@Service
+@Slf4j
+public class CounterWriteBuffer {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Map<BufferedCounter, ConcurrentHashMap<Long, LongAdder>> buffers = new EnumMap<>(BufferedCounter.class);
+
+    public CounterWriteBuffer(JdbcTemplate jdbcTemplate, ApplicationEventPublisher eventPublisher) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.eventPublisher = eventPublisher;
+        for (BufferedCounter counter : BufferedCounter.values()) {
+            buffers.put(counter, new ConcurrentHashMap<>());
+        }
+    }
+
+    public void increment(BufferedCounter counter, Long targetId) {
+        add(counter, targetId, 1);
+    }
+
+    /**
+     * 아직 DB에 반영되지 않은 증분
+     */
+    public long pending(BufferedCounter counter, Long targetId) {
+        LongAdder adder = buffers.get(counter).get(targetId);
+        return adder == null ? 0 : adder.sum();
+    }
+
+    @Scheduled(fixedDelayString = "${app.counter.write-behind.flush-interval-ms:5000}")
+    public void flush() {
+        for (BufferedCounter counter : BufferedCounter.values()) {
+            flush(counter);
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+        log.info("종료 전 버퍼된 카운터를 반영했습니다");
+    }
+
+    private void flush(BufferedCounter counter) {
+        ConcurrentHashMap<Long, LongAdder> buffer = buffers.get(counter);
+        List<Object[]> batchArgs = new ArrayList<>();
+
+        for (Long targetId : buffer.keySet()) {
+            // 증분을 꺼내고 한 주기 동안 증가가 없던 항목은 제거 (add와 같은 키 단위 원자 연산이므로 사이에 들어온 증가가 유실되지 않음)
+            long[] delta = new long[1];
+            buffer.computeIfPresent(targetId, (id, adder) -> {
+                delta[0] = adder.sumThenReset();
+                return delta[0] == 0 ? null : adder;
+            });
+            if (delta[0] != 0) {
+                batchArgs.add(new Object[]{delta[0], targetId});
+            }
+        }
+
+        if (batchArgs.isEmpty()) {
+            return;
+        }
+
+        try {
+            jdbcTemplate.batchUpdate(counter.incrementSql(), batchArgs);
+            log.debug("버퍼된 카운터 반영 [{}]: {}건", counter, batchArgs.size());
+            if (counter.getRankingTarget() != null) {
+                List<Long> targetIds = batchArgs.stream().map(args -> (Long) args[1]).toList();
+                eventPublisher.publishEvent(new RankingSignalChangedEvent(counter.getRankingTarget(), targetIds));
+            }
+        } catch (RuntimeException e) {
+            // 반영에 실패한 증분은 버퍼로 되돌려 다음 주기에 다시 시도
+            batchArgs.forEach(args -> add(counter, (Long) args[1], (Long) args[0]));
+            log.warn("버퍼된 카운터 반영 실패 [{}]: {}건, 다음 주기에 재시도합니다", counter, batchArgs.size(), e);
+        }
+    }
+
+    private void add(BufferedCounter counter, Long targetId, long delta) {
+        buffers.get(counter).compute(targetId, (id, adder) -> {
+            LongAdder target = adder == null ? new LongAdder() : adder;
+            target.add(delta);
+            return target;
+        });
+    }
+}
@@ -6,6 +6,8 @@ import com.example.aq.app.interaction.domain.Like;
 import com.example.aq.app.interaction.domain.LikeType;
 import com.example.aq.app.interaction.repository.BookmarkRepository;
 import com.example.aq.app.interaction.repository.LikeRepository;
+import com.example.aq.app.ranking.domain.HotScoreTarget;
+import com.example.aq.app.ranking.event.RankingSignalChangedEvent;
 import com.example.aq.app.recipe.domain.Recipe;
 import com.example.aq.app.recipe.repository.RecipeRepository;
 import com.example.aq.app.review.domain.Review;
@@ -14,6 +16,7 @@ import com.example.aq.app.user.domain.User;
 import com.example.aq.app.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -30,6 +33,7 @@ public class InteractionService {
     private final UserRepository userRepository;
     private final ReviewRepository reviewRepository;
     private final RecipeRepository recipeRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     // Like 관련 메서드
     @Transactional
@@ -44,6 +48,7 @@ public class InteractionService {
                     .orElseThrow(() -> new RuntimeException("좋아요를 찾을 수 없습니다"));
             likeRepository.delete(like);
             decrementLikeCount(targetId, targetType);
+            publishRankingSignal(targetId, targetType);
             log.info("좋아요가 취소되었습니다: {} {} by {}", targetType, targetId, userId);
             return false;
         } else {
@@ -54,6 +59,7 @@ public class InteractionService {
                     .build();
             likeRepository.save(like);
             incrementLikeCount(targetId, targetType);
+            publishRankingSignal(targetId, targetType);
             log.info("좋아요가 추가되었습니다: {} {} by {}", targetType, targetId, userId);
             return true;
         }
@@ -135,6 +141,19 @@ public class InteractionService {
         return bookmarkRepository.countByTargetIdAndTargetType(targetId, targetType);
     }
 
+    // 좋아요 수가 바뀐 대상을 커밋 후 인기 점수 재계산 대상으로 표시
+    private void publishRankingSignal(Long targetId, LikeType targetType) {
+        HotScoreTarget target = switch (targetType) {
+            case REVIEW -> HotScoreTarget.REVIEW;
+            case RECIPE -> HotScoreTarget.RECIPE;
+            case PROPOSAL -> HotScoreTarget.PROPOSAL;
+            case COMMENT -> null;
+        };
+        if (target != null) {
+            eventPublisher.publishEvent(new RankingSignalChangedEvent(target, List.of(targetId)));
+        }
+    }
+
     // 좋아요/북마크 수 증가/감소 헬퍼 메서드
     private void incrementLikeCount(Long targetId, LikeType targetType) {
         if (targetType == LikeType.REVIEW) {
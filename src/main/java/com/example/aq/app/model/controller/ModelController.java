@@ -1,18 +1,29 @@
 package com.example.aq.app.model.controller;
 
 import com.example.aq.common.dto.BaseResponse;
+import com.example.aq.common.dto.CursorResponse;
 import com.example.aq.common.dto.PageResponse;
+import com.example.aq.app.model.domain.FacetMatchMode;
 import com.example.aq.app.model.domain.ModelCategory;
+import com.example.aq.app.model.domain.RatingMode;
+import com.example.aq.app.model.dto.CostRankingRequest;
+import com.example.aq.app.model.dto.CostRankingResponse;
+import com.example.aq.app.model.dto.CostWorkload;
+import com.example.aq.app.model.dto.ModelChangesResponse;
+import com.example.aq.app.model.dto.ModelComparisonResponse;
+import com.example.aq.app.model.dto.ModelFacetResponse;
 import com.example.aq.app.model.dto.ModelResponse;
 import com.example.aq.app.model.service.ModelService;
+import com.example.aq.app.recipe.dto.RecipeSummaryResponse;
+import com.example.aq.app.recipe.service.RecipeService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -26,6 +37,7 @@ import java.util.List;
 public class ModelController {
 
     private final ModelService modelService;
+    private final RecipeService recipeService;
 
     @GetMapping
     @Operation(summary = "AI 모델 목록 조회", description = "AI 모델 목록을 조회합니다")
@@ -33,19 +45,22 @@ public class ModelController {
             @Parameter(description = "페이지 번호 (0부터 시작)") @RequestParam(defaultValue = "0") int page,
             @Parameter(description = "페이지 크기") @RequestParam(defaultValue = "20") int size) {
         
-        Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.ASC, "name"));
+        Pageable pageable = PageRequest.of(page, size);
         PageResponse<ModelResponse> response = modelService.getModels(pageable);
         return ResponseEntity.ok(BaseResponse.success(response));
     }
 
     @GetMapping("/top-rated")
-    @Operation(summary = "높은 평점 모델 조회", description = "평점 기준으로 높은 평점 모델을 조회합니다")
+    @Operation(summary = "높은 평점 모델 조회",
+               description = "평점 기준으로 높은 평점 모델을 조회합니다 (mode=weighted: 리뷰 수를 반영한 베이지안 가중 평점 기준)")
     public ResponseEntity<BaseResponse<PageResponse<ModelResponse>>> getTopRatedModels(
+            @Parameter(description = "정렬 기준 (average: 평균 평점, weighted: 가중 평점)")
+            @RequestParam(defaultValue = "average") String mode,
             @Parameter(description = "페이지 번호 (0부터 시작)") @RequestParam(defaultValue = "0") int page,
             @Parameter(description = "페이지 크기") @RequestParam(defaultValue = "20") int size) {
         
         Pageable pageable = PageRequest.of(page, size);
-        PageResponse<ModelResponse> response = modelService.getTopRatedModels(pageable);
+        PageResponse<ModelResponse> response = modelService.getTopRatedModels(RatingMode.from(mode), pageable);
         return ResponseEntity.ok(BaseResponse.success(response));
     }
 
@@ -66,19 +81,19 @@ public class ModelController {
             @Parameter(description = "페이지 번호 (0부터 시작)") @RequestParam(defaultValue = "0") int page,
             @Parameter(description = "페이지 크기") @RequestParam(defaultValue = "20") int size) {
         
-        Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.ASC, "name"));
+        Pageable pageable = PageRequest.of(page, size);
         PageResponse<ModelResponse> response = modelService.getFreeTierModels(pageable);
         return ResponseEntity.ok(BaseResponse.success(response));
     }
 
     @GetMapping("/search")
-    @Operation(summary = "모델 검색", description = "키워드로 모델을 검색합니다")
+    @Operation(summary = "모델 검색", description = "키워드로 모델을 검색합니다 (이름 > 제공업체 > 설명 순 관련도 정렬)")
     public ResponseEntity<BaseResponse<PageResponse<ModelResponse>>> searchModels(
             @Parameter(description = "검색 키워드") @RequestParam String keyword,
             @Parameter(description = "페이지 번호 (0부터 시작)") @RequestParam(defaultValue = "0") int page,
             @Parameter(description = "페이지 크기") @RequestParam(defaultValue = "20") int size) {
         
-        Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.ASC, "name"));
+        Pageable pageable = PageRequest.of(page, size);
         PageResponse<ModelResponse> response = modelService.searchModels(keyword, pageable);
         return ResponseEntity.ok(BaseResponse.success(response));
     }
@@ -90,7 +105,7 @@ public class ModelController {
             @Parameter(description = "페이지 번호 (0부터 시작)") @RequestParam(defaultValue = "0") int page,
             @Parameter(description = "페이지 크기") @RequestParam(defaultValue = "20") int size) {
         
-        Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.ASC, "name"));
+        Pageable pageable = PageRequest.of(page, size);
         PageResponse<ModelResponse> response = modelService.getModelsByCategory(category, pageable);
         return ResponseEntity.ok(BaseResponse.success(response));
     }
@@ -102,23 +117,86 @@ public class ModelController {
             @Parameter(description = "페이지 번호 (0부터 시작)") @RequestParam(defaultValue = "0") int page,
             @Parameter(description = "페이지 크기") @RequestParam(defaultValue = "20") int size) {
         
-        Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.ASC, "name"));
+        Pageable pageable = PageRequest.of(page, size);
         PageResponse<ModelResponse> response = modelService.getModelsByProvider(provider, pageable);
         return ResponseEntity.ok(BaseResponse.success(response));
     }
 
+    @GetMapping("/facets")
+    @Operation(summary = "패싯 필터 모델 조회",
+               description = "기능/카테고리/제공업체 조건으로 모델을 필터링하고, 결과 집합 기준의 패싯별 모델 수를 함께 반환합니다")
+    public ResponseEntity<BaseResponse<ModelFacetResponse>> getModelFacets(
+            @Parameter(description = "기능 (여러 개 지정 가능)") @RequestParam(required = false) List<String> capabilities,
+            @Parameter(description = "기능 결합 방식 (AND: 모두 포함, OR: 하나 이상 포함)")
+            @RequestParam(defaultValue = "AND") FacetMatchMode capabilityMode,
+            @Parameter(description = "카테고리 (여러 개 지정 시 OR)") @RequestParam(required = false) List<ModelCategory> categories,
+            @Parameter(description = "제공업체 (여러 개 지정 시 OR)") @RequestParam(required = false) List<String> providers,
+            @Parameter(description = "페이지 번호 (0부터 시작)") @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "페이지 크기") @RequestParam(defaultValue = "20") int size) {
+
+        Pageable pageable = PageRequest.of(page, size);
+        ModelFacetResponse response = modelService.getModelFacets(capabilities, capabilityMode, categories, providers, pageable);
+        return ResponseEntity.ok(BaseResponse.success(response));
+    }
+
     @GetMapping("/capability/{capability}")
-    @Operation(summary = "기능별 모델 조회", description = "특정 기능을 지원하는 모델을 조회합니다")
+    @Operation(summary = "기능별 모델 조회", description = "특정 기능을 지원하는 모델을 조회합니다 (대소문자 무시, 정확히 일치)")
     public ResponseEntity<BaseResponse<PageResponse<ModelResponse>>> getModelsByCapability(
             @Parameter(description = "기능") @PathVariable String capability,
             @Parameter(description = "페이지 번호 (0부터 시작)") @RequestParam(defaultValue = "0") int page,
             @Parameter(description = "페이지 크기") @RequestParam(defaultValue = "20") int size) {
         
-        Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.ASC, "name"));
+        Pageable pageable = PageRequest.of(page, size);
         PageResponse<ModelResponse> response = modelService.getModelsByCapability(capability, pageable);
         return ResponseEntity.ok(BaseResponse.success(response));
     }
 
+    @GetMapping("/changes")
+    @Operation(summary = "모델 변경분 조회",
+               description = "since 커서 이후 생성/수정된 모델과 비활성화된 모델 ID(툼스톤)를 조회합니다. since를 생략하면 처음부터 조회합니다")
+    public ResponseEntity<BaseResponse<ModelChangesResponse>> getModelChanges(
+            @Parameter(description = "이전 응답의 nextCursor") @RequestParam(required = false) String since,
+            @Parameter(description = "조회 개수 (최대 500)") @RequestParam(defaultValue = "100") int limit) {
+
+        ModelChangesResponse response = modelService.getModelChanges(since, limit);
+        return ResponseEntity.ok(BaseResponse.success(response));
+    }
+
+    @GetMapping("/compare")
+    @Operation(summary = "모델 비교", description = "여러 모델의 정보, 기능 지원 여부, 평점 분포를 열 지향 비교표로 조회합니다")
+    public ResponseEntity<BaseResponse<ModelComparisonResponse>> compareModels(
+            @Parameter(description = "비교할 모델 ID 목록 (쉼표로 구분)") @RequestParam List<Long> ids) {
+
+        ModelComparisonResponse response = modelService.compareModels(ids);
+        return ResponseEntity.ok(BaseResponse.success(response));
+    }
+
+    @GetMapping("/cost-ranking")
+    @Operation(summary = "비용 기준 모델 순위", description = "요청당 입력/출력 토큰 수와 요청 횟수로 추정 비용을 계산해 저렴한 모델 순으로 조회합니다")
+    public ResponseEntity<BaseResponse<CostRankingResponse>> rankModelsByCost(
+            @Parameter(description = "요청당 입력 토큰 수") @RequestParam long inputTokens,
+            @Parameter(description = "요청당 출력 토큰 수") @RequestParam long outputTokens,
+            @Parameter(description = "요청 횟수") @RequestParam(defaultValue = "1") long requestCount,
+            @Parameter(description = "결과 개수") @RequestParam(defaultValue = "10") int limit) {
+
+        if (inputTokens < 0 || outputTokens < 0 || requestCount < 1 || limit < 1 || limit > 100) {
+            throw new IllegalArgumentException("토큰 수는 0 이상, 요청 횟수는 1 이상, 결과 개수는 1~100이어야 합니다");
+        }
+
+        CostWorkload workload = new CostWorkload(inputTokens, outputTokens, requestCount);
+        CostRankingResponse response = modelService.rankModelsByCost(List.of(workload), limit).get(0);
+        return ResponseEntity.ok(BaseResponse.success(response));
+    }
+
+    @PostMapping("/cost-ranking")
+    @Operation(summary = "비용 기준 모델 순위 (일괄)", description = "여러 워크로드 각각에 대해 추정 비용이 낮은 모델 순위를 조회합니다")
+    public ResponseEntity<BaseResponse<List<CostRankingResponse>>> rankModelsByCostBatch(
+            @Valid @RequestBody CostRankingRequest request) {
+
+        List<CostRankingResponse> response = modelService.rankModelsByCost(request.getWorkloads(), request.getLimit());
+        return ResponseEntity.ok(BaseResponse.success(response));
+    }
+
     @GetMapping("/providers")
     @Operation(summary = "제공업체 목록 조회", description = "모든 제공업체 목록을 조회합니다")
     public ResponseEntity<BaseResponse<List<String>>> getAllProviders() {
@@ -127,7 +205,7 @@ public class ModelController {
     }
 
     @GetMapping("/{id}")
-    @Operation(summary = "모델 상세 조회", description = "특정 모델의 상세 정보를 조회합니다")
+    @Operation(summary = "모델 상세 조회", description = "특정 모델의 상세 정보와 평점 분포(1~5점)를 조회합니다")
     public ResponseEntity<BaseResponse<ModelResponse>> getModel(
             @Parameter(description = "모델 ID") @PathVariable Long id) {
         
@@ -135,6 +213,17 @@ public class ModelController {
         return ResponseEntity.ok(BaseResponse.success(response));
     }
 
+    @GetMapping("/{id}/recipes")
+    @Operation(summary = "모델별 레시피 피드 (커서)", description = "적합 모델로 이 모델이 지정된 레시피를 커서 기반으로 최신순 조회합니다")
+    public ResponseEntity<BaseResponse<CursorResponse<RecipeSummaryResponse>>> getModelRecipes(
+            @Parameter(description = "모델 ID") @PathVariable Long id,
+            @Parameter(description = "이전 응답의 nextCursor (생략하면 첫 페이지)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "조회 개수 (최대 100)") @RequestParam(defaultValue = "20") int size) {
+        
+        CursorResponse<RecipeSummaryResponse> response = recipeService.getRecipeFeedByModel(id, cursor, size);
+        return ResponseEntity.ok(BaseResponse.success(response));
+    }
+
     @PostMapping("/{id}/sync-review-count")
     @Operation(summary = "리뷰 카운트 동기화", description = "모델의 리뷰 카운트를 실제 리뷰 개수와 동기화합니다")
     public ResponseEntity<BaseResponse<Void>> syncReviewCount(
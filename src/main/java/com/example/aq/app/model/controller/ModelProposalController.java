@@ -1,6 +1,8 @@
 package com.example.aq.app.model.controller;
 
 import com.example.aq.common.dto.BaseResponse;
+import com.example.aq.common.dto.CursorResponse;
+import com.example.aq.common.dto.PopularSort;
 import com.example.aq.common.dto.PageResponse;
 import com.example.aq.common.util.SecurityUtil;
 import com.example.aq.app.model.dto.*;
@@ -36,14 +38,16 @@ public class ModelProposalController {
     }
 
     @GetMapping("/pending")
-    @Operation(summary = "대기중인 제안 목록 조회", description = "승인 대기중인 모델 제안 목록을 조회합니다")
+    @Operation(summary = "대기중인 제안 목록 조회", description = "승인 대기중인 모델 제안 목록을 누적 추천수 또는 시간 감쇠 인기 점수순으로 조회합니다")
     public ResponseEntity<BaseResponse<PageResponse<ModelProposalResponse>>> getPendingProposals(
+            @Parameter(description = "정렬 기준 (likes: 누적 좋아요순, hot: 시간 감쇠 인기순)") @RequestParam(defaultValue = "likes") String sort,
             @Parameter(description = "페이지 번호 (0부터 시작)") @RequestParam(defaultValue = "0") int page,
             @Parameter(description = "페이지 크기") @RequestParam(defaultValue = "20") int size) {
         
-        Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "likeCount"));
+        PopularSort popularSort = PopularSort.from(sort);
+        Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, popularSort.getSortProperty()));
         Long currentUserId = SecurityUtil.isAuthenticated() ? SecurityUtil.getCurrentUserId() : null;
-        PageResponse<ModelProposalResponse> response = proposalService.getPendingProposals(pageable, currentUserId);
+        PageResponse<ModelProposalResponse> response = proposalService.getPendingProposals(popularSort, pageable, currentUserId);
         return ResponseEntity.ok(BaseResponse.success(response));
     }
 
@@ -59,6 +63,29 @@ public class ModelProposalController {
         return ResponseEntity.ok(BaseResponse.success(response));
     }
 
+    @GetMapping("/pending/cursor")
+    @Operation(summary = "대기중인 제안 피드 (커서)", description = "승인 대기중인 모델 제안을 커서 기반으로 추천수순 또는 시간 감쇠 인기순 조회합니다")
+    public ResponseEntity<BaseResponse<CursorResponse<ModelProposalResponse>>> getPendingProposalFeed(
+            @Parameter(description = "정렬 기준 (likes: 누적 좋아요순, hot: 시간 감쇠 인기순)") @RequestParam(defaultValue = "likes") String sort,
+            @Parameter(description = "이전 응답의 nextCursor (생략하면 첫 페이지)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "조회 개수 (최대 100)") @RequestParam(defaultValue = "20") int size) {
+
+        Long currentUserId = SecurityUtil.isAuthenticated() ? SecurityUtil.getCurrentUserId() : null;
+        CursorResponse<ModelProposalResponse> response = proposalService.getPendingProposalFeed(PopularSort.from(sort), cursor, size, currentUserId);
+        return ResponseEntity.ok(BaseResponse.success(response));
+    }
+
+    @GetMapping("/approved/cursor")
+    @Operation(summary = "승인된 제안 피드 (커서)", description = "승인된 모델 제안을 커서 기반으로 최신순 조회합니다")
+    public ResponseEntity<BaseResponse<CursorResponse<ModelProposalResponse>>> getApprovedProposalFeed(
+            @Parameter(description = "이전 응답의 nextCursor (생략하면 첫 페이지)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "조회 개수 (최대 100)") @RequestParam(defaultValue = "20") int size) {
+
+        Long currentUserId = SecurityUtil.isAuthenticated() ? SecurityUtil.getCurrentUserId() : null;
+        CursorResponse<ModelProposalResponse> response = proposalService.getApprovedProposalFeed(cursor, size, currentUserId);
+        return ResponseEntity.ok(BaseResponse.success(response));
+    }
+
     @GetMapping("/top")
     @Operation(summary = "인기 제안 조회", description = "추천수가 많은 모델 제안을 조회합니다")
     public ResponseEntity<BaseResponse<PageResponse<ModelProposalResponse>>> getTopProposals(
@@ -113,7 +140,7 @@ public class ModelProposalController {
     }
 
     @GetMapping("/search")
-    @Operation(summary = "제안 검색", description = "키워드로 모델 제안을 검색합니다")
+    @Operation(summary = "제안 검색", description = "키워드로 대기중인 모델 제안을 검색합니다 (이름 > 제공업체 > 설명 순 관련도 정렬)")
     public ResponseEntity<BaseResponse<PageResponse<ModelProposalResponse>>> searchProposals(
             @Parameter(description = "검색 키워드") @RequestParam String keyword,
             @Parameter(description = "페이지 번호 (0부터 시작)") @RequestParam(defaultValue = "0") int page,
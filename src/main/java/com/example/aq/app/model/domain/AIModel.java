@@ -18,7 +18,10 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "ai_models")
+@Table(name = "ai_models",
+       indexes = {
+           @Index(name = "idx_ai_models_updated_at_id", columnList = "updated_at, id")
+       })
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @EntityListeners(AuditingEntityListener.class)
@@ -69,12 +72,19 @@ public class AIModel {
     @Column(name = "documentation_url")
     private String documentationUrl;
 
-    @Column(name = "average_rating", precision = 3, scale = 2)
+    // 리뷰 수/평점 합계/평균·가중 평점은 AIModelRepository의 SQL로만 갱신하므로 엔티티 저장 시에는 덮어쓰지 않음
+    @Column(name = "average_rating", precision = 3, scale = 2, updatable = false)
     private BigDecimal averageRating;
 
-    @Column(name = "review_count", nullable = false)
+    @Column(name = "review_count", nullable = false, updatable = false)
     private Integer reviewCount = 0;
 
+    @Column(name = "rating_sum", nullable = false, updatable = false)
+    private Long ratingSum = 0L; // 활성 리뷰 평점 합계 (평균/가중 평점을 재조회 없이 갱신하기 위함)
+
+    @Column(name = "weighted_rating", precision = 5, scale = 4, updatable = false)
+    private BigDecimal weightedRating; // 베이지안 가중 평점
+
     @Column(nullable = false)
     private Boolean active = true;
 
@@ -122,22 +132,6 @@ public class AIModel {
         this.documentationUrl = documentationUrl;
     }
 
-    public void updateRating(BigDecimal averageRating) {
-        this.averageRating = averageRating;
-    }
-
-    public void incrementReviewCount() {
-        this.reviewCount++;
-    }
-
-    public void decrementReviewCount() {
-        this.reviewCount = Math.max(0, this.reviewCount - 1);
-    }
-
-    public void setReviewCount(Integer reviewCount) {
-        this.reviewCount = reviewCount != null ? Math.max(0, reviewCount) : 0;
-    }
-
     public void activate() {
         this.active = true;
     }
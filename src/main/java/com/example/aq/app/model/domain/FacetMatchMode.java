@@ -0,0 +1,13 @@
+package com.example.aq.app.model.domain;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum FacetMatchMode {
+    AND("모두 포함"),
+    OR("하나 이상 포함");
+
+    private final String description;
+}
@@ -19,7 +19,12 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "model_proposals")
+@Table(name = "model_proposals",
+       indexes = {
+           @Index(name = "idx_model_proposals_status_like_count_id", columnList = "status, like_count, id"),
+           @Index(name = "idx_model_proposals_status_hot_score_id", columnList = "status, hot_score, id"),
+           @Index(name = "idx_model_proposals_status_created_at_id", columnList = "status, created_at, id")
+       })
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @EntityListeners(AuditingEntityListener.class)
@@ -83,6 +88,10 @@ public class ModelProposal {
     @Column(name = "like_count", nullable = false)
     private Integer likeCount = 0;
 
+    // 시간 감쇠 인기 점수: HotScoreService가 SQL로만 갱신하므로 엔티티 저장 시에는 덮어쓰지 않음
+    @Column(name = "hot_score", nullable = false, updatable = false)
+    private Double hotScore = 0.0;
+
     @Column(name = "rejection_reason")
     private String rejectionReason;
 
@@ -0,0 +1,47 @@
+package com.example.aq.app.model.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 모델별 평점(1~5점) 분포
+ * 리뷰 작성/수정/삭제 시 같은 트랜잭션에서 증감되므로 상세 조회 시 PK 조회 한 번으로 분포를 얻을 수 있습니다.
+ */
+@Entity
+@Table(name = "model_rating_histograms")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ModelRatingHistogram {
+
+    @Id
+    @Column(name = "model_id")
+    private Long modelId;
+
+    @Column(name = "star1_count", nullable = false)
+    private Long star1Count = 0L;
+
+    @Column(name = "star2_count", nullable = false)
+    private Long star2Count = 0L;
+
+    @Column(name = "star3_count", nullable = false)
+    private Long star3Count = 0L;
+
+    @Column(name = "star4_count", nullable = false)
+    private Long star4Count = 0L;
+
+    @Column(name = "star5_count", nullable = false)
+    private Long star5Count = 0L;
+
+    // [1점, 2점, 3점, 4점, 5점] 리뷰 수
+    public List<Long> toDistribution() {
+        return List.of(star1Count, star2Count, star3Count, star4Count, star5Count);
+    }
+
+    public static List<Long> emptyDistribution() {
+        return List.of(0L, 0L, 0L, 0L, 0L);
+    }
+}
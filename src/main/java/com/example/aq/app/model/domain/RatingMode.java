@@ -0,0 +1,23 @@
+package com.example.aq.app.model.domain;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Locale;
+
+@Getter
+@RequiredArgsConstructor
+public enum RatingMode {
+    AVERAGE("평균 평점"),
+    WEIGHTED("베이지안 가중 평점");
+
+    private final String description;
+
+    public static RatingMode from(String value) {
+        try {
+            return RatingMode.valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("지원하지 않는 평점 정렬 기준입니다: " + value);
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.aq.app.model.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+public class CostRankingRequest {
+
+    @NotEmpty(message = "워크로드는 1개 이상이어야 합니다")
+    @Size(max = 1000, message = "워크로드는 한 번에 1000개까지 요청할 수 있습니다")
+    private List<@Valid @NotNull(message = "워크로드는 null일 수 없습니다") CostWorkload> workloads;
+
+    @Min(value = 1, message = "결과 개수는 1 이상이어야 합니다")
+    @Max(value = 100, message = "결과 개수는 100 이하여야 합니다")
+    private Integer limit = 10;
+
+    public int getLimit() {
+        return limit == null ? 10 : limit;
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.aq.app.model.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 워크로드 하나에 대한 모델 비용 순위 (저렴한 순)
+ */
+@Getter
+@NoArgsConstructor
+public class CostRankingResponse {
+    private long inputTokens;
+    private long outputTokens;
+    private long requestCount;
+    private int eligibleModelCount; // 가격 정보가 있고 maxTokens 조건을 만족하는 모델 수
+    private List<ModelCostEstimate> rankings;
+
+    @Builder
+    public CostRankingResponse(long inputTokens, long outputTokens, long requestCount,
+                               int eligibleModelCount, List<ModelCostEstimate> rankings) {
+        this.inputTokens = inputTokens;
+        this.outputTokens = outputTokens;
+        this.requestCount = requestCount;
+        this.eligibleModelCount = eligibleModelCount;
+        this.rankings = rankings;
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.aq.app.model.dto;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 비용 추정 대상 워크로드 (요청 1건당 토큰 수 x 요청 횟수)
+ */
+@Getter
+@NoArgsConstructor
+public class CostWorkload {
+
+    @NotNull(message = "입력 토큰 수는 필수입니다")
+    @Min(value = 0, message = "입력 토큰 수는 0 이상이어야 합니다")
+    private Long inputTokens;
+
+    @NotNull(message = "출력 토큰 수는 필수입니다")
+    @Min(value = 0, message = "출력 토큰 수는 0 이상이어야 합니다")
+    private Long outputTokens;
+
+    @Min(value = 1, message = "요청 횟수는 1 이상이어야 합니다")
+    private Long requestCount = 1L;
+
+    public CostWorkload(Long inputTokens, Long outputTokens, Long requestCount) {
+        this.inputTokens = inputTokens;
+        this.outputTokens = outputTokens;
+        this.requestCount = requestCount;
+    }
+
+    // JSON에서 생략하거나 null로 보내면 1회로 간주
+    public Long getRequestCount() {
+        return requestCount == null ? 1L : requestCount;
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.aq.app.model.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 변경분 동기화 키셋 (updatedAt, id) 프로젝션
+ */
+public interface ModelChangeKey {
+    Long getId();
+
+    LocalDateTime getUpdatedAt();
+}
@@ -0,0 +1,28 @@
+package com.example.aq.app.model.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 커서 이후 변경된 모델 목록
+ * updated는 새로 생성되었거나 수정된 활성 모델, deletedIds는 비활성화된 모델(툼스톤)입니다.
+ */
+@Getter
+@NoArgsConstructor
+public class ModelChangesResponse {
+    private List<ModelResponse> updated;
+    private List<Long> deletedIds;
+    private String nextCursor; // 다음 요청의 since 값 (변경이 없으면 요청한 커서 그대로)
+    private boolean hasMore;
+
+    @Builder
+    public ModelChangesResponse(List<ModelResponse> updated, List<Long> deletedIds, String nextCursor, boolean hasMore) {
+        this.updated = updated;
+        this.deletedIds = deletedIds;
+        this.nextCursor = nextCursor;
+        this.hasMore = hasMore;
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.aq.app.model.dto;
+
+import com.example.aq.app.model.domain.ModelCategory;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 모델 비교표 (열 지향)
+ * 모든 목록은 modelIds와 같은 순서로 정렬되어 있어 같은 인덱스가 같은 모델을 가리킵니다.
+ */
+@Getter
+@NoArgsConstructor
+public class ModelComparisonResponse {
+    private List<Long> modelIds;
+    private List<String> names;
+    private List<String> providers;
+    private List<ModelCategory> categories;
+    private List<BigDecimal> inputPricePerToken;
+    private List<BigDecimal> outputPricePerToken;
+    private List<Integer> maxTokens;
+    private List<Boolean> hasFreeTier;
+    private List<BigDecimal> averageRatings;
+    private List<Integer> reviewCounts;
+    private List<List<Long>> ratingDistributions; // 모델별 [1점, 2점, 3점, 4점, 5점] 리뷰 수
+    private Map<String, List<Boolean>> capabilityMatrix; // 기능 -> 모델별 지원 여부
+
+    @Builder
+    public ModelComparisonResponse(List<Long> modelIds, List<String> names, List<String> providers,
+                                   List<ModelCategory> categories, List<BigDecimal> inputPricePerToken,
+                                   List<BigDecimal> outputPricePerToken, List<Integer> maxTokens,
+                                   List<Boolean> hasFreeTier, List<BigDecimal> averageRatings,
+                                   List<Integer> reviewCounts, List<List<Long>> ratingDistributions,
+                                   Map<String, List<Boolean>> capabilityMatrix) {
+        this.modelIds = modelIds;
+        this.names = names;
+        this.providers = providers;
+        this.categories = categories;
+        this.inputPricePerToken = inputPricePerToken;
+        this.outputPricePerToken = outputPricePerToken;
+        this.maxTokens = maxTokens;
+        this.hasFreeTier = hasFreeTier;
+        this.averageRatings = averageRatings;
+        this.reviewCounts = reviewCounts;
+        this.ratingDistributions = ratingDistributions;
+        this.capabilityMatrix = capabilityMatrix;
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.aq.app.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ModelCostEstimate {
+    private Long modelId;
+    private String name;
+    private String provider;
+    private double estimatedCost;
+}
@@ -0,0 +1,29 @@
+package com.example.aq.app.model.dto;
+
+import com.example.aq.common.dto.PageResponse;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 패싯 필터 결과와, 현재 결과 집합 기준의 패싯별 모델 수
+ */
+@Getter
+@NoArgsConstructor
+public class ModelFacetResponse {
+    private PageResponse<ModelResponse> models;
+    private List<FacetCount> capabilities;
+    private List<FacetCount> categories;
+    private List<FacetCount> providers;
+
+    @Builder
+    public ModelFacetResponse(PageResponse<ModelResponse> models, List<FacetCount> capabilities,
+                              List<FacetCount> categories, List<FacetCount> providers) {
+        this.models = models;
+        this.capabilities = capabilities;
+        this.categories = categories;
+        this.providers = providers;
+    }
+}
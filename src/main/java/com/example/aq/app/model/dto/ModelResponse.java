@@ -8,6 +8,8 @@ import lombok.NoArgsConstructor;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 @Getter
@@ -26,15 +28,18 @@ public class ModelResponse {
     private String apiEndpoint;
     private String documentationUrl;
     private BigDecimal averageRating;
+    private BigDecimal weightedRating;
     private Integer reviewCount;
+    private List<Long> ratingDistribution; // 상세 조회에서만 채워지는 [1점, 2점, 3점, 4점, 5점] 리뷰 수
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 
-    @Builder
+    @Builder(toBuilder = true)
     public ModelResponse(Long id, String name, String provider, String description, ModelCategory category,
                         List<String> capabilities, BigDecimal inputPricePerToken, BigDecimal outputPricePerToken,
                         Integer maxTokens, Boolean hasFreeTier, String apiEndpoint, String documentationUrl,
-                        BigDecimal averageRating, Integer reviewCount, LocalDateTime createdAt, LocalDateTime updatedAt) {
+                        BigDecimal averageRating, BigDecimal weightedRating, Integer reviewCount,
+                        List<Long> ratingDistribution, LocalDateTime createdAt, LocalDateTime updatedAt) {
         this.id = id;
         this.name = name;
         this.provider = provider;
@@ -48,19 +53,25 @@ public class ModelResponse {
         this.apiEndpoint = apiEndpoint;
         this.documentationUrl = documentationUrl;
         this.averageRating = averageRating;
+        this.weightedRating = weightedRating;
         this.reviewCount = reviewCount;
+        this.ratingDistribution = ratingDistribution;
         this.createdAt = createdAt;
         this.updatedAt = updatedAt;
     }
 
     public static ModelResponse of(AIModel model) {
+        return of(model, model.getReviewCount());
+    }
+
+    public static ModelResponse of(AIModel model, Integer reviewCount) {
         return ModelResponse.builder()
                 .id(model.getId())
                 .name(model.getName())
                 .provider(model.getProvider())
                 .description(model.getDescription())
                 .category(model.getCategory())
-                .capabilities(model.getCapabilities())
+                .capabilities(Collections.unmodifiableList(new ArrayList<>(model.getCapabilities())))
                 .inputPricePerToken(model.getInputPricePerToken())
                 .outputPricePerToken(model.getOutputPricePerToken())
                 .maxTokens(model.getMaxTokens())
@@ -68,10 +79,14 @@ public class ModelResponse {
                 .apiEndpoint(model.getApiEndpoint())
                 .documentationUrl(model.getDocumentationUrl())
                 .averageRating(model.getAverageRating())
-                .reviewCount(model.getReviewCount())
+                .weightedRating(model.getWeightedRating())
+                .reviewCount(reviewCount)
                 .createdAt(model.getCreatedAt())
                 .updatedAt(model.getUpdatedAt())
                 .build();
     }
-}
 
+    public ModelResponse withRatingDistribution(List<Long> ratingDistribution) {
+        return toBuilder().ratingDistribution(ratingDistribution).build();
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.aq.app.model.dto;
+
+import com.example.aq.app.model.domain.ModelProposalStatus;
+
+/**
+ * 제안 검색 색인용 프로젝션 (capabilities, user 등 연관 엔티티를 읽지 않음)
+ */
+public interface ProposalSearchDocument {
+    Long getId();
+
+    String getName();
+
+    String getProvider();
+
+    String getDescription();
+
+    ModelProposalStatus getStatus();
+}
@@ -0,0 +1,14 @@
+package com.example.aq.app.model.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * AI 모델 정보(승인, 수정, 리뷰 수/평점 등)가 변경되었음을 알리는 이벤트
+ * 트랜잭션 커밋 이후 모델 카탈로그를 다시 빌드하는 데 사용됩니다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class ModelChangedEvent {
+    private final Long modelId; // null이면 전체 모델 변경
+}
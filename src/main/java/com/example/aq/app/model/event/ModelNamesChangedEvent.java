@@ -0,0 +1,16 @@
+package com.example.aq.app.model.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Set;
+
+/**
+ * 모델 카탈로그에서 이름으로 해석되는 모델이 달라졌음을 알리는 이벤트 (모델 추가/비활성화/이름 변경)
+ * 새 스냅샷이 적용된 뒤 발행되며, 모델명으로 연결된 데이터(레시피 적합 모델 등)를 다시 연결하는 데 사용됩니다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class ModelNamesChangedEvent {
+    private final Set<String> names; // 정규화된 모델명
+}
@@ -0,0 +1,14 @@
+package com.example.aq.app.model.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 모델 제안이 생성되거나 상태(승인/거절)가 변경되었음을 알리는 이벤트
+ * 트랜잭션 커밋 이후 제안 검색 색인을 갱신하는 데 사용됩니다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class ModelProposalChangedEvent {
+    private final Long proposalId;
+}
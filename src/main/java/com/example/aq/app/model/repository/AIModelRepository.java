@@ -1,67 +1,71 @@
 package com.example.aq.app.model.repository;
 
 import com.example.aq.app.model.domain.AIModel;
-import com.example.aq.app.model.domain.ModelCategory;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import com.example.aq.app.model.dto.ModelChangeKey;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface AIModelRepository extends JpaRepository<AIModel, Long> {
-    
+
     @EntityGraph(attributePaths = {"capabilities"})
     Optional<AIModel> findById(Long id);
-    
+
     @EntityGraph(attributePaths = {"capabilities"})
     @Query("SELECT m FROM AIModel m WHERE m.name = :name AND m.provider = :provider")
     Optional<AIModel> findByNameAndProvider(@Param("name") String name, @Param("provider") String provider);
-    
+
     @EntityGraph(attributePaths = {"capabilities"})
     @Query("SELECT m FROM AIModel m WHERE m.active = true")
     List<AIModel> findAllActive();
-    
-    @EntityGraph(attributePaths = {"capabilities"})
-    @Query("SELECT m FROM AIModel m WHERE m.active = true")
-    Page<AIModel> findAllActive(Pageable pageable);
-    
-    @EntityGraph(attributePaths = {"capabilities"})
-    @Query("SELECT m FROM AIModel m WHERE m.active = true AND m.category = :category")
-    Page<AIModel> findByCategory(@Param("category") ModelCategory category, Pageable pageable);
-    
-    @EntityGraph(attributePaths = {"capabilities"})
-    @Query("SELECT m FROM AIModel m WHERE m.active = true AND m.provider = :provider")
-    Page<AIModel> findByProvider(@Param("provider") String provider, Pageable pageable);
-    
-    @EntityGraph(attributePaths = {"capabilities"})
-    @Query("SELECT m FROM AIModel m WHERE m.active = true AND m.hasFreeTier = true")
-    Page<AIModel> findFreeTierModels(Pageable pageable);
-    
-    @EntityGraph(attributePaths = {"capabilities"})
-    @Query("SELECT m FROM AIModel m WHERE m.active = true ORDER BY m.averageRating DESC NULLS LAST")
-    Page<AIModel> findTopRatedModels(Pageable pageable);
-    
-    @EntityGraph(attributePaths = {"capabilities"})
-    @Query("SELECT m FROM AIModel m WHERE m.active = true ORDER BY m.reviewCount DESC")
-    Page<AIModel> findMostReviewedModels(Pageable pageable);
-    
+
+    // ID 목록 조회 후 capabilities와 함께 엔티티 조회
     @EntityGraph(attributePaths = {"capabilities"})
-    @Query("SELECT m FROM AIModel m WHERE m.active = true AND " +
-           "(LOWER(m.name) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
-           "LOWER(m.description) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
-           "LOWER(m.provider) LIKE LOWER(CONCAT('%', :keyword, '%')))")
-    Page<AIModel> searchModels(@Param("keyword") String keyword, Pageable pageable);
-    
+    @Query("SELECT m FROM AIModel m WHERE m.id IN :ids")
+    List<AIModel> findAllWithCapabilitiesByIdIn(@Param("ids") Collection<Long> ids);
+
+    // 변경분 동기화: (updatedAt, id) 키셋으로 커서 이후 변경된 모델의 키 (활성/비활성 모두)
+    @Query("SELECT m.id AS id, m.updatedAt AS updatedAt FROM AIModel m WHERE m.updatedAt <= :until AND " +
+           "(m.updatedAt > :updatedAt OR (m.updatedAt = :updatedAt AND m.id > :id)) " +
+           "ORDER BY m.updatedAt ASC, m.id ASC")
+    List<ModelChangeKey> findChangedKeysAfter(@Param("updatedAt") LocalDateTime updatedAt,
+                                   @Param("id") Long id,
+                                   @Param("until") LocalDateTime until,
+                                   Limit limit);
+
+    // 리뷰 작성/수정/삭제 시 리뷰 수와 평점 합계를 원자적으로 증감 (행 잠금으로 동시 쓰기 간 유실 방지)
+    // updatedAt은 감사(auditing)와 같은 애플리케이션 시계 값을 바인딩 (변경분 커서가 JVM 시각과 비교하므로 DB 시계를 쓰지 않음)
+    @Modifying(flushAutomatically = true)
+    @Query(value = "UPDATE ai_models SET " +
+                   "review_count = GREATEST(review_count + :countDelta, 0), " +
+                   "rating_sum = GREATEST(rating_sum + :sumDelta, 0), " +
+                   "updated_at = :updatedAt " +
+                   "WHERE id = :id", nativeQuery = true)
+    int applyRatingDelta(@Param("id") Long id,
+                         @Param("countDelta") int countDelta,
+                         @Param("sumDelta") long sumDelta,
+                         @Param("updatedAt") LocalDateTime updatedAt);
+
+    // rating_sum, review_count 기준으로 평균/가중 평점 재계산
+    @Modifying
+    @Query(value = "UPDATE ai_models SET " +
+                   "average_rating = CASE WHEN review_count = 0 THEN NULL ELSE ROUND(rating_sum / review_count, 2) END, " +
+                   "weighted_rating = ROUND((:priorWeight * :priorMean + rating_sum) / (:priorWeight + review_count), 4) " +
+                   "WHERE id IN (:ids)", nativeQuery = true)
+    int refreshRatingScores(@Param("ids") Collection<Long> ids,
+                            @Param("priorWeight") double priorWeight,
+                            @Param("priorMean") double priorMean);
+
     @Query("SELECT DISTINCT m.provider FROM AIModel m WHERE m.active = true ORDER BY m.provider")
     List<String> findAllProviders();
-    
-    @EntityGraph(attributePaths = {"capabilities"})
-    @Query("SELECT m FROM AIModel m WHERE m.active = true AND m.capabilities LIKE %:capability%")
-    Page<AIModel> findByCapability(@Param("capability") String capability, Pageable pageable);
 }
@@ -3,6 +3,9 @@ package com.example.aq.app.model.repository;
 import com.example.aq.app.model.domain.ModelProposal;
 import com.example.aq.app.model.domain.ModelProposalStatus;
 import com.example.aq.app.model.domain.ModelCategory;
+import com.example.aq.app.model.dto.ProposalSearchDocument;
+import com.example.aq.common.util.PageUtil;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
@@ -11,52 +14,159 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface ModelProposalRepository extends JpaRepository<ModelProposal, Long> {
-    
+
     @EntityGraph(attributePaths = {"capabilities"})
     Optional<ModelProposal> findById(Long id);
-    
+
     @EntityGraph(attributePaths = {"capabilities"})
     @Query("SELECT p FROM ModelProposal p WHERE p.name = :name AND p.provider = :provider")
     Optional<ModelProposal> findByNameAndProvider(@Param("name") String name, @Param("provider") String provider);
-    
-    @EntityGraph(attributePaths = {"capabilities"})
-    @Query("SELECT p FROM ModelProposal p WHERE p.status = :status")
-    Page<ModelProposal> findByStatus(@Param("status") ModelProposalStatus status, Pageable pageable);
-    
-    @EntityGraph(attributePaths = {"capabilities"})
-    @Query("SELECT p FROM ModelProposal p WHERE p.status = :status ORDER BY p.likeCount DESC")
-    Page<ModelProposal> findByStatusOrderByLikeCountDesc(@Param("status") ModelProposalStatus status, Pageable pageable);
-    
-    @EntityGraph(attributePaths = {"capabilities"})
-    @Query("SELECT p FROM ModelProposal p WHERE p.status = :status ORDER BY p.createdAt DESC")
-    Page<ModelProposal> findByStatusOrderByCreatedAtDesc(@Param("status") ModelProposalStatus status, Pageable pageable);
-    
-    @EntityGraph(attributePaths = {"capabilities"})
-    @Query("SELECT p FROM ModelProposal p WHERE p.status = :status AND p.likeCount >= :minLikeCount ORDER BY p.likeCount DESC")
-    Page<ModelProposal> findPendingWithMinLikeCount(@Param("status") ModelProposalStatus status, 
-                                                      @Param("minLikeCount") Integer minLikeCount, 
-                                                      Pageable pageable);
-    
-    @EntityGraph(attributePaths = {"capabilities"})
-    @Query("SELECT p FROM ModelProposal p WHERE p.status = :status AND " +
-           "(LOWER(p.name) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
-           "LOWER(p.description) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
-           "LOWER(p.provider) LIKE LOWER(CONCAT('%', :keyword, '%')))")
-    Page<ModelProposal> searchByKeyword(@Param("status") ModelProposalStatus status, 
-                                        @Param("keyword") String keyword, 
-                                        Pageable pageable);
-    
-    @EntityGraph(attributePaths = {"capabilities"})
-    @Query("SELECT p FROM ModelProposal p WHERE p.status = :status AND p.category = :category")
-    Page<ModelProposal> findByStatusAndCategory(@Param("status") ModelProposalStatus status, 
-                                                 @Param("category") ModelCategory category, 
-                                                 Pageable pageable);
-    
-    @EntityGraph(attributePaths = {"capabilities"})
-    @Query("SELECT p FROM ModelProposal p WHERE p.user.id = :userId")
-    Page<ModelProposal> findByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    // 2단계 페이지네이션: ID 페이지 조회 후 capabilities, user와 함께 엔티티 조회
+    @EntityGraph(attributePaths = {"capabilities", "user"})
+    @Query("SELECT p FROM ModelProposal p WHERE p.id IN :ids")
+    List<ModelProposal> findAllWithCapabilitiesByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query(value = "SELECT p.id FROM ModelProposal p WHERE p.status = :status",
+           countQuery = "SELECT COUNT(p) FROM ModelProposal p WHERE p.status = :status")
+    Page<Long> findIdsByStatus(@Param("status") ModelProposalStatus status, Pageable pageable);
+
+    default Page<ModelProposal> findByStatus(ModelProposalStatus status, Pageable pageable) {
+        return PageUtil.fetchByIds(findIdsByStatus(status, pageable),
+                this::findAllWithCapabilitiesByIdIn, ModelProposal::getId);
+    }
+
+    @Query(value = "SELECT p.id FROM ModelProposal p WHERE p.status = :status ORDER BY p.likeCount DESC",
+           countQuery = "SELECT COUNT(p) FROM ModelProposal p WHERE p.status = :status")
+    Page<Long> findIdsByStatusOrderByLikeCountDesc(@Param("status") ModelProposalStatus status, Pageable pageable);
+
+    default Page<ModelProposal> findByStatusOrderByLikeCountDesc(ModelProposalStatus status, Pageable pageable) {
+        return PageUtil.fetchByIds(findIdsByStatusOrderByLikeCountDesc(status, pageable),
+                this::findAllWithCapabilitiesByIdIn, ModelProposal::getId);
+    }
+
+    @Query(value = "SELECT p.id FROM ModelProposal p WHERE p.status = :status ORDER BY p.hotScore DESC, p.id DESC",
+           countQuery = "SELECT COUNT(p) FROM ModelProposal p WHERE p.status = :status")
+    Page<Long> findIdsByStatusOrderByHotScoreDesc(@Param("status") ModelProposalStatus status, Pageable pageable);
+
+    default Page<ModelProposal> findByStatusOrderByHotScoreDesc(ModelProposalStatus status, Pageable pageable) {
+        return PageUtil.fetchByIds(findIdsByStatusOrderByHotScoreDesc(status, pageable),
+                this::findAllWithCapabilitiesByIdIn, ModelProposal::getId);
+    }
+
+    @Query(value = "SELECT p.id FROM ModelProposal p WHERE p.status = :status ORDER BY p.createdAt DESC",
+           countQuery = "SELECT COUNT(p) FROM ModelProposal p WHERE p.status = :status")
+    Page<Long> findIdsByStatusOrderByCreatedAtDesc(@Param("status") ModelProposalStatus status, Pageable pageable);
+
+    default Page<ModelProposal> findByStatusOrderByCreatedAtDesc(ModelProposalStatus status, Pageable pageable) {
+        return PageUtil.fetchByIds(findIdsByStatusOrderByCreatedAtDesc(status, pageable),
+                this::findAllWithCapabilitiesByIdIn, ModelProposal::getId);
+    }
+
+    // 키셋(커서) 페이지네이션: (정렬 키, id) 내림차순으로 커서 다음 ID부터 limit개를 조회 (COUNT 쿼리 없음)
+    @Query("SELECT p.id FROM ModelProposal p WHERE p.status = :status AND " +
+           "(p.likeCount < :likeCount OR (p.likeCount = :likeCount AND p.id < :id)) " +
+           "ORDER BY p.likeCount DESC, p.id DESC")
+    List<Long> findIdsByStatusOrderByLikeCountBefore(@Param("status") ModelProposalStatus status,
+                                                     @Param("likeCount") Integer likeCount,
+                                                     @Param("id") Long id, Limit limit);
+
+    default List<ModelProposal> findByStatusOrderByLikeCountBefore(ModelProposalStatus status, Integer likeCount,
+                                                                   Long id, Limit limit) {
+        return PageUtil.fetchByIds(findIdsByStatusOrderByLikeCountBefore(status, likeCount, id, limit),
+                this::findAllWithCapabilitiesByIdIn, ModelProposal::getId);
+    }
+
+    @Query("SELECT p.id FROM ModelProposal p WHERE p.status = :status AND " +
+           "(p.hotScore < :hotScore OR (p.hotScore = :hotScore AND p.id < :id)) " +
+           "ORDER BY p.hotScore DESC, p.id DESC")
+    List<Long> findIdsByStatusOrderByHotScoreBefore(@Param("status") ModelProposalStatus status,
+                                                    @Param("hotScore") Double hotScore,
+                                                    @Param("id") Long id, Limit limit);
+
+    default List<ModelProposal> findByStatusOrderByHotScoreBefore(ModelProposalStatus status, Double hotScore,
+                                                                  Long id, Limit limit) {
+        return PageUtil.fetchByIds(findIdsByStatusOrderByHotScoreBefore(status, hotScore, id, limit),
+                this::findAllWithCapabilitiesByIdIn, ModelProposal::getId);
+    }
+
+    @Query("SELECT p.id FROM ModelProposal p WHERE p.status = :status AND " +
+           "(p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.id < :id)) " +
+           "ORDER BY p.createdAt DESC, p.id DESC")
+    List<Long> findIdsByStatusOrderByCreatedAtBefore(@Param("status") ModelProposalStatus status,
+                                                     @Param("createdAt") LocalDateTime createdAt,
+                                                     @Param("id") Long id, Limit limit);
+
+    default List<ModelProposal> findByStatusOrderByCreatedAtBefore(ModelProposalStatus status, LocalDateTime createdAt,
+                                                                   Long id, Limit limit) {
+        return PageUtil.fetchByIds(findIdsByStatusOrderByCreatedAtBefore(status, createdAt, id, limit),
+                this::findAllWithCapabilitiesByIdIn, ModelProposal::getId);
+    }
+
+    @Query(value = "SELECT p.id FROM ModelProposal p WHERE p.status = :status AND p.likeCount >= :minLikeCount " +
+                   "ORDER BY p.likeCount DESC",
+           countQuery = "SELECT COUNT(p) FROM ModelProposal p WHERE p.status = :status AND p.likeCount >= :minLikeCount")
+    Page<Long> findPendingIdsWithMinLikeCount(@Param("status") ModelProposalStatus status,
+                                              @Param("minLikeCount") Integer minLikeCount,
+                                              Pageable pageable);
+
+    default Page<ModelProposal> findPendingWithMinLikeCount(ModelProposalStatus status, Integer minLikeCount,
+                                                            Pageable pageable) {
+        return PageUtil.fetchByIds(findPendingIdsWithMinLikeCount(status, minLikeCount, pageable),
+                this::findAllWithCapabilitiesByIdIn, ModelProposal::getId);
+    }
+
+    // 검색 색인용 프로젝션
+    @Query("SELECT p.id AS id, p.name AS name, p.provider AS provider, p.description AS description, " +
+           "p.status AS status FROM ModelProposal p WHERE p.status = :status")
+    List<ProposalSearchDocument> findSearchDocumentsByStatus(@Param("status") ModelProposalStatus status);
+
+    @Query("SELECT p.id AS id, p.name AS name, p.provider AS provider, p.description AS description, " +
+           "p.status AS status FROM ModelProposal p WHERE p.id = :id")
+    Optional<ProposalSearchDocument> findSearchDocumentById(@Param("id") Long id);
+
+    @Query(value = "SELECT p.id FROM ModelProposal p WHERE p.status = :status AND " +
+                   "(LOWER(p.name) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
+                   "LOWER(p.description) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
+                   "LOWER(p.provider) LIKE LOWER(CONCAT('%', :keyword, '%')))",
+           countQuery = "SELECT COUNT(p) FROM ModelProposal p WHERE p.status = :status AND " +
+                        "(LOWER(p.name) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
+                        "LOWER(p.description) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
+                        "LOWER(p.provider) LIKE LOWER(CONCAT('%', :keyword, '%')))")
+    Page<Long> searchIdsByKeyword(@Param("status") ModelProposalStatus status,
+                                  @Param("keyword") String keyword,
+                                  Pageable pageable);
+
+    default Page<ModelProposal> searchByKeyword(ModelProposalStatus status, String keyword, Pageable pageable) {
+        return PageUtil.fetchByIds(searchIdsByKeyword(status, keyword, pageable),
+                this::findAllWithCapabilitiesByIdIn, ModelProposal::getId);
+    }
+
+    @Query(value = "SELECT p.id FROM ModelProposal p WHERE p.status = :status AND p.category = :category",
+           countQuery = "SELECT COUNT(p) FROM ModelProposal p WHERE p.status = :status AND p.category = :category")
+    Page<Long> findIdsByStatusAndCategory(@Param("status") ModelProposalStatus status,
+                                          @Param("category") ModelCategory category,
+                                          Pageable pageable);
+
+    default Page<ModelProposal> findByStatusAndCategory(ModelProposalStatus status, ModelCategory category,
+                                                        Pageable pageable) {
+        return PageUtil.fetchByIds(findIdsByStatusAndCategory(status, category, pageable),
+                this::findAllWithCapabilitiesByIdIn, ModelProposal::getId);
+    }
+
+    @Query(value = "SELECT p.id FROM ModelProposal p WHERE p.user.id = :userId",
+           countQuery = "SELECT COUNT(p) FROM ModelProposal p WHERE p.user.id = :userId")
+    Page<Long> findIdsByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    default Page<ModelProposal> findByUserId(Long userId, Pageable pageable) {
+        return PageUtil.fetchByIds(findIdsByUserId(userId, pageable),
+                this::findAllWithCapabilitiesByIdIn, ModelProposal::getId);
+    }
 }
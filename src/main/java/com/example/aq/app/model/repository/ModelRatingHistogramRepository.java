@@ -0,0 +1,41 @@
+package com.example.aq.app.model.repository;
+
+import com.example.aq.app.model.domain.ModelRatingHistogram;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ModelRatingHistogramRepository extends JpaRepository<ModelRatingHistogram, Long> {
+
+    // 행이 없으면 생성하고, 있으면 각 평점 칸을 원자적으로 증감
+    @Modifying(flushAutomatically = true)
+    @Query(value = "INSERT INTO model_rating_histograms " +
+                   "(model_id, star1_count, star2_count, star3_count, star4_count, star5_count) " +
+                   "VALUES (:modelId, GREATEST(:d1, 0), GREATEST(:d2, 0), GREATEST(:d3, 0), GREATEST(:d4, 0), GREATEST(:d5, 0)) " +
+                   "ON DUPLICATE KEY UPDATE " +
+                   "star1_count = GREATEST(star1_count + :d1, 0), " +
+                   "star2_count = GREATEST(star2_count + :d2, 0), " +
+                   "star3_count = GREATEST(star3_count + :d3, 0), " +
+                   "star4_count = GREATEST(star4_count + :d4, 0), " +
+                   "star5_count = GREATEST(star5_count + :d5, 0)", nativeQuery = true)
+    int upsertDelta(@Param("modelId") Long modelId,
+                    @Param("d1") int d1, @Param("d2") int d2, @Param("d3") int d3,
+                    @Param("d4") int d4, @Param("d5") int d5);
+
+    /**
+     * 평점 이동을 반영합니다. removedRating/addedRating이 null이면 해당 방향의 변경은 없습니다.
+     */
+    default void applyRatingChange(Long modelId, Integer removedRating, Integer addedRating) {
+        int[] deltas = new int[5];
+        if (removedRating != null) {
+            deltas[removedRating - 1]--;
+        }
+        if (addedRating != null) {
+            deltas[addedRating - 1]++;
+        }
+        upsertDelta(modelId, deltas[0], deltas[1], deltas[2], deltas[3], deltas[4]);
+    }
+}
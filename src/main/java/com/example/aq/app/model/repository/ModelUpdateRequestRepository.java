@@ -2,6 +2,7 @@ package com.example.aq.app.model.repository;
 
 import com.example.aq.app.model.domain.ModelUpdateRequest;
 import com.example.aq.app.model.domain.UpdateRequestStatus;
+import com.example.aq.common.util.PageUtil;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
@@ -10,29 +11,50 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface ModelUpdateRequestRepository extends JpaRepository<ModelUpdateRequest, Long> {
-    
+
     @EntityGraph(attributePaths = {"capabilities"})
     Optional<ModelUpdateRequest> findById(Long id);
-    
-    @EntityGraph(attributePaths = {"capabilities"})
-    @Query("SELECT r FROM ModelUpdateRequest r WHERE r.status = :status")
-    Page<ModelUpdateRequest> findByStatus(@Param("status") UpdateRequestStatus status, Pageable pageable);
-    
-    @EntityGraph(attributePaths = {"capabilities"})
-    @Query("SELECT r FROM ModelUpdateRequest r WHERE r.model.id = :modelId")
-    Page<ModelUpdateRequest> findByModelId(@Param("modelId") Long modelId, Pageable pageable);
-    
-    @EntityGraph(attributePaths = {"capabilities"})
-    @Query("SELECT r FROM ModelUpdateRequest r WHERE r.user.id = :userId")
-    Page<ModelUpdateRequest> findByUserId(@Param("userId") Long userId, Pageable pageable);
-    
+
+    // 2단계 페이지네이션: ID 페이지 조회 후 capabilities, user, model과 함께 엔티티 조회
+    @EntityGraph(attributePaths = {"capabilities", "user", "model"})
+    @Query("SELECT r FROM ModelUpdateRequest r WHERE r.id IN :ids")
+    List<ModelUpdateRequest> findAllWithCapabilitiesByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query(value = "SELECT r.id FROM ModelUpdateRequest r WHERE r.status = :status",
+           countQuery = "SELECT COUNT(r) FROM ModelUpdateRequest r WHERE r.status = :status")
+    Page<Long> findIdsByStatus(@Param("status") UpdateRequestStatus status, Pageable pageable);
+
+    default Page<ModelUpdateRequest> findByStatus(UpdateRequestStatus status, Pageable pageable) {
+        return PageUtil.fetchByIds(findIdsByStatus(status, pageable),
+                this::findAllWithCapabilitiesByIdIn, ModelUpdateRequest::getId);
+    }
+
+    @Query(value = "SELECT r.id FROM ModelUpdateRequest r WHERE r.model.id = :modelId",
+           countQuery = "SELECT COUNT(r) FROM ModelUpdateRequest r WHERE r.model.id = :modelId")
+    Page<Long> findIdsByModelId(@Param("modelId") Long modelId, Pageable pageable);
+
+    default Page<ModelUpdateRequest> findByModelId(Long modelId, Pageable pageable) {
+        return PageUtil.fetchByIds(findIdsByModelId(modelId, pageable),
+                this::findAllWithCapabilitiesByIdIn, ModelUpdateRequest::getId);
+    }
+
+    @Query(value = "SELECT r.id FROM ModelUpdateRequest r WHERE r.user.id = :userId",
+           countQuery = "SELECT COUNT(r) FROM ModelUpdateRequest r WHERE r.user.id = :userId")
+    Page<Long> findIdsByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    default Page<ModelUpdateRequest> findByUserId(Long userId, Pageable pageable) {
+        return PageUtil.fetchByIds(findIdsByUserId(userId, pageable),
+                this::findAllWithCapabilitiesByIdIn, ModelUpdateRequest::getId);
+    }
+
     @EntityGraph(attributePaths = {"capabilities"})
     @Query("SELECT r FROM ModelUpdateRequest r WHERE r.model.id = :modelId AND r.status = :status")
-    List<ModelUpdateRequest> findByModelIdAndStatus(@Param("modelId") Long modelId, 
+    List<ModelUpdateRequest> findByModelIdAndStatus(@Param("modelId") Long modelId,
                                                      @Param("status") UpdateRequestStatus status);
 }
@@ -0,0 +1,142 @@
+package com.example.aq.app.model.service;
+
+import com.example.aq.app.model.domain.AIModel;
+import com.example.aq.app.model.dto.ModelResponse;
+import com.example.aq.app.model.event.ModelChangedEvent;
+import com.example.aq.app.model.event.ModelNamesChangedEvent;
+import com.example.aq.app.model.repository.AIModelRepository;
+import com.example.aq.app.review.dto.ModelReviewCount;
+import com.example.aq.app.review.repository.ReviewRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 활성 AI 모델의 copy-on-write 인메모리 카탈로그
+ * 모델 테이블은 작고 거의 읽기 전용이므로, 변경 이벤트가 커밋된 뒤 변경된 모델만 다시 읽어 새 스냅샷을 만들고
+ * 참조를 원자적으로 교체합니다. (대상 모델이 없는 이벤트와 시작 시에는 전체를 다시 빌드)
+ * 조회는 DB 왕복 없이 현재 스냅샷에서 처리됩니다.
+ * 교체로 이름별 모델이 달라지면 ModelNamesChangedEvent를 발행합니다.
+ */
+@Component
+@Slf4j
+public class ModelCatalog {
+
+    private final AIModelRepository aiModelRepository;
+    private final ReviewRepository reviewRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate readOnlyTransaction;
+
+    private volatile ModelCatalogSnapshot snapshot;
+
+    public ModelCatalog(AIModelRepository aiModelRepository,
+                        ReviewRepository reviewRepository,
+                        ApplicationEventPublisher eventPublisher,
+                        PlatformTransactionManager transactionManager) {
+        this.aiModelRepository = aiModelRepository;
+        this.reviewRepository = reviewRepository;
+        this.eventPublisher = eventPublisher;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.readOnlyTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    public ModelCatalogSnapshot current() {
+        ModelCatalogSnapshot current = snapshot;
+        if (current == null) {
+            current = refresh();
+        }
+        return current;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        refresh();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onModelChanged(ModelChangedEvent event) {
+        log.debug("모델 변경 이벤트 수신 (modelId={}), 카탈로그를 갱신합니다", event.getModelId());
+        if (event.getModelId() == null) {
+            refresh();
+        } else {
+            refreshModel(event.getModelId());
+        }
+    }
+
+    /**
+     * DB에서 활성 모델과 모델별 리뷰 수를 읽어 새 스냅샷을 만들고 교체합니다.
+     */
+    public synchronized ModelCatalogSnapshot refresh() {
+        ModelCatalogSnapshot rebuilt = readOnlyTransaction.execute(status -> build());
+        replace(rebuilt);
+        log.info("모델 카탈로그가 갱신되었습니다: {}개 모델", rebuilt.getByName().size());
+        return rebuilt;
+    }
+
+    /**
+     * 변경된 모델 하나만 다시 읽어 현재 스냅샷의 해당 항목을 교체한 새 스냅샷을 만듭니다.
+     * 리뷰 작성처럼 잦은 변경에서 전체 모델과 리뷰 테이블을 다시 집계하지 않기 위함입니다. (리뷰 수는 해당 모델만 색인으로 계산)
+     */
+    public synchronized ModelCatalogSnapshot refreshModel(Long modelId) {
+        ModelCatalogSnapshot current = snapshot;
+        if (current == null) {
+            return refresh();
+        }
+
+        Optional<ModelResponse> changed = readOnlyTransaction.execute(status -> aiModelRepository.findById(modelId)
+                .filter(AIModel::getActive)
+                .map(model -> ModelResponse.of(model, (int) reviewRepository.countActiveByModelId(modelId))));
+
+        List<ModelResponse> models = new ArrayList<>(current.getByName().size() + 1);
+        for (ModelResponse model : current.getByName()) {
+            if (!model.getId().equals(modelId)) {
+                models.add(model);
+            }
+        }
+        changed.ifPresent(models::add);
+
+        ModelCatalogSnapshot patched = new ModelCatalogSnapshot(models);
+        replace(patched);
+        return patched;
+    }
+
+    // 스냅샷을 교체하고, 이름으로 해석되는 모델이 달라졌으면 알림 (시작 시 첫 빌드는 제외)
+    private void replace(ModelCatalogSnapshot next) {
+        ModelCatalogSnapshot previous = snapshot;
+        snapshot = next;
+        if (previous != null) {
+            Set<String> changedNames = ModelCatalogSnapshot.changedNames(previous, next);
+            if (!changedNames.isEmpty()) {
+                eventPublisher.publishEvent(new ModelNamesChangedEvent(changedNames));
+            }
+        }
+    }
+
+    private ModelCatalogSnapshot build() {
+        List<AIModel> models = aiModelRepository.findAllActive();
+
+        Map<Long, Long> reviewCounts = reviewRepository.countAllGroupByModel().stream()
+                .collect(Collectors.toMap(ModelReviewCount::getModelId, ModelReviewCount::getReviewCount));
+
+        List<ModelResponse> responses = models.stream()
+                .map(model -> ModelResponse.of(model, reviewCounts.getOrDefault(model.getId(), 0L).intValue()))
+                .toList();
+
+        return new ModelCatalogSnapshot(responses);
+    }
+}
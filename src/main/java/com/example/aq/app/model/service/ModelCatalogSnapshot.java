@@ -0,0 +1,169 @@
+package com.example.aq.app.model.service;
+
+import com.example.aq.app.model.domain.ModelCategory;
+import com.example.aq.app.model.dto.ModelResponse;
+import com.example.aq.common.dto.PageResponse;
+import com.example.aq.common.search.NgramIndex;
+import lombok.Getter;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+import java.math.BigDecimal;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 활성 모델 카탈로그의 불변 스냅샷
+ * 빌드 시점에 정렬/필터된 뷰를 모두 계산해 두고, 조회 시에는 잘라내기(subList)만 수행합니다.
+ */
+@Getter
+public class ModelCatalogSnapshot {
+
+    private static final Comparator<ModelResponse> BY_NAME =
+            Comparator.comparing(ModelResponse::getName, String.CASE_INSENSITIVE_ORDER)
+                    .thenComparing(ModelResponse::getId);
+
+    private final List<ModelResponse> byName;
+    private final List<ModelResponse> byAverageRating;
+    private final List<ModelResponse> byWeightedRating;
+    private final List<ModelResponse> byReviewCount;
+    private final List<ModelResponse> freeTier;
+    private final Map<ModelCategory, List<ModelResponse>> byCategory;
+    private final Map<String, List<ModelResponse>> byProvider; // key: 소문자 제공업체명
+    private final List<String> providers;
+    private final Map<Long, ModelResponse> byId;
+    private final Map<String, List<Long>> idsByName; // key: 정규화된 모델명 (제공업체만 다른 같은 이름의 모델은 모두, ID 오름차순)
+    private final NgramIndex searchIndex;
+    private final ModelFacetIndex facetIndex;
+    private final ModelCostIndex costIndex;
+
+    public ModelCatalogSnapshot(List<ModelResponse> models) {
+        this.byName = models.stream().sorted(BY_NAME).toList();
+
+        this.byAverageRating = byName.stream()
+                .sorted(Comparator.comparing(ModelResponse::getAverageRating,
+                        Comparator.nullsLast(Comparator.<BigDecimal>reverseOrder())))
+                .toList();
+
+        this.byWeightedRating = byName.stream()
+                .sorted(Comparator.comparing(ModelResponse::getWeightedRating,
+                                Comparator.nullsLast(Comparator.<BigDecimal>reverseOrder()))
+                        .thenComparing(ModelResponse::getReviewCount, Comparator.reverseOrder()))
+                .toList();
+
+        this.byReviewCount = byName.stream()
+                .sorted(Comparator.comparing(ModelResponse::getReviewCount).reversed())
+                .toList();
+
+        this.freeTier = byName.stream()
+                .filter(model -> Boolean.TRUE.equals(model.getHasFreeTier()))
+                .toList();
+
+        Map<ModelCategory, List<ModelResponse>> categories = new EnumMap<>(ModelCategory.class);
+        for (ModelResponse model : byName) {
+            categories.computeIfAbsent(model.getCategory(), key -> new ArrayList<>()).add(model);
+        }
+        categories.replaceAll((key, list) -> List.copyOf(list));
+        this.byCategory = Collections.unmodifiableMap(categories);
+
+        Map<String, List<ModelResponse>> providerMap = new HashMap<>();
+        for (ModelResponse model : byName) {
+            providerMap.computeIfAbsent(model.getProvider().toLowerCase(Locale.ROOT), key -> new ArrayList<>())
+                    .add(model);
+        }
+        providerMap.replaceAll((key, list) -> List.copyOf(list));
+        this.byProvider = Map.copyOf(providerMap);
+
+        this.providers = byName.stream()
+                .map(ModelResponse::getProvider)
+                .distinct()
+                .sorted()
+                .toList();
+
+        this.byId = byName.stream()
+                .collect(Collectors.toUnmodifiableMap(ModelResponse::getId, Function.identity()));
+
+        Map<String, List<Long>> names = new HashMap<>();
+        for (ModelResponse model : byName) {
+            names.computeIfAbsent(NgramIndex.normalize(model.getName()), key -> new ArrayList<>()).add(model.getId());
+        }
+        names.replaceAll((key, ids) -> ids.stream().sorted().toList());
+        this.idsByName = Map.copyOf(names);
+
+        // 이름 > 제공업체 > 설명 순으로 가중치를 둔 n-gram 검색 색인 (스냅샷과 함께 교체되므로 이후 변경 없음)
+        this.searchIndex = new NgramIndex(3f, 2f, 1f);
+        for (ModelResponse model : byName) {
+            searchIndex.put(model.getId(), model.getName(), model.getProvider(), model.getDescription());
+        }
+
+        this.facetIndex = new ModelFacetIndex(byName);
+        this.costIndex = new ModelCostIndex(byName);
+    }
+
+    public static ModelCatalogSnapshot empty() {
+        return new ModelCatalogSnapshot(List.of());
+    }
+
+    public Optional<ModelResponse> findById(Long id) {
+        return Optional.ofNullable(byId.get(id));
+    }
+
+    /**
+     * 자유 입력 모델명을 정확히 일치하는(대소문자/공백 정규화 후) 활성 모델의 ID로 해석합니다.
+     * 제공업체만 다른 같은 이름의 모델은 모두 포함하며, 해석되지 않는 이름은 제외합니다.
+     */
+    public Set<Long> resolveIds(Collection<String> modelNames) {
+        Set<Long> ids = new LinkedHashSet<>();
+        if (modelNames != null) {
+            for (String name : modelNames) {
+                ids.addAll(idsByName.getOrDefault(NgramIndex.normalize(name), List.of()));
+            }
+        }
+        return ids;
+    }
+
+    /**
+     * 두 스냅샷 사이에 이름으로 해석되는 모델이 달라진 정규화 모델명 (모델 추가/비활성화/이름 변경)
+     */
+    public static Set<String> changedNames(ModelCatalogSnapshot previous, ModelCatalogSnapshot next) {
+        Set<String> changed = new HashSet<>();
+        previous.idsByName.forEach((name, ids) -> {
+            if (!ids.equals(next.idsByName.get(name))) {
+                changed.add(name);
+            }
+        });
+        for (String name : next.idsByName.keySet()) {
+            if (!previous.idsByName.containsKey(name)) {
+                changed.add(name);
+            }
+        }
+        return changed;
+    }
+
+    public List<ModelResponse> byCategory(ModelCategory category) {
+        return byCategory.getOrDefault(category, List.of());
+    }
+
+    /**
+     * 이름, 제공업체, 설명에 대한 관련도순 검색 결과
+     */
+    public List<ModelResponse> search(String keyword) {
+        return searchIndex.search(keyword).stream()
+                .map(byId::get)
+                .toList();
+    }
+
+    public List<ModelResponse> byProvider(String provider) {
+        return byProvider.getOrDefault(provider.toLowerCase(Locale.ROOT), List.of());
+    }
+
+    /**
+     * 미리 정렬된 뷰에서 요청한 페이지만큼 잘라 PageResponse로 반환합니다.
+     */
+    public static PageResponse<ModelResponse> page(List<ModelResponse> view, Pageable pageable) {
+        int from = (int) Math.min(pageable.getOffset(), view.size());
+        int to = Math.min(from + pageable.getPageSize(), view.size());
+        return PageResponse.of(new PageImpl<>(view.subList(from, to), pageable, view.size()));
+    }
+}
@@ -0,0 +1,92 @@
+package com.example.aq.app.model.service;
+
+import com.example.aq.app.model.dto.CostRankingResponse;
+import com.example.aq.app.model.dto.CostWorkload;
+import com.example.aq.app.model.dto.ModelCostEstimate;
+import com.example.aq.app.model.dto.ModelResponse;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 토큰 가격을 기본형 배열로 펼쳐 둔 비용 계산용 색인
+ * 입력/출력 가격이 모두 있는 모델만 포함하며, 스냅샷과 함께 생성되고 이후 변경되지 않습니다.
+ */
+public class ModelCostIndex {
+
+    private final ModelResponse[] models;
+    private final double[] inputPrices;
+    private final double[] outputPrices;
+    private final long[] maxTokens; // 제한이 없으면 Long.MAX_VALUE
+
+    public ModelCostIndex(List<ModelResponse> catalog) {
+        List<ModelResponse> priced = catalog.stream()
+                .filter(model -> model.getInputPricePerToken() != null && model.getOutputPricePerToken() != null)
+                .toList();
+
+        int size = priced.size();
+        this.models = priced.toArray(new ModelResponse[0]);
+        this.inputPrices = new double[size];
+        this.outputPrices = new double[size];
+        this.maxTokens = new long[size];
+
+        for (int i = 0; i < size; i++) {
+            ModelResponse model = models[i];
+            inputPrices[i] = model.getInputPricePerToken().doubleValue();
+            outputPrices[i] = model.getOutputPricePerToken().doubleValue();
+            maxTokens[i] = model.getMaxTokens() == null ? Long.MAX_VALUE : model.getMaxTokens();
+        }
+    }
+
+    /**
+     * 요청 1건의 입력+출력 토큰이 maxTokens 안에 들어가는 모델만 대상으로, 추정 비용이 낮은 순서의 상위 limit개를 구합니다.
+     * 동일 비용이면 카탈로그 순서(이름순)를 따릅니다.
+     */
+    public CostRankingResponse rank(CostWorkload workload, int limit) {
+        long input = workload.getInputTokens();
+        long output = workload.getOutputTokens();
+        long requests = workload.getRequestCount();
+        long tokensPerRequest = input + output;
+
+        int[] topIndexes = new int[Math.max(limit, 0)];
+        double[] topCosts = new double[topIndexes.length];
+        int topSize = 0;
+        int eligible = 0;
+
+        for (int i = 0; i < models.length; i++) {
+            if (tokensPerRequest > maxTokens[i]) {
+                continue;
+            }
+            eligible++;
+
+            double cost = (input * inputPrices[i] + output * outputPrices[i]) * requests;
+            if (topSize == topIndexes.length && (topSize == 0 || cost >= topCosts[topSize - 1])) {
+                continue;
+            }
+
+            // 정렬된 상위 목록에 삽입 (limit이 작으므로 선형 삽입)
+            int position = topSize == topIndexes.length ? topSize - 1 : topSize++;
+            while (position > 0 && topCosts[position - 1] > cost) {
+                topCosts[position] = topCosts[position - 1];
+                topIndexes[position] = topIndexes[position - 1];
+                position--;
+            }
+            topCosts[position] = cost;
+            topIndexes[position] = i;
+        }
+
+        List<ModelCostEstimate> rankings = new ArrayList<>(topSize);
+        for (int i = 0; i < topSize; i++) {
+            ModelResponse model = models[topIndexes[i]];
+            rankings.add(new ModelCostEstimate(model.getId(), model.getName(), model.getProvider(), topCosts[i]));
+        }
+
+        return CostRankingResponse.builder()
+                .inputTokens(input)
+                .outputTokens(output)
+                .requestCount(requests)
+                .eligibleModelCount(eligible)
+                .rankings(rankings)
+                .build();
+    }
+}
@@ -0,0 +1,169 @@
+package com.example.aq.app.model.service;
+
+import com.example.aq.app.model.domain.FacetMatchMode;
+import com.example.aq.app.model.domain.ModelCategory;
+import com.example.aq.app.model.dto.FacetCount;
+import com.example.aq.app.model.dto.ModelResponse;
+
+import java.util.*;
+
+/**
+ * 기능(capability), 카테고리, 제공업체별 모델 비트셋 색인
+ * 비트 위치는 카탈로그 스냅샷의 이름순 뷰(byName)에서의 순번이며, 스냅샷과 함께 생성되고 이후 변경되지 않습니다.
+ */
+public class ModelFacetIndex {
+
+    private final List<ModelResponse> models;
+    private final Map<String, BitSet> capabilities = new HashMap<>(); // key: 정규화된 기능명
+    private final Map<String, String> capabilityLabels = new HashMap<>();
+    private final Map<ModelCategory, BitSet> categories = new EnumMap<>(ModelCategory.class);
+    private final Map<String, BitSet> providers = new HashMap<>(); // key: 소문자 제공업체명
+    private final Map<String, String> providerLabels = new HashMap<>();
+    private final BitSet all;
+
+    public ModelFacetIndex(List<ModelResponse> models) {
+        this.models = models;
+        this.all = new BitSet(models.size());
+        all.set(0, models.size());
+
+        for (int ordinal = 0; ordinal < models.size(); ordinal++) {
+            ModelResponse model = models.get(ordinal);
+
+            for (String capability : model.getCapabilities()) {
+                String key = normalize(capability);
+                if (key.isEmpty()) {
+                    continue;
+                }
+                capabilities.computeIfAbsent(key, k -> new BitSet()).set(ordinal);
+                capabilityLabels.putIfAbsent(key, capability.trim());
+            }
+
+            if (model.getCategory() != null) {
+                categories.computeIfAbsent(model.getCategory(), k -> new BitSet()).set(ordinal);
+            }
+
+            String providerKey = normalize(model.getProvider());
+            providers.computeIfAbsent(providerKey, k -> new BitSet()).set(ordinal);
+            providerLabels.putIfAbsent(providerKey, model.getProvider());
+        }
+    }
+
+    /**
+     * 기능은 mode에 따라 AND/OR로, 카테고리와 제공업체는 각각 OR로 묶은 뒤 세 조건을 AND로 결합합니다.
+     * 비어 있는 조건은 전체 모델과 일치하는 것으로 취급합니다.
+     */
+    public BitSet filter(Collection<String> capabilityFilter, FacetMatchMode mode,
+                         Collection<ModelCategory> categoryFilter, Collection<String> providerFilter) {
+        BitSet result = (BitSet) all.clone();
+
+        if (capabilityFilter != null && !capabilityFilter.isEmpty()) {
+            result.and(mode == FacetMatchMode.OR ? unionOf(capabilityFilter) : intersectionOf(capabilityFilter));
+        }
+
+        if (categoryFilter != null && !categoryFilter.isEmpty()) {
+            BitSet union = new BitSet();
+            for (ModelCategory category : categoryFilter) {
+                BitSet bits = categories.get(category);
+                if (bits != null) {
+                    union.or(bits);
+                }
+            }
+            result.and(union);
+        }
+
+        if (providerFilter != null && !providerFilter.isEmpty()) {
+            BitSet union = new BitSet();
+            for (String provider : providerFilter) {
+                BitSet bits = providers.get(normalize(provider));
+                if (bits != null) {
+                    union.or(bits);
+                }
+            }
+            result.and(union);
+        }
+
+        return result;
+    }
+
+    public BitSet withCapability(String capability) {
+        return (BitSet) capabilities.getOrDefault(normalize(capability), new BitSet()).clone();
+    }
+
+    /**
+     * 비트셋에 포함된 모델을 이름순으로 반환합니다.
+     */
+    public List<ModelResponse> select(BitSet bits) {
+        List<ModelResponse> selected = new ArrayList<>(bits.cardinality());
+        for (int ordinal = bits.nextSetBit(0); ordinal >= 0; ordinal = bits.nextSetBit(ordinal + 1)) {
+            selected.add(models.get(ordinal));
+        }
+        return selected;
+    }
+
+    public List<FacetCount> capabilityCounts(BitSet result) {
+        return counts(capabilities, capabilityLabels, result);
+    }
+
+    public List<FacetCount> providerCounts(BitSet result) {
+        return counts(providers, providerLabels, result);
+    }
+
+    public List<FacetCount> categoryCounts(BitSet result) {
+        List<FacetCount> counts = new ArrayList<>();
+        categories.forEach((category, bits) -> {
+            int count = intersectionCount(bits, result);
+            if (count > 0) {
+                counts.add(new FacetCount(category.name(), count));
+            }
+        });
+        counts.sort(Comparator.comparingLong(FacetCount::getCount).reversed()
+                .thenComparing(FacetCount::getValue));
+        return counts;
+    }
+
+    private BitSet unionOf(Collection<String> keys) {
+        BitSet union = new BitSet();
+        for (String key : keys) {
+            BitSet bits = capabilities.get(normalize(key));
+            if (bits != null) {
+                union.or(bits);
+            }
+        }
+        return union;
+    }
+
+    private BitSet intersectionOf(Collection<String> keys) {
+        BitSet intersection = (BitSet) all.clone();
+        for (String key : keys) {
+            BitSet bits = capabilities.get(normalize(key));
+            if (bits == null) {
+                return new BitSet();
+            }
+            intersection.and(bits);
+        }
+        return intersection;
+    }
+
+    private static List<FacetCount> counts(Map<String, BitSet> facets, Map<String, String> labels, BitSet result) {
+        List<FacetCount> counts = new ArrayList<>();
+        facets.forEach((key, bits) -> {
+            int count = intersectionCount(bits, result);
+            if (count > 0) {
+                counts.add(new FacetCount(labels.get(key), count));
+            }
+        });
+        counts.sort(Comparator.comparingLong(FacetCount::getCount).reversed()
+                .thenComparing(FacetCount::getValue, String.CASE_INSENSITIVE_ORDER));
+        return counts;
+    }
+
+    private static int intersectionCount(BitSet bits, BitSet result) {
+        BitSet intersection = (BitSet) bits.clone();
+        intersection.and(result);
+        return intersection.cardinality();
+    }
+
+    private static String normalize(String value) {
+        return value == null ? "" : value.trim().toLowerCase(Locale.ROOT);
+    }
+}
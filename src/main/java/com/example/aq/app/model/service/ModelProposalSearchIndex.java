@@ -0,0 +1,74 @@
+package com.example.aq.app.model.service;
+
+import com.example.aq.app.model.domain.ModelProposalStatus;
+import com.example.aq.app.model.dto.ProposalSearchDocument;
+import com.example.aq.app.model.event.ModelProposalChangedEvent;
+import com.example.aq.app.model.repository.ModelProposalRepository;
+import com.example.aq.common.search.NgramIndex;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 대기중인 모델 제안의 n-gram 검색 색인
+ * 시작 시 전체를 적재하고, 제안 생성/승인/거절이 커밋되면 해당 제안만 갱신합니다.
+ */
+@Component
+@Slf4j
+public class ModelProposalSearchIndex {
+
+    private final ModelProposalRepository proposalRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final NgramIndex index = new NgramIndex(3f, 2f, 1f); // 이름, 제공업체, 설명
+
+    public ModelProposalSearchIndex(ModelProposalRepository proposalRepository,
+                                    PlatformTransactionManager transactionManager) {
+        this.proposalRepository = proposalRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.readOnlyTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        List<ProposalSearchDocument> documents = readOnlyTransaction.execute(status ->
+                proposalRepository.findSearchDocumentsByStatus(ModelProposalStatus.PENDING));
+
+        index.clear();
+        documents.forEach(this::put);
+        log.info("모델 제안 검색 색인이 생성되었습니다: {}건", index.size());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onProposalChanged(ModelProposalChangedEvent event) {
+        Long proposalId = event.getProposalId();
+        Optional<ProposalSearchDocument> document = readOnlyTransaction.execute(status ->
+                proposalRepository.findSearchDocumentById(proposalId));
+
+        if (document.isPresent() && document.get().getStatus() == ModelProposalStatus.PENDING) {
+            put(document.get());
+        } else {
+            index.remove(proposalId);
+        }
+    }
+
+    /**
+     * 관련도순으로 정렬된 대기중 제안 ID 목록
+     */
+    public List<Long> search(String keyword) {
+        return index.search(keyword);
+    }
+
+    private void put(ProposalSearchDocument document) {
+        index.put(document.getId(), document.getName(), document.getProvider(), document.getDescription());
+    }
+}
@@ -1,26 +1,38 @@
 package com.example.aq.app.model.service;
 
+import com.example.aq.common.dto.CursorResponse;
+import com.example.aq.common.dto.PopularSort;
+import com.example.aq.common.dto.CursorToken;
 import com.example.aq.common.dto.PageResponse;
 import com.example.aq.common.exception.ResourceNotFoundException;
 import com.example.aq.common.exception.UnauthorizedException;
+import com.example.aq.common.util.PageUtil;
 import com.example.aq.app.interaction.domain.LikeType;
 import com.example.aq.app.interaction.service.InteractionService;
 import com.example.aq.app.model.domain.*;
 import com.example.aq.app.model.dto.*;
+import com.example.aq.app.model.event.ModelChangedEvent;
+import com.example.aq.app.model.event.ModelProposalChangedEvent;
 import com.example.aq.app.model.repository.AIModelRepository;
 import com.example.aq.app.model.repository.ModelProposalRepository;
 import com.example.aq.app.model.repository.ModelUpdateRequestRepository;
+import com.example.aq.app.ranking.domain.HotScoreTarget;
+import com.example.aq.app.ranking.event.RankingSignalChangedEvent;
 import com.example.aq.app.user.domain.User;
 import com.example.aq.app.user.domain.UserRole;
 import com.example.aq.app.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 import java.util.Optional;
 
 @Service
@@ -33,6 +45,9 @@ public class ModelProposalService {
     private final ModelUpdateRequestRepository updateRequestRepository;
     private final UserRepository userRepository;
     private final InteractionService interactionService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ModelProposalSearchIndex proposalSearchIndex;
+    private final ModelRatingPrior ratingPrior;
 
     @Value("${app.model.proposal.auto-approve-threshold:10}")
     private Integer autoApproveThreshold;
@@ -73,15 +88,19 @@ public class ModelProposalService {
 
         proposal = proposalRepository.save(proposal);
         log.info("모델 제안이 생성되었습니다: {} by user {}", proposal.getId(), userId);
+        eventPublisher.publishEvent(new ModelProposalChangedEvent(proposal.getId()));
+        eventPublisher.publishEvent(new RankingSignalChangedEvent(HotScoreTarget.PROPOSAL, List.of(proposal.getId())));
 
         return ModelProposalResponse.of(proposal, false);
     }
 
     // 모델 제안 목록 조회 (대기중인 제안들)
     @Transactional(readOnly = true)
-    public PageResponse<ModelProposalResponse> getPendingProposals(Pageable pageable, Long currentUserId) {
-        Page<ModelProposal> proposals = proposalRepository.findByStatusOrderByLikeCountDesc(
-                ModelProposalStatus.PENDING, pageable);
+    public PageResponse<ModelProposalResponse> getPendingProposals(PopularSort sort, Pageable pageable,
+                                                                   Long currentUserId) {
+        Page<ModelProposal> proposals = sort == PopularSort.HOT
+                ? proposalRepository.findByStatusOrderByHotScoreDesc(ModelProposalStatus.PENDING, pageable)
+                : proposalRepository.findByStatusOrderByLikeCountDesc(ModelProposalStatus.PENDING, pageable);
 
         proposals.getContent().forEach(proposal -> {
             proposal.getCapabilities().size(); // 컬렉션 초기화
@@ -117,6 +136,52 @@ public class ModelProposalService {
         return PageResponse.of(response);
     }
 
+    // 대기중인 제안 피드 (커서, 추천수순)
+    @Transactional(readOnly = true)
+    public CursorResponse<ModelProposalResponse> getPendingProposalFeed(PopularSort sort, String cursor, int size,
+                                                                        Long currentUserId) {
+        CursorResponse.validateSize(size);
+        CursorToken token = CursorToken.decodeOrDescendingStart(cursor);
+
+        if (sort == PopularSort.HOT) {
+            List<ModelProposal> proposals = proposalRepository.findByStatusOrderByHotScoreBefore(
+                    ModelProposalStatus.PENDING, token.sortKeyAsDouble(), token.getId(), Limit.of(size + 1));
+            return CursorResponse.of(proposals, size,
+                    proposal -> CursorToken.of(proposal.getHotScore(), proposal.getId()),
+                    page -> toProposalResponses(page, currentUserId));
+        }
+
+        List<ModelProposal> proposals = proposalRepository.findByStatusOrderByLikeCountBefore(
+                ModelProposalStatus.PENDING, token.sortKeyAsInt(), token.getId(), Limit.of(size + 1));
+
+        return CursorResponse.of(proposals, size,
+                proposal -> CursorToken.of(proposal.getLikeCount(), proposal.getId()),
+                page -> toProposalResponses(page, currentUserId));
+    }
+
+    // 승인된 제안 피드 (커서, 최신순)
+    @Transactional(readOnly = true)
+    public CursorResponse<ModelProposalResponse> getApprovedProposalFeed(String cursor, int size, Long currentUserId) {
+        CursorResponse.validateSize(size);
+        CursorToken token = CursorToken.decodeOrDescendingStart(cursor);
+        List<ModelProposal> proposals = proposalRepository.findByStatusOrderByCreatedAtBefore(
+                ModelProposalStatus.APPROVED, token.sortKeyAsDateTime(), token.getId(), Limit.of(size + 1));
+
+        return CursorResponse.of(proposals, size,
+                proposal -> CursorToken.of(proposal.getCreatedAt(), proposal.getId()),
+                page -> toProposalResponses(page, currentUserId));
+    }
+
+    private List<ModelProposalResponse> toProposalResponses(List<ModelProposal> proposals, Long currentUserId) {
+        return proposals.stream()
+                .map(proposal -> {
+                    Boolean isLiked = currentUserId != null &&
+                            interactionService.isLiked(currentUserId, proposal.getId(), LikeType.PROPOSAL);
+                    return ModelProposalResponse.of(proposal, isLiked);
+                })
+                .toList();
+    }
+
     // 추천수 많은 제안 조회
     @Transactional(readOnly = true)
     public PageResponse<ModelProposalResponse> getTopProposals(Pageable pageable, Long currentUserId) {
@@ -224,6 +289,8 @@ public class ModelProposalService {
                 .build();
 
         model = modelRepository.save(model);
+        // 리뷰가 없는 새 모델의 가중 평점은 사전 평균(priorMean)으로 시작
+        modelRepository.refreshRatingScores(List.of(model.getId()), ratingPrior.getPriorWeight(), ratingPrior.getPriorMean());
 
         // 제안 승인 처리
         proposal.approve(adminId);
@@ -231,6 +298,8 @@ public class ModelProposalService {
         proposal = proposalRepository.save(proposal);
 
         log.info("모델 제안이 승인되었습니다: {} -> AIModel {}", proposalId, model.getId());
+        eventPublisher.publishEvent(new ModelChangedEvent(model.getId()));
+        eventPublisher.publishEvent(new ModelProposalChangedEvent(proposalId));
 
         Boolean isLiked = interactionService.isLiked(adminId, proposalId, LikeType.PROPOSAL);
         return ModelProposalResponse.of(proposal, isLiked);
@@ -261,6 +330,7 @@ public class ModelProposalService {
         proposal = proposalRepository.save(proposal);
 
         log.info("모델 제안이 거절되었습니다: {} - 이유: {}", proposalId, reason);
+        eventPublisher.publishEvent(new ModelProposalChangedEvent(proposalId));
 
         Boolean isLiked = interactionService.isLiked(adminId, proposalId, LikeType.PROPOSAL);
         return ModelProposalResponse.of(proposal, isLiked);
@@ -346,6 +416,7 @@ public class ModelProposalService {
             );
             modelRepository.save(model);
             log.info("모델 수정 요청이 승인되었습니다: {} -> Model {}", requestId, model.getId());
+            eventPublisher.publishEvent(new ModelChangedEvent(model.getId()));
         } else {
             updateRequest.reject(adminId);
             log.info("모델 수정 요청이 거절되었습니다: {}", requestId);
@@ -355,11 +426,16 @@ public class ModelProposalService {
         return ModelUpdateRequestResponse.of(updateRequest);
     }
 
-    // 검색
+    // 검색 (n-gram 색인에서 관련도순 ID를 구한 뒤 해당 페이지만 조회)
     @Transactional(readOnly = true)
     public PageResponse<ModelProposalResponse> searchProposals(String keyword, Pageable pageable, Long currentUserId) {
-        Page<ModelProposal> proposals = proposalRepository.searchByKeyword(
-                ModelProposalStatus.PENDING, keyword, pageable);
+        List<Long> rankedIds = proposalSearchIndex.search(keyword);
+        int from = (int) Math.min(pageable.getOffset(), rankedIds.size());
+        int to = Math.min(from + pageable.getPageSize(), rankedIds.size());
+        Page<Long> idPage = new PageImpl<>(rankedIds.subList(from, to), pageable, rankedIds.size());
+
+        Page<ModelProposal> proposals = PageUtil.fetchByIds(idPage,
+                proposalRepository::findAllWithCapabilitiesByIdIn, ModelProposal::getId);
 
         // capabilities 컬렉션을 미리 초기화하여 LazyInitializationException 방지
         proposals.getContent().forEach(proposal -> {
@@ -0,0 +1,98 @@
+package com.example.aq.app.model.service;
+
+import com.example.aq.app.model.repository.AIModelRepository;
+import com.example.aq.app.ranking.domain.RankingSettings;
+import com.example.aq.app.ranking.repository.RankingSettingsRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * 평점 합계(rating_sum)와 가중 평점(weighted_rating)이 채워지지 않은 모델을 시작 시 한 번 보정합니다.
+ * 리뷰가 있는데 합계가 0인 행(컬럼 추가 직후)은 활성 리뷰에서 합계를 다시 구하고, 가중 평점이 없는 행은 함께 재계산합니다.
+ * 사전 분포(priorWeight/priorMean) 설정이 마지막 전체 재계산 때와 다르면(최초 포함) 모든 모델의 가중 평점을 다시 계산합니다.
+ * 웹 서버가 요청을 받기 전(싱글톤 초기화 직후)에 실행되므로, 리뷰 작성의 증분 갱신이 보정 전 값에 더해지지 않습니다.
+ */
+@Component
+@Slf4j
+public class ModelRatingBackfill implements SmartInitializingSingleton {
+
+    private static final String FIND_TARGETS_SQL =
+            "SELECT id FROM ai_models WHERE (rating_sum = 0 AND review_count > 0) OR weighted_rating IS NULL";
+
+    private static final String FIND_ALL_IDS_SQL = "SELECT id FROM ai_models";
+    private static final int IN_CHUNK_SIZE = 1000;
+    private static final String SETTINGS_NAME = "model_rating_prior";
+
+    private static final String BACKFILL_SUM_SQL = "UPDATE ai_models m SET rating_sum = " +
+            "(SELECT COALESCE(SUM(r.rating), 0) FROM reviews r WHERE r.model_id = m.id AND r.active = true) " +
+            "WHERE m.rating_sum = 0 AND m.review_count > 0";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final AIModelRepository aiModelRepository;
+    private final ModelRatingPrior ratingPrior;
+    private final RankingSettingsRepository settingsRepository;
+    private final TransactionTemplate writeTransaction;
+
+    public ModelRatingBackfill(JdbcTemplate jdbcTemplate,
+                               AIModelRepository aiModelRepository,
+                               ModelRatingPrior ratingPrior,
+                               RankingSettingsRepository settingsRepository,
+                               PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.aiModelRepository = aiModelRepository;
+        this.ratingPrior = ratingPrior;
+        this.settingsRepository = settingsRepository;
+        this.writeTransaction = new TransactionTemplate(transactionManager);
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        Integer backfilled = writeTransaction.execute(status -> {
+            List<Long> modelIds = jdbcTemplate.queryForList(FIND_TARGETS_SQL, Long.class);
+            if (modelIds.isEmpty()) {
+                return 0;
+            }
+            jdbcTemplate.update(BACKFILL_SUM_SQL);
+            aiModelRepository.refreshRatingScores(modelIds, ratingPrior.getPriorWeight(), ratingPrior.getPriorMean());
+            return modelIds.size();
+        });
+
+        if (backfilled != null && backfilled > 0) {
+            log.info("모델 평점 합계/가중 평점을 보정했습니다: {}개 모델", backfilled);
+        }
+
+        refreshAllIfPriorChanged();
+    }
+
+    /**
+     * 가중 평점은 저장 시점의 사전 분포로 계산되어 있으므로, 설정이 바뀌면 모든 모델을 다시 계산하고 사용한 설정을 저장합니다.
+     * 설정이 같으면 리뷰 작성/수정/삭제 시 증분 갱신으로 이미 최신이므로 건너뜁니다.
+     */
+    private void refreshAllIfPriorChanged() {
+        String settings = "priorWeight=" + ratingPrior.getPriorWeight() + ",priorMean=" + ratingPrior.getPriorMean();
+        Integer refreshed = writeTransaction.execute(status -> {
+            if (settingsRepository.isCurrent(SETTINGS_NAME, settings)) {
+                return null;
+            }
+            List<Long> modelIds = jdbcTemplate.queryForList(FIND_ALL_IDS_SQL, Long.class);
+            for (int from = 0; from < modelIds.size(); from += IN_CHUNK_SIZE) {
+                List<Long> chunk = modelIds.subList(from, Math.min(from + IN_CHUNK_SIZE, modelIds.size()));
+                aiModelRepository.refreshRatingScores(chunk, ratingPrior.getPriorWeight(), ratingPrior.getPriorMean());
+            }
+            settingsRepository.save(new RankingSettings(SETTINGS_NAME, settings));
+            return modelIds.size();
+        });
+
+        if (refreshed == null) {
+            log.debug("모델 평점 사전 분포 설정이 변경되지 않아 가중 평점 재계산을 건너뜁니다: {}", settings);
+        } else {
+            log.info("모델 평점 사전 분포 설정이 변경되어 가중 평점을 다시 계산했습니다: {}개 모델 ({})", refreshed, settings);
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.aq.app.model.service;
+
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 베이지안 가중 평점의 사전 분포 설정
+ * 가중 평점 = (priorWeight * priorMean + ratingSum) / (priorWeight + reviewCount)
+ * 리뷰가 적은 모델은 priorMean 쪽으로 당겨지므로, 리뷰 1개짜리 5점 모델이 리뷰 500개짜리 4.8점 모델을 앞서지 않습니다.
+ */
+@Component
+@Getter
+public class ModelRatingPrior {
+
+    @Value("${app.model.rating.prior-weight:5}")
+    private double priorWeight;
+
+    @Value("${app.model.rating.prior-mean:3.5}")
+    private double priorMean;
+}
@@ -1,20 +1,38 @@
 package com.example.aq.app.model.service;
 
+import com.example.aq.app.counter.domain.CounterFamily;
+import com.example.aq.app.counter.service.CounterReconciliationService;
+import com.example.aq.common.dto.CursorToken;
 import com.example.aq.common.dto.PageResponse;
 import com.example.aq.common.exception.ResourceNotFoundException;
 import com.example.aq.app.model.domain.AIModel;
+import com.example.aq.app.model.domain.FacetMatchMode;
 import com.example.aq.app.model.domain.ModelCategory;
+import com.example.aq.app.model.domain.ModelRatingHistogram;
+import com.example.aq.app.model.domain.RatingMode;
+import com.example.aq.app.model.dto.CostRankingResponse;
+import com.example.aq.app.model.dto.CostWorkload;
+import com.example.aq.app.model.dto.ModelChangeKey;
+import com.example.aq.app.model.dto.ModelChangesResponse;
+import com.example.aq.app.model.dto.ModelComparisonResponse;
+import com.example.aq.app.model.dto.ModelFacetResponse;
 import com.example.aq.app.model.dto.ModelResponse;
+import com.example.aq.app.model.event.ModelChangedEvent;
 import com.example.aq.app.model.repository.AIModelRepository;
+import com.example.aq.app.model.repository.ModelRatingHistogramRepository;
 import com.example.aq.app.review.repository.ReviewRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
+import java.time.LocalDateTime;
+import java.util.*;
 
 @Service
 @RequiredArgsConstructor
@@ -24,96 +42,224 @@ public class ModelService {
 
     private final AIModelRepository aiModelRepository;
     private final ReviewRepository reviewRepository;
+    private final ModelRatingHistogramRepository histogramRepository;
+    private final ModelCatalog modelCatalog;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CounterReconciliationService counterReconciliationService;
+    private final ModelRatingPrior ratingPrior;
 
-    /**
-     * 모델을 ModelResponse로 변환하면서 실제 리뷰 개수를 계산합니다.
-     */
-    private ModelResponse toModelResponseWithActualReviewCount(AIModel model) {
-        // Lazy 컬렉션 초기화
-        model.getCapabilities().size();
-        
-        // 실제 활성화된 리뷰 개수 계산
-        Long actualReviewCount = reviewRepository.countByModel(model);
-        
-        // 실제 개수와 저장된 개수가 다르면 로그 출력
-        if (!actualReviewCount.equals(model.getReviewCount().longValue())) {
-            log.debug("모델 {}의 reviewCount 불일치: DB={}, 실제={}", 
-                    model.getId(), model.getReviewCount(), actualReviewCount);
-        }
-        
-        return ModelResponse.builder()
-                .id(model.getId())
-                .name(model.getName())
-                .provider(model.getProvider())
-                .description(model.getDescription())
-                .category(model.getCategory())
-                .capabilities(model.getCapabilities())
-                .inputPricePerToken(model.getInputPricePerToken())
-                .outputPricePerToken(model.getOutputPricePerToken())
-                .maxTokens(model.getMaxTokens())
-                .hasFreeTier(model.getHasFreeTier())
-                .apiEndpoint(model.getApiEndpoint())
-                .documentationUrl(model.getDocumentationUrl())
-                .averageRating(model.getAverageRating())
-                .reviewCount(actualReviewCount.intValue())
-                .createdAt(model.getCreatedAt())
-                .updatedAt(model.getUpdatedAt())
-                .build();
-    }
+    private static final int MAX_CHANGES_LIMIT = 500;
+    private static final LocalDateTime CHANGES_EPOCH = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    @Value("${app.model.changes.settle-seconds:5}")
+    private long changesSettleSeconds;
 
+    @Value("${app.model.compare.max-models:10}")
+    private int maxCompareModels;
+
+    // 아래 목록/필터/제공업체 조회는 인메모리 카탈로그에서 처리하므로 트랜잭션(커넥션)을 열지 않습니다.
+    @Transactional(propagation = Propagation.SUPPORTS)
     public PageResponse<ModelResponse> getModels(Pageable pageable) {
-        Page<AIModel> models = aiModelRepository.findAllActive(pageable);
-        return PageResponse.of(models.map(this::toModelResponseWithActualReviewCount));
+        ModelCatalogSnapshot catalog = modelCatalog.current();
+        return ModelCatalogSnapshot.page(catalog.getByName(), pageable);
     }
 
-    public PageResponse<ModelResponse> getTopRatedModels(Pageable pageable) {
-        Page<AIModel> models = aiModelRepository.findTopRatedModels(pageable);
-        return PageResponse.of(models.map(this::toModelResponseWithActualReviewCount));
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public PageResponse<ModelResponse> getTopRatedModels(RatingMode mode, Pageable pageable) {
+        ModelCatalogSnapshot catalog = modelCatalog.current();
+        List<ModelResponse> view = mode == RatingMode.WEIGHTED ? catalog.getByWeightedRating() : catalog.getByAverageRating();
+        return ModelCatalogSnapshot.page(view, pageable);
     }
 
+    @Transactional(propagation = Propagation.SUPPORTS)
     public PageResponse<ModelResponse> getMostReviewedModels(Pageable pageable) {
-        Page<AIModel> models = aiModelRepository.findMostReviewedModels(pageable);
-        return PageResponse.of(models.map(this::toModelResponseWithActualReviewCount));
+        ModelCatalogSnapshot catalog = modelCatalog.current();
+        return ModelCatalogSnapshot.page(catalog.getByReviewCount(), pageable);
     }
 
+    @Transactional(propagation = Propagation.SUPPORTS)
     public PageResponse<ModelResponse> getFreeTierModels(Pageable pageable) {
-        Page<AIModel> models = aiModelRepository.findFreeTierModels(pageable);
-        return PageResponse.of(models.map(this::toModelResponseWithActualReviewCount));
+        ModelCatalogSnapshot catalog = modelCatalog.current();
+        return ModelCatalogSnapshot.page(catalog.getFreeTier(), pageable);
     }
 
+    @Transactional(propagation = Propagation.SUPPORTS)
     public PageResponse<ModelResponse> searchModels(String keyword, Pageable pageable) {
-        Page<AIModel> models = aiModelRepository.searchModels(keyword, pageable);
-        return PageResponse.of(models.map(this::toModelResponseWithActualReviewCount));
+        ModelCatalogSnapshot catalog = modelCatalog.current();
+        return ModelCatalogSnapshot.page(catalog.search(keyword), pageable);
     }
 
+    @Transactional(propagation = Propagation.SUPPORTS)
     public PageResponse<ModelResponse> getModelsByCategory(ModelCategory category, Pageable pageable) {
-        Page<AIModel> models = aiModelRepository.findByCategory(category, pageable);
-        return PageResponse.of(models.map(this::toModelResponseWithActualReviewCount));
+        ModelCatalogSnapshot catalog = modelCatalog.current();
+        return ModelCatalogSnapshot.page(catalog.byCategory(category), pageable);
     }
 
+    @Transactional(propagation = Propagation.SUPPORTS)
     public PageResponse<ModelResponse> getModelsByProvider(String provider, Pageable pageable) {
-        Page<AIModel> models = aiModelRepository.findByProvider(provider, pageable);
-        return PageResponse.of(models.map(this::toModelResponseWithActualReviewCount));
+        ModelCatalogSnapshot catalog = modelCatalog.current();
+        return ModelCatalogSnapshot.page(catalog.byProvider(provider), pageable);
     }
 
+    // 기능명은 대소문자만 무시하고 정확히 일치해야 합니다 (부분 문자열 일치 아님)
+    @Transactional(propagation = Propagation.SUPPORTS)
     public PageResponse<ModelResponse> getModelsByCapability(String capability, Pageable pageable) {
-        Page<AIModel> models = aiModelRepository.findByCapability(capability, pageable);
-        return PageResponse.of(models.map(this::toModelResponseWithActualReviewCount));
+        ModelFacetIndex facets = modelCatalog.current().getFacetIndex();
+        return ModelCatalogSnapshot.page(facets.select(facets.withCapability(capability)), pageable);
+    }
+
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public ModelFacetResponse getModelFacets(List<String> capabilities, FacetMatchMode capabilityMode,
+                                             List<ModelCategory> categories, List<String> providers,
+                                             Pageable pageable) {
+        ModelFacetIndex facets = modelCatalog.current().getFacetIndex();
+        BitSet result = facets.filter(capabilities, capabilityMode, categories, providers);
+
+        return ModelFacetResponse.builder()
+                .models(ModelCatalogSnapshot.page(facets.select(result), pageable))
+                .capabilities(facets.capabilityCounts(result))
+                .categories(facets.categoryCounts(result))
+                .providers(facets.providerCounts(result))
+                .build();
     }
 
     public ModelResponse getModel(Long id) {
-        AIModel model = aiModelRepository.findById(id)
+        // 카탈로그에는 활성 모델만 존재합니다
+        ModelResponse model = modelCatalog.current().findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("AI 모델", "id", id));
-        
-        if (!model.getActive()) {
-            throw new ResourceNotFoundException("AI 모델", "id", id);
+
+        List<Long> distribution = histogramRepository.findById(id)
+                .map(ModelRatingHistogram::toDistribution)
+                .orElseGet(ModelRatingHistogram::emptyDistribution);
+        return model.withRatingDistribution(distribution);
+    }
+
+    /**
+     * since 커서 이후 생성/수정/비활성화된 모델을 (updatedAt, id) 순으로 반환합니다.
+     * 진행 중인 트랜잭션이 더 이른 updatedAt으로 늦게 커밋되는 경우를 피하기 위해 최근 몇 초간의 변경은 다음 요청으로 미룹니다.
+     */
+    public ModelChangesResponse getModelChanges(String since, int limit) {
+        if (limit < 1 || limit > MAX_CHANGES_LIMIT) {
+            throw new IllegalArgumentException("조회 개수는 1~" + MAX_CHANGES_LIMIT + "이어야 합니다");
         }
-        
-        return toModelResponseWithActualReviewCount(model);
+
+        CursorToken cursor = since == null || since.isBlank()
+                ? CursorToken.of(CHANGES_EPOCH, 0L)
+                : CursorToken.decode(since);
+        LocalDateTime until = LocalDateTime.now().minusSeconds(changesSettleSeconds);
+
+        List<ModelChangeKey> changedKeys = aiModelRepository.findChangedKeysAfter(
+                cursor.sortKeyAsDateTime(), cursor.getId(), until, Limit.of(limit + 1));
+        boolean hasMore = changedKeys.size() > limit;
+        if (hasMore) {
+            changedKeys = changedKeys.subList(0, limit);
+        }
+        if (changedKeys.isEmpty()) {
+            return ModelChangesResponse.builder()
+                    .updated(List.of())
+                    .deletedIds(List.of())
+                    .nextCursor(cursor.encode())
+                    .hasMore(false)
+                    .build();
+        }
+
+        List<Long> changedIds = changedKeys.stream().map(ModelChangeKey::getId).toList();
+        Map<Long, AIModel> models = new HashMap<>();
+        aiModelRepository.findAllWithCapabilitiesByIdIn(changedIds).forEach(model -> models.put(model.getId(), model));
+
+        List<Long> activeIds = changedIds.stream()
+                .filter(id -> Boolean.TRUE.equals(models.get(id).getActive()))
+                .toList();
+        Map<Long, Integer> reviewCounts = new HashMap<>();
+        if (!activeIds.isEmpty()) {
+            reviewRepository.countByModelIds(activeIds)
+                    .forEach(row -> reviewCounts.put(row.getModelId(), row.getReviewCount().intValue()));
+        }
+
+        List<ModelResponse> updated = new ArrayList<>();
+        List<Long> deletedIds = new ArrayList<>();
+        for (Long id : changedIds) {
+            AIModel model = models.get(id);
+            if (Boolean.TRUE.equals(model.getActive())) {
+                updated.add(ModelResponse.of(model, reviewCounts.getOrDefault(id, 0)));
+            } else {
+                deletedIds.add(id);
+            }
+        }
+
+        // 커서는 키셋을 조회한 시점의 값으로 만듦 (엔티티를 다시 읽는 사이 수정된 모델의 새 updatedAt으로 건너뛰지 않도록)
+        ModelChangeKey last = changedKeys.get(changedKeys.size() - 1);
+        return ModelChangesResponse.builder()
+                .updated(updated)
+                .deletedIds(deletedIds)
+                .nextCursor(CursorToken.of(last.getUpdatedAt(), last.getId()).encode())
+                .hasMore(hasMore)
+                .build();
+    }
+
+    // 워크로드별 추정 비용이 낮은 모델 순위 (가격 정보가 없는 모델은 제외)
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public List<CostRankingResponse> rankModelsByCost(List<CostWorkload> workloads, int limit) {
+        ModelCostIndex costIndex = modelCatalog.current().getCostIndex();
+        return workloads.stream()
+                .map(workload -> costIndex.rank(workload, limit))
+                .toList();
+    }
+
+    /**
+     * 여러 모델을 한 번에 비교합니다.
+     * 모델 정보는 카탈로그에서, 평점 분포는 평점 분포 테이블의 PK 일괄 조회 한 번으로 가져옵니다.
+     */
+    public ModelComparisonResponse compareModels(List<Long> ids) {
+        List<Long> modelIds = ids.stream().distinct().toList();
+        if (modelIds.isEmpty()) {
+            throw new IllegalArgumentException("비교할 모델 ID를 입력해주세요");
+        }
+        if (modelIds.size() > maxCompareModels) {
+            throw new IllegalArgumentException("한 번에 최대 " + maxCompareModels + "개 모델까지 비교할 수 있습니다");
+        }
+
+        ModelCatalogSnapshot catalog = modelCatalog.current();
+        List<ModelResponse> models = modelIds.stream()
+                .map(id -> catalog.findById(id)
+                        .orElseThrow(() -> new ResourceNotFoundException("AI 모델", "id", id)))
+                .toList();
+
+        Map<Long, List<Long>> distributions = new HashMap<>();
+        histogramRepository.findAllById(modelIds)
+                .forEach(histogram -> distributions.put(histogram.getModelId(), histogram.toDistribution()));
+
+        // 기능명은 처음 등장한 표기를 사용하고, 대소문자만 다른 기능은 하나로 합칩니다
+        Map<String, String> capabilityLabels = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        models.forEach(model -> model.getCapabilities()
+                .forEach(capability -> capabilityLabels.putIfAbsent(capability, capability)));
+
+        Map<String, List<Boolean>> capabilityMatrix = new LinkedHashMap<>();
+        capabilityLabels.values().forEach(capability -> capabilityMatrix.put(capability, models.stream()
+                .map(model -> model.getCapabilities().stream().anyMatch(capability::equalsIgnoreCase))
+                .toList()));
+
+        return ModelComparisonResponse.builder()
+                .modelIds(modelIds)
+                .names(models.stream().map(ModelResponse::getName).toList())
+                .providers(models.stream().map(ModelResponse::getProvider).toList())
+                .categories(models.stream().map(ModelResponse::getCategory).toList())
+                .inputPricePerToken(models.stream().map(ModelResponse::getInputPricePerToken).toList())
+                .outputPricePerToken(models.stream().map(ModelResponse::getOutputPricePerToken).toList())
+                .maxTokens(models.stream().map(ModelResponse::getMaxTokens).toList())
+                .hasFreeTier(models.stream().map(ModelResponse::getHasFreeTier).toList())
+                .averageRatings(models.stream().map(ModelResponse::getAverageRating).toList())
+                .reviewCounts(models.stream().map(ModelResponse::getReviewCount).toList())
+                .ratingDistributions(modelIds.stream()
+                        .map(id -> distributions.getOrDefault(id, ModelRatingHistogram.emptyDistribution()))
+                        .toList())
+                .capabilityMatrix(capabilityMatrix)
+                .build();
     }
 
+    @Transactional(propagation = Propagation.SUPPORTS)
     public List<String> getAllProviders() {
-        return aiModelRepository.findAllProviders();
+        return modelCatalog.current().getProviders();
     }
 
     /**
@@ -130,33 +276,20 @@ public class ModelService {
             log.info("모델 {}의 reviewCount 동기화: {} -> {}", 
                     modelId, model.getReviewCount(), actualReviewCount);
             
-            model.setReviewCount(actualReviewCount.intValue());
-            aiModelRepository.save(model);
+            // review_count는 엔티티 저장으로 갱신되지 않으므로 차이만큼 SQL로 조정한 뒤 평균/가중 평점을 다시 계산
+            int countDelta = actualReviewCount.intValue() - model.getReviewCount();
+            aiModelRepository.applyRatingDelta(modelId, countDelta, 0, LocalDateTime.now());
+            aiModelRepository.refreshRatingScores(List.of(modelId), ratingPrior.getPriorWeight(), ratingPrior.getPriorMean());
+            eventPublisher.publishEvent(new ModelChangedEvent(modelId));
         }
     }
 
     /**
      * 모든 모델의 reviewCount를 동기화합니다.
+     * 청크 단위 재계산 엔진에 위임하므로 하나의 큰 트랜잭션으로 묶지 않습니다.
      */
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void syncAllReviewCounts() {
-        List<AIModel> models = aiModelRepository.findAll();
-        int syncedCount = 0;
-        
-        for (AIModel model : models) {
-            Long actualReviewCount = reviewRepository.countByModel(model);
-            
-            if (!actualReviewCount.equals(model.getReviewCount().longValue())) {
-                log.info("모델 {}의 reviewCount 동기화: {} -> {}", 
-                        model.getId(), model.getReviewCount(), actualReviewCount);
-                
-                model.setReviewCount(actualReviewCount.intValue());
-                syncedCount++;
-            }
-        }
-        
-        aiModelRepository.saveAll(models);
-        log.info("총 {}개 모델의 reviewCount가 동기화되었습니다.", syncedCount);
+        counterReconciliationService.reconcile(EnumSet.of(CounterFamily.MODEL_REVIEW_COUNT));
     }
 }
-
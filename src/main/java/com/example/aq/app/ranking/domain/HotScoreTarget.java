@@ -0,0 +1,31 @@
+package com.example.aq.app.ranking.domain;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 인기(hot) 점수를 유지하는 테이블
+ * 조회수 컬럼이 없는 대상은 좋아요 수만으로 참여도를 계산합니다.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum HotScoreTarget {
+    REVIEW("리뷰", "reviews", "view_count"),
+    RECIPE("레시피", "recipes", "view_count"),
+    PROPOSAL("모델 제안", "model_proposals", null);
+
+    private final String description;
+    private final String table;
+    private final String viewColumn;
+
+    /**
+     * hot_score = log10(max(1, 좋아요 * likeWeight + 조회수 * viewWeight)) + (작성 시각 - 기준 시각) / 감쇠 주기
+     * 바인딩 순서: likeWeight, viewWeight, 기준 시각(epoch 초), 감쇠 주기(초), 이후 WHERE 조건의 파라미터
+     */
+    public String recomputeSql(String whereClause) {
+        String views = viewColumn == null ? "0" : viewColumn;
+        return "UPDATE " + table + " SET hot_score = " +
+                "LOG10(GREATEST(1, like_count * ? + " + views + " * ?)) + (UNIX_TIMESTAMP(created_at) - ?) / ? " +
+                "WHERE " + whereClause;
+    }
+}
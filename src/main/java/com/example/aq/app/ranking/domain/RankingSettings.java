@@ -0,0 +1,38 @@
+package com.example.aq.app.ranking.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+
+/**
+ * 점수 계산기별로 마지막 전체 재계산에 사용한 설정값
+ * 시작 시 현재 설정과 같으면 전체 재계산을 건너뜁니다.
+ */
+@Entity
+@Table(name = "ranking_settings")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@EntityListeners(AuditingEntityListener.class)
+public class RankingSettings {
+
+    @Id
+    @Column(length = 50)
+    private String name;
+
+    @Column(nullable = false, length = 500)
+    private String settings;
+
+    @LastModifiedDate
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    public RankingSettings(String name, String settings) {
+        this.name = name;
+        this.settings = settings;
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.aq.app.ranking.event;
+
+import com.example.aq.app.ranking.domain.HotScoreTarget;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Collection;
+
+/**
+ * 인기 점수의 입력값(생성, 좋아요 수, 조회수)이 바뀌었음을 알리는 이벤트
+ * 트랜잭션 커밋 이후 해당 대상을 점수 재계산 대상으로 표시하는 데 사용됩니다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class RankingSignalChangedEvent {
+    private final HotScoreTarget target;
+    private final Collection<Long> targetIds;
+}
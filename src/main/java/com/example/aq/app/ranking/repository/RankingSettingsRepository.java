@@ -0,0 +1,13 @@
+package com.example.aq.app.ranking.repository;
+
+import com.example.aq.app.ranking.domain.RankingSettings;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface RankingSettingsRepository extends JpaRepository<RankingSettings, String> {
+
+    default boolean isCurrent(String name, String settings) {
+        return findById(name).map(saved -> saved.getSettings().equals(settings)).orElse(false);
+    }
+}
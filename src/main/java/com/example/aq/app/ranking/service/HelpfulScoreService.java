@@ -0,0 +1,151 @@
+package com.example.aq.app.ranking.service;
+
+import com.example.aq.app.ranking.domain.HotScoreTarget;
+import com.example.aq.app.ranking.domain.RankingSettings;
+import com.example.aq.app.ranking.event.RankingSignalChangedEvent;
+import com.example.aq.app.ranking.repository.RankingSettingsRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 리뷰의 도움 점수(helpful_score) 계산
+ * 조회수 대비 좋아요 비율의 Wilson 점수 신뢰구간 하한을 사용하므로, 조회가 적은 리뷰의 우연히 높은 비율은 낮게 평가되고
+ * 최신 글이나 조회가 많은 글에 치우치지 않습니다.
+ * 좋아요/조회수가 바뀐 리뷰만 주기적으로 다시 계산하며, 조회 시에는 (model_id, active, helpful_score, id) 색인으로 정렬만 합니다.
+ * 전체 재계산은 z 설정이 마지막 전체 재계산 때와 다를 때만(최초 포함) 시작 시 실행합니다.
+ */
+@Service
+@Slf4j
+public class HelpfulScoreService {
+
+    private static final String SELECT_COUNTS_SQL = "SELECT id, like_count, view_count FROM reviews WHERE id IN (%s)";
+    private static final String SELECT_RANGE_COUNTS_SQL =
+            "SELECT id, like_count, view_count FROM reviews WHERE id BETWEEN ? AND ?";
+    private static final int IN_CHUNK_SIZE = 1000;
+    private static final String UPDATE_SQL = "UPDATE reviews SET helpful_score = ? WHERE id = ?";
+    private static final String SETTINGS_NAME = "helpful_score";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final RankingSettingsRepository settingsRepository;
+    private final Set<Long> dirtyIds = ConcurrentHashMap.newKeySet();
+
+    @Value("${app.ranking.helpful.z:1.96}")
+    private double z;
+
+    @Value("${app.ranking.helpful.backfill-chunk-size:5000}")
+    private int backfillChunkSize;
+
+    public HelpfulScoreService(JdbcTemplate jdbcTemplate, RankingSettingsRepository settingsRepository) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.settingsRepository = settingsRepository;
+    }
+
+    /**
+     * 성공 positive회, 시행 total회일 때 성공 비율의 Wilson 점수 신뢰구간 하한
+     * 좋아요가 조회수 반영보다 먼저 집계될 수 있으므로 시행 횟수는 max(total, positive)로 봅니다.
+     */
+    public static double wilsonLowerBound(long positive, long total, double z) {
+        long n = Math.max(total, positive);
+        if (n <= 0 || positive <= 0) {
+            return 0;
+        }
+
+        double p = (double) positive / n;
+        double z2 = z * z;
+        double center = p + z2 / (2 * n);
+        double margin = z * Math.sqrt((p * (1 - p) + z2 / (4 * n)) / n);
+        return (center - margin) / (1 + z2 / n);
+    }
+
+    /**
+     * z 설정이 바뀌었을 때만 시작 시 전체 리뷰의 점수를 다시 계산하고, 사용한 설정을 저장합니다.
+     * 설정이 같으면 좋아요/조회수가 바뀐 리뷰는 이미 주기 재계산으로 반영되어 있으므로 모든 행을 다시 쓰지 않습니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void recomputeAllIfSettingsChanged() {
+        String settings = "z=" + z;
+        if (settingsRepository.isCurrent(SETTINGS_NAME, settings)) {
+            log.debug("리뷰 도움 점수 설정이 변경되지 않아 전체 재계산을 건너뜁니다: {}", settings);
+            return;
+        }
+        recomputeAll();
+        settingsRepository.save(new RankingSettings(SETTINGS_NAME, settings));
+    }
+
+    /**
+     * 전체 리뷰의 점수를 ID 범위 청크 단위로 다시 계산합니다.
+     */
+    public void recomputeAll() {
+        Map<String, Object> range = jdbcTemplate.queryForMap("SELECT MIN(id) AS min_id, MAX(id) AS max_id FROM reviews");
+        if (range.get("min_id") == null) {
+            return;
+        }
+
+        long minId = ((Number) range.get("min_id")).longValue();
+        long maxId = ((Number) range.get("max_id")).longValue();
+        int updated = 0;
+        for (long from = minId; from <= maxId; from += backfillChunkSize) {
+            updated += update(jdbcTemplate.query(SELECT_RANGE_COUNTS_SQL, this::toScoreArgs,
+                    from, from + backfillChunkSize - 1));
+        }
+        log.info("리뷰 도움 점수를 다시 계산했습니다: {}건", updated);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onRankingSignalChanged(RankingSignalChangedEvent event) {
+        if (event.getTarget() == HotScoreTarget.REVIEW) {
+            dirtyIds.addAll(event.getTargetIds());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.ranking.helpful.recompute-interval-ms:10000}")
+    public void recomputeDirty() {
+        if (dirtyIds.isEmpty()) {
+            return;
+        }
+
+        List<Long> ids = new ArrayList<>(dirtyIds);
+        dirtyIds.removeAll(ids);
+
+        try {
+            for (int from = 0; from < ids.size(); from += IN_CHUNK_SIZE) {
+                List<Long> chunk = ids.subList(from, Math.min(from + IN_CHUNK_SIZE, ids.size()));
+                String placeholders = String.join(",", Collections.nCopies(chunk.size(), "?"));
+                update(jdbcTemplate.query(SELECT_COUNTS_SQL.formatted(placeholders), this::toScoreArgs, chunk.toArray()));
+            }
+            log.debug("리뷰 도움 점수 갱신: {}건", ids.size());
+        } catch (RuntimeException e) {
+            // 실패한 대상은 다음 주기에 다시 계산
+            dirtyIds.addAll(ids);
+            log.warn("리뷰 도움 점수 갱신 실패: {}건, 다음 주기에 재시도합니다", ids.size(), e);
+        }
+    }
+
+    private Object[] toScoreArgs(ResultSet rs, int rowNum) throws SQLException {
+        return new Object[]{wilsonLowerBound(rs.getLong("like_count"), rs.getLong("view_count"), z), rs.getLong("id")};
+    }
+
+    private int update(List<Object[]> batchArgs) {
+        if (batchArgs.isEmpty()) {
+            return 0;
+        }
+        jdbcTemplate.batchUpdate(UPDATE_SQL, batchArgs);
+        return batchArgs.size();
+    }
+}
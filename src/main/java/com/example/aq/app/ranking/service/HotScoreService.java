@@ -0,0 +1,141 @@
+package com.example.aq.app.ranking.service;
+
+import com.example.aq.app.ranking.domain.HotScoreTarget;
+import com.example.aq.app.ranking.domain.RankingSettings;
+import com.example.aq.app.ranking.event.RankingSignalChangedEvent;
+import com.example.aq.app.ranking.repository.RankingSettingsRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 리뷰/레시피/모델 제안의 시간 감쇠 인기 점수(hot_score) 계산
+ * 점수는 참여도의 로그에 작성 시각을 더한 값이라, 감쇠 주기만큼 늦게 작성된 글은 10배의 참여도가 있어야 같은 점수가 됩니다.
+ * 작성 시각 항이 고정이므로 시간이 흘러도 순서가 바뀌지 않아, 입력값이 바뀐 행(dirty)만 주기적으로 다시 계산하면 됩니다.
+ * 조회 시에는 (hot_score, id) 색인으로 정렬만 하며 요청마다 점수를 계산하지 않습니다.
+ * 전체 재계산은 가중치/감쇠 주기 설정이 마지막 전체 재계산 때와 다를 때만(최초 포함) 시작 시 실행합니다.
+ */
+@Service
+@Slf4j
+public class HotScoreService {
+
+    private static final long EPOCH_BASE_SECONDS = 1704067200L; // 2024-01-01T00:00:00Z, 점수를 작은 값으로 유지하기 위한 기준 시각
+    private static final String SETTINGS_NAME = "hot_score";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final RankingSettingsRepository settingsRepository;
+    private final Map<HotScoreTarget, Set<Long>> dirtyIds = new EnumMap<>(HotScoreTarget.class);
+
+    @Value("${app.ranking.hot.like-weight:1}")
+    private double likeWeight;
+
+    @Value("${app.ranking.hot.view-weight:0.1}")
+    private double viewWeight;
+
+    @Value("${app.ranking.hot.decay-hours:12}")
+    private double decayHours;
+
+    @Value("${app.ranking.hot.backfill-chunk-size:5000}")
+    private int backfillChunkSize;
+
+    public HotScoreService(JdbcTemplate jdbcTemplate, RankingSettingsRepository settingsRepository) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.settingsRepository = settingsRepository;
+        for (HotScoreTarget target : HotScoreTarget.values()) {
+            dirtyIds.put(target, ConcurrentHashMap.newKeySet());
+        }
+    }
+
+    /**
+     * 설정이 바뀌었을 때만 시작 시 전체 점수를 다시 계산하고, 사용한 설정을 저장합니다.
+     * 설정이 같으면 기존 점수가 그대로 유효하므로 (작성 시각 항이 고정) 모든 행을 다시 쓰지 않습니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void recomputeAllIfSettingsChanged() {
+        String settings = currentSettings();
+        if (settingsRepository.isCurrent(SETTINGS_NAME, settings)) {
+            log.debug("인기 점수 설정이 변경되지 않아 전체 재계산을 건너뜁니다: {}", settings);
+            return;
+        }
+        recomputeAll();
+        settingsRepository.save(new RankingSettings(SETTINGS_NAME, settings));
+    }
+
+    /**
+     * 전체 점수를 ID 범위 청크 단위로 다시 계산합니다.
+     */
+    public void recomputeAll() {
+        for (HotScoreTarget target : HotScoreTarget.values()) {
+            Map<String, Object> range = jdbcTemplate.queryForMap(
+                    "SELECT MIN(id) AS min_id, MAX(id) AS max_id FROM " + target.getTable());
+            if (range.get("min_id") == null) {
+                continue;
+            }
+
+            long minId = ((Number) range.get("min_id")).longValue();
+            long maxId = ((Number) range.get("max_id")).longValue();
+            String sql = target.recomputeSql("id BETWEEN ? AND ?");
+            int updated = 0;
+            for (long from = minId; from <= maxId; from += backfillChunkSize) {
+                updated += jdbcTemplate.update(sql, likeWeight, viewWeight, EPOCH_BASE_SECONDS, decaySeconds(),
+                        from, from + backfillChunkSize - 1);
+            }
+            log.info("인기 점수를 다시 계산했습니다 [{}]: {}건", target, updated);
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onRankingSignalChanged(RankingSignalChangedEvent event) {
+        dirtyIds.get(event.getTarget()).addAll(event.getTargetIds());
+    }
+
+    @Scheduled(fixedDelayString = "${app.ranking.hot.recompute-interval-ms:10000}")
+    public void recomputeDirty() {
+        for (HotScoreTarget target : HotScoreTarget.values()) {
+            recomputeDirty(target);
+        }
+    }
+
+    private void recomputeDirty(HotScoreTarget target) {
+        Set<Long> dirty = dirtyIds.get(target);
+        if (dirty.isEmpty()) {
+            return;
+        }
+
+        List<Long> ids = new ArrayList<>(dirty);
+        dirty.removeAll(ids);
+
+        double decaySeconds = decaySeconds();
+        List<Object[]> batchArgs = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            batchArgs.add(new Object[]{likeWeight, viewWeight, EPOCH_BASE_SECONDS, decaySeconds, id});
+        }
+
+        try {
+            jdbcTemplate.batchUpdate(target.recomputeSql("id = ?"), batchArgs);
+            log.debug("인기 점수 갱신 [{}]: {}건", target, ids.size());
+        } catch (RuntimeException e) {
+            // 실패한 대상은 다음 주기에 다시 계산
+            dirty.addAll(ids);
+            log.warn("인기 점수 갱신 실패 [{}]: {}건, 다음 주기에 재시도합니다", target, ids.size(), e);
+        }
+    }
+
+    private String currentSettings() {
+        return "likeWeight=" + likeWeight + ",viewWeight=" + viewWeight + ",decayHours=" + decayHours +
+                ",epochBase=" + EPOCH_BASE_SECONDS;
+    }
+
+    private double decaySeconds() {
+        return decayHours * 3600;
+    }
+}
@@ -1,11 +1,20 @@
 package com.example.aq.app.recipe.controller;
 
 import com.example.aq.common.dto.BaseResponse;
+import com.example.aq.common.dto.CountMode;
+import com.example.aq.common.dto.PopularSort;
+import com.example.aq.common.search.SearchMode;
+import com.example.aq.common.dto.CursorResponse;
 import com.example.aq.common.dto.PageResponse;
 import com.example.aq.common.util.SecurityUtil;
+import com.example.aq.app.model.domain.FacetMatchMode;
 import com.example.aq.app.recipe.domain.RecipeCategory;
+import com.example.aq.app.recipe.domain.RecipeFeedSort;
 import com.example.aq.app.recipe.dto.CreateRecipeRequest;
 import com.example.aq.app.recipe.dto.RecipeResponse;
+import com.example.aq.app.recipe.dto.RecipeSummaryResponse;
+import com.example.aq.app.recipe.dto.RenderRecipeRequest;
+import com.example.aq.app.recipe.dto.RenderedPromptResponse;
 import com.example.aq.app.recipe.dto.UpdateRecipeRequest;
 import com.example.aq.app.recipe.service.RecipeService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -20,6 +29,8 @@ import org.springframework.data.domain.Sort;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @RestController
 @RequestMapping("/api/recipes")
 @RequiredArgsConstructor
@@ -31,93 +42,149 @@ public class RecipeController {
 
     @GetMapping
     @Operation(summary = "레시피 목록 조회", description = "최신순으로 레시피 목록을 조회합니다")
-    public ResponseEntity<BaseResponse<PageResponse<RecipeResponse>>> getRecipes(
+    public ResponseEntity<BaseResponse<PageResponse<RecipeSummaryResponse>>> getRecipes(
             @Parameter(description = "페이지 번호 (0부터 시작)") @RequestParam(defaultValue = "0") int page,
-            @Parameter(description = "페이지 크기") @RequestParam(defaultValue = "20") int size) {
+            @Parameter(description = "페이지 크기") @RequestParam(defaultValue = "20") int size,
+            @Parameter(description = "전체 개수 계산 방식 (exact, none, approximate)") @RequestParam(defaultValue = "exact") String count) {
         
         Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "createdAt"));
-        PageResponse<RecipeResponse> response = recipeService.getRecipes(pageable);
+        PageResponse<RecipeSummaryResponse> response = recipeService.getRecipes(pageable, CountMode.from(count));
         return ResponseEntity.ok(BaseResponse.success(response));
     }
 
     @GetMapping("/popular")
-    @Operation(summary = "인기 레시피 조회", description = "좋아요 수 기준으로 인기 레시피를 조회합니다")
-    public ResponseEntity<BaseResponse<PageResponse<RecipeResponse>>> getPopularRecipes(
+    @Operation(summary = "인기 레시피 조회", description = "누적 좋아요 수 또는 시간 감쇠 인기 점수 기준으로 인기 레시피를 조회합니다")
+    public ResponseEntity<BaseResponse<PageResponse<RecipeSummaryResponse>>> getPopularRecipes(
+            @Parameter(description = "정렬 기준 (likes: 누적 좋아요순, hot: 시간 감쇠 인기순)") @RequestParam(defaultValue = "likes") String sort,
             @Parameter(description = "페이지 번호 (0부터 시작)") @RequestParam(defaultValue = "0") int page,
-            @Parameter(description = "페이지 크기") @RequestParam(defaultValue = "20") int size) {
+            @Parameter(description = "페이지 크기") @RequestParam(defaultValue = "20") int size,
+            @Parameter(description = "전체 개수 계산 방식 (exact, none, approximate)") @RequestParam(defaultValue = "exact") String count) {
         
-        Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "likeCount"));
-        PageResponse<RecipeResponse> response = recipeService.getPopularRecipes(pageable);
+        PopularSort popularSort = PopularSort.from(sort);
+        Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, popularSort.getSortProperty()));
+        PageResponse<RecipeSummaryResponse> response = recipeService.getPopularRecipes(popularSort, pageable, CountMode.from(count));
         return ResponseEntity.ok(BaseResponse.success(response));
     }
 
     @GetMapping("/most-used")
     @Operation(summary = "가장 많이 사용된 레시피 조회", description = "사용 횟수 기준으로 레시피를 조회합니다")
-    public ResponseEntity<BaseResponse<PageResponse<RecipeResponse>>> getMostUsedRecipes(
+    public ResponseEntity<BaseResponse<PageResponse<RecipeSummaryResponse>>> getMostUsedRecipes(
             @Parameter(description = "페이지 번호 (0부터 시작)") @RequestParam(defaultValue = "0") int page,
-            @Parameter(description = "페이지 크기") @RequestParam(defaultValue = "20") int size) {
+            @Parameter(description = "페이지 크기") @RequestParam(defaultValue = "20") int size,
+            @Parameter(description = "전체 개수 계산 방식 (exact, none, approximate)") @RequestParam(defaultValue = "exact") String count) {
         
         Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "useCount"));
-        PageResponse<RecipeResponse> response = recipeService.getMostUsedRecipes(pageable);
+        PageResponse<RecipeSummaryResponse> response = recipeService.getMostUsedRecipes(pageable, CountMode.from(count));
         return ResponseEntity.ok(BaseResponse.success(response));
     }
 
     @GetMapping("/featured")
     @Operation(summary = "추천 레시피 조회", description = "추천된 레시피를 조회합니다")
-    public ResponseEntity<BaseResponse<PageResponse<RecipeResponse>>> getFeaturedRecipes(
+    public ResponseEntity<BaseResponse<PageResponse<RecipeSummaryResponse>>> getFeaturedRecipes(
             @Parameter(description = "페이지 번호 (0부터 시작)") @RequestParam(defaultValue = "0") int page,
             @Parameter(description = "페이지 크기") @RequestParam(defaultValue = "20") int size) {
         
         Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "createdAt"));
-        PageResponse<RecipeResponse> response = recipeService.getFeaturedRecipes(pageable);
+        PageResponse<RecipeSummaryResponse> response = recipeService.getFeaturedRecipes(pageable);
         return ResponseEntity.ok(BaseResponse.success(response));
     }
 
     @GetMapping("/search")
-    @Operation(summary = "레시피 검색", description = "키워드로 레시피를 검색합니다")
-    public ResponseEntity<BaseResponse<PageResponse<RecipeResponse>>> searchRecipes(
+    @Operation(summary = "레시피 검색", description = "키워드로 레시피를 검색합니다. keyword는 최신순 부분 일치, fulltext는 제목 > 태그 > 본문 가중치를 적용한 관련도순입니다")
+    public ResponseEntity<BaseResponse<PageResponse<RecipeSummaryResponse>>> searchRecipes(
             @Parameter(description = "검색 키워드") @RequestParam String keyword,
+            @Parameter(description = "검색 방식 (keyword, fulltext)") @RequestParam(defaultValue = "keyword") String mode,
             @Parameter(description = "페이지 번호 (0부터 시작)") @RequestParam(defaultValue = "0") int page,
-            @Parameter(description = "페이지 크기") @RequestParam(defaultValue = "20") int size) {
+            @Parameter(description = "페이지 크기") @RequestParam(defaultValue = "20") int size,
+            @Parameter(description = "전체 개수 계산 방식 (exact, none, approximate)") @RequestParam(defaultValue = "exact") String count) {
         
         Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "createdAt"));
-        PageResponse<RecipeResponse> response = recipeService.searchRecipes(keyword, pageable);
+        PageResponse<RecipeSummaryResponse> response = recipeService.searchRecipes(keyword, SearchMode.from(mode), pageable,
+                CountMode.from(count));
+        return ResponseEntity.ok(BaseResponse.success(response));
+    }
+
+    @GetMapping("/tags")
+    @Operation(summary = "태그별 레시피 조회", description = "태그 색인으로 레시피를 최신순 조회합니다. AND는 모든 태그, OR는 하나 이상의 태그를 가진 레시피를 찾습니다")
+    public ResponseEntity<BaseResponse<PageResponse<RecipeSummaryResponse>>> getRecipesByTags(
+            @Parameter(description = "태그 목록") @RequestParam List<String> tags,
+            @Parameter(description = "태그 결합 방식 (AND, OR)") @RequestParam(defaultValue = "AND") FacetMatchMode match,
+            @Parameter(description = "페이지 번호 (0부터 시작)") @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "페이지 크기") @RequestParam(defaultValue = "20") int size) {
+
+        PageResponse<RecipeSummaryResponse> response = recipeService.getRecipesByTags(tags, match, PageRequest.of(page, size));
         return ResponseEntity.ok(BaseResponse.success(response));
     }
 
     @GetMapping("/category/{category}")
     @Operation(summary = "카테고리별 레시피 조회", description = "카테고리별로 레시피를 조회합니다")
-    public ResponseEntity<BaseResponse<PageResponse<RecipeResponse>>> getRecipesByCategory(
+    public ResponseEntity<BaseResponse<PageResponse<RecipeSummaryResponse>>> getRecipesByCategory(
             @Parameter(description = "카테고리") @PathVariable RecipeCategory category,
             @Parameter(description = "페이지 번호 (0부터 시작)") @RequestParam(defaultValue = "0") int page,
-            @Parameter(description = "페이지 크기") @RequestParam(defaultValue = "20") int size) {
+            @Parameter(description = "페이지 크기") @RequestParam(defaultValue = "20") int size,
+            @Parameter(description = "전체 개수 계산 방식 (exact, none, approximate)") @RequestParam(defaultValue = "exact") String count) {
         
         Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "createdAt"));
-        PageResponse<RecipeResponse> response = recipeService.getRecipesByCategory(category, pageable);
+        PageResponse<RecipeSummaryResponse> response = recipeService.getRecipesByCategory(category, pageable, CountMode.from(count));
         return ResponseEntity.ok(BaseResponse.success(response));
     }
 
     @GetMapping("/user/{userId}")
     @Operation(summary = "사용자별 레시피 조회", description = "특정 사용자가 작성한 레시피를 조회합니다")
-    public ResponseEntity<BaseResponse<PageResponse<RecipeResponse>>> getRecipesByUser(
+    public ResponseEntity<BaseResponse<PageResponse<RecipeSummaryResponse>>> getRecipesByUser(
             @Parameter(description = "사용자 ID") @PathVariable Long userId,
             @Parameter(description = "페이지 번호 (0부터 시작)") @RequestParam(defaultValue = "0") int page,
-            @Parameter(description = "페이지 크기") @RequestParam(defaultValue = "20") int size) {
+            @Parameter(description = "페이지 크기") @RequestParam(defaultValue = "20") int size,
+            @Parameter(description = "전체 개수 계산 방식 (exact, none, approximate)") @RequestParam(defaultValue = "exact") String count) {
         
         Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "createdAt"));
-        PageResponse<RecipeResponse> response = recipeService.getRecipesByAuthor(userId, pageable);
+        PageResponse<RecipeSummaryResponse> response = recipeService.getRecipesByAuthor(userId, pageable, CountMode.from(count));
+        return ResponseEntity.ok(BaseResponse.success(response));
+    }
+
+    @GetMapping("/cursor")
+    @Operation(summary = "레시피 피드 (커서)",
+               description = "커서 기반으로 레시피 목록을 조회합니다. 전체 개수를 세지 않아 깊은 페이지도 첫 페이지와 같은 비용으로 조회됩니다")
+    public ResponseEntity<BaseResponse<CursorResponse<RecipeSummaryResponse>>> getRecipeFeed(
+            @Parameter(description = "정렬 기준 (latest, popular, most-used, hot)") @RequestParam(defaultValue = "latest") String sort,
+            @Parameter(description = "이전 응답의 nextCursor (생략하면 첫 페이지)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "조회 개수 (최대 100)") @RequestParam(defaultValue = "20") int size) {
+
+        CursorResponse<RecipeSummaryResponse> response = recipeService.getRecipeFeed(RecipeFeedSort.from(sort), cursor, size);
+        return ResponseEntity.ok(BaseResponse.success(response));
+    }
+
+    @GetMapping("/category/{category}/cursor")
+    @Operation(summary = "카테고리별 레시피 피드 (커서)", description = "카테고리별 레시피를 커서 기반으로 최신순 조회합니다")
+    public ResponseEntity<BaseResponse<CursorResponse<RecipeSummaryResponse>>> getRecipeFeedByCategory(
+            @Parameter(description = "카테고리") @PathVariable RecipeCategory category,
+            @Parameter(description = "이전 응답의 nextCursor (생략하면 첫 페이지)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "조회 개수 (최대 100)") @RequestParam(defaultValue = "20") int size) {
+
+        CursorResponse<RecipeSummaryResponse> response = recipeService.getRecipeFeedByCategory(category, cursor, size);
+        return ResponseEntity.ok(BaseResponse.success(response));
+    }
+
+    @GetMapping("/user/{userId}/cursor")
+    @Operation(summary = "사용자별 레시피 피드 (커서)", description = "특정 사용자가 작성한 레시피를 커서 기반으로 최신순 조회합니다")
+    public ResponseEntity<BaseResponse<CursorResponse<RecipeSummaryResponse>>> getRecipeFeedByUser(
+            @Parameter(description = "사용자 ID") @PathVariable Long userId,
+            @Parameter(description = "이전 응답의 nextCursor (생략하면 첫 페이지)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "조회 개수 (최대 100)") @RequestParam(defaultValue = "20") int size) {
+
+        CursorResponse<RecipeSummaryResponse> response = recipeService.getRecipeFeedByAuthor(userId, cursor, size);
         return ResponseEntity.ok(BaseResponse.success(response));
     }
 
     @GetMapping("/difficulty/{difficulty}")
     @Operation(summary = "난이도별 레시피 조회", description = "난이도별로 레시피를 조회합니다")
-    public ResponseEntity<BaseResponse<PageResponse<RecipeResponse>>> getRecipesByDifficulty(
+    public ResponseEntity<BaseResponse<PageResponse<RecipeSummaryResponse>>> getRecipesByDifficulty(
             @Parameter(description = "난이도 (1-5)") @PathVariable Integer difficulty,
             @Parameter(description = "페이지 번호 (0부터 시작)") @RequestParam(defaultValue = "0") int page,
             @Parameter(description = "페이지 크기") @RequestParam(defaultValue = "20") int size) {
         
         Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "createdAt"));
-        PageResponse<RecipeResponse> response = recipeService.getRecipesByDifficulty(difficulty, pageable);
+        PageResponse<RecipeSummaryResponse> response = recipeService.getRecipesByDifficulty(difficulty, pageable);
         return ResponseEntity.ok(BaseResponse.success(response));
     }
 
@@ -130,6 +197,16 @@ public class RecipeController {
         return ResponseEntity.ok(BaseResponse.success(response));
     }
 
+    @GetMapping("/{id}/related")
+    @Operation(summary = "관련 레시피 조회", description = "태그, 제목, 적합 모델이 비슷한 레시피를 유사도순으로 조회합니다")
+    public ResponseEntity<BaseResponse<List<RecipeSummaryResponse>>> getRelatedRecipes(
+            @Parameter(description = "레시피 ID") @PathVariable Long id,
+            @Parameter(description = "조회 개수 (최대 50)") @RequestParam(defaultValue = "10") int size) {
+        
+        List<RecipeSummaryResponse> response = recipeService.getRelatedRecipes(id, size);
+        return ResponseEntity.ok(BaseResponse.success(response));
+    }
+
     @PostMapping
     @Operation(summary = "레시피 작성", description = "새로운 레시피를 작성합니다 (인증 필요)")
     public ResponseEntity<BaseResponse<RecipeResponse>> createRecipe(
@@ -172,5 +249,16 @@ public class RecipeController {
         RecipeResponse response = recipeService.incrementUseCount(id);
         return ResponseEntity.ok(BaseResponse.success("사용 횟수가 증가되었습니다", response));
     }
+
+    @PostMapping("/{id}/render")
+    @Operation(summary = "레시피 프롬프트 렌더링", description = "변수 값으로 레시피의 프롬프트 템플릿을 채우고 사용 횟수를 증가시킵니다. " +
+            "템플릿의 {{변수}}는 필수, {{변수|기본값}}은 생략 시 기본값을 사용합니다")
+    public ResponseEntity<BaseResponse<RenderedPromptResponse>> renderRecipe(
+            @Parameter(description = "레시피 ID") @PathVariable Long id,
+            @RequestBody(required = false) RenderRecipeRequest request) {
+        
+        RenderedPromptResponse response = recipeService.renderRecipe(id, request);
+        return ResponseEntity.ok(BaseResponse.success(response));
+    }
 }
 
@@ -0,0 +1,24 @@
+package com.example.aq.app.recipe.domain;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Locale;
+
+@Getter
+@RequiredArgsConstructor
+public enum DuplicatePolicy {
+    OFF("검사하지 않음"),
+    FLAG("중복 표시 후 저장"),
+    REJECT("저장 거부");
+
+    private final String description;
+
+    public static DuplicatePolicy from(String value) {
+        try {
+            return DuplicatePolicy.valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("지원하지 않는 중복 처리 방식입니다: " + value);
+        }
+    }
+}
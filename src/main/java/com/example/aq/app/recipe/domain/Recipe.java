@@ -1,6 +1,7 @@
 package com.example.aq.app.recipe.domain;
 
 import com.example.aq.app.user.domain.User;
+import com.example.aq.common.search.SimHash;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
@@ -20,7 +21,19 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "recipes")
+@Table(name = "recipes",
+       indexes = {
+           @Index(name = "idx_recipes_active_created_at_id", columnList = "active, created_at, id"),
+           @Index(name = "idx_recipes_active_like_count_id", columnList = "active, like_count, id"),
+           @Index(name = "idx_recipes_active_use_count_id", columnList = "active, use_count, id"),
+           @Index(name = "idx_recipes_active_hot_score_id", columnList = "active, hot_score, id"),
+           @Index(name = "idx_recipes_category_active_created_at_id", columnList = "category, active, created_at, id"),
+           @Index(name = "idx_recipes_author_active_created_at_id", columnList = "author_id, active, created_at, id"),
+           @Index(name = "idx_recipes_simhash_band0", columnList = "simhash_band0"),
+           @Index(name = "idx_recipes_simhash_band1", columnList = "simhash_band1"),
+           @Index(name = "idx_recipes_simhash_band2", columnList = "simhash_band2"),
+           @Index(name = "idx_recipes_simhash_band3", columnList = "simhash_band3")
+       })
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @EntityListeners(AuditingEntityListener.class)
@@ -97,6 +110,30 @@ public class Recipe {
     @Column(name = "use_count", nullable = false)
     private Integer useCount = 0;
 
+    // 시간 감쇠 인기 점수: HotScoreService가 SQL로만 갱신하므로 엔티티 저장 시에는 덮어쓰지 않음
+    @Column(name = "hot_score", nullable = false, updatable = false)
+    private Double hotScore = 0.0;
+
+    // 프롬프트 템플릿 + 설명의 64비트 SimHash 지문과 16비트 밴드 4개 (중복 후보는 밴드 색인으로만 조회)
+    @Column(name = "simhash")
+    private Long simhash;
+
+    @Column(name = "simhash_band0")
+    private Integer simhashBand0;
+
+    @Column(name = "simhash_band1")
+    private Integer simhashBand1;
+
+    @Column(name = "simhash_band2")
+    private Integer simhashBand2;
+
+    @Column(name = "simhash_band3")
+    private Integer simhashBand3;
+
+    // 작성/수정 시 거의 같은 내용으로 판정된 기존 레시피 (중복 표시용)
+    @Column(name = "duplicate_of_id")
+    private Long duplicateOfId;
+
     @Column(name = "is_featured", nullable = false)
     private Boolean isFeatured = false;
 
@@ -161,8 +198,16 @@ public class Recipe {
         this.estimatedTimeMinutes = estimatedTimeMinutes;
     }
 
-    public void incrementViewCount() {
-        this.viewCount++;
+    public void updateSimhash(long simhash) {
+        this.simhash = simhash;
+        this.simhashBand0 = SimHash.band(simhash, 0);
+        this.simhashBand1 = SimHash.band(simhash, 1);
+        this.simhashBand2 = SimHash.band(simhash, 2);
+        this.simhashBand3 = SimHash.band(simhash, 3);
+    }
+
+    public void markDuplicateOf(Long recipeId) {
+        this.duplicateOfId = recipeId;
     }
 
     public void incrementLikeCount() {
@@ -181,10 +226,6 @@ public class Recipe {
         this.bookmarkCount = Math.max(0, this.bookmarkCount - 1);
     }
 
-    public void incrementUseCount() {
-        this.useCount++;
-    }
-
     public void feature() {
         this.isFeatured = true;
     }
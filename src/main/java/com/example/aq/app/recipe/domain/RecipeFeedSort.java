@@ -0,0 +1,25 @@
+package com.example.aq.app.recipe.domain;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Locale;
+
+@Getter
+@RequiredArgsConstructor
+public enum RecipeFeedSort {
+    LATEST("최신순"),
+    POPULAR("좋아요순"),
+    MOST_USED("사용순"),
+    HOT("시간 감쇠 인기순");
+
+    private final String description;
+
+    public static RecipeFeedSort from(String value) {
+        try {
+            return RecipeFeedSort.valueOf(value.trim().replace('-', '_').toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("지원하지 않는 레시피 정렬 기준입니다: " + value);
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.aq.app.recipe.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 레시피와 적합 모델(AIModel)의 연결
+ * 화면에 보여 주는 적합 모델 목록은 레시피의 suitableModels 컬렉션이 원본이며,
+ * 이 테이블은 카탈로그의 모델 ID로 해석된 이름만 담는 모델별 레시피 조회용 색인입니다. (작성/수정 및 모델명 변경 시 갱신)
+ */
+@Entity
+@Table(name = "recipe_model_links",
+       uniqueConstraints = @UniqueConstraint(name = "uk_recipe_model_links_model_recipe",
+               columnNames = {"model_id", "recipe_id"}),
+       indexes = @Index(name = "idx_recipe_model_links_recipe", columnList = "recipe_id"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class RecipeModelLink {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "model_id", nullable = false)
+    private Long modelId;
+
+    @Column(name = "recipe_id", nullable = false)
+    private Long recipeId;
+}
@@ -0,0 +1,12 @@
+package com.example.aq.app.recipe.dto;
+
+/**
+ * 지문 계산용 레시피 본문 프로젝션 (프롬프트 템플릿, 설명)
+ */
+public interface RecipeContent {
+    Long getId();
+
+    String getPromptTemplate();
+
+    String getDescription();
+}
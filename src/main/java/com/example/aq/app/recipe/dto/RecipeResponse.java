@@ -35,17 +35,18 @@ public class RecipeResponse {
     private Boolean isVerified;
     private Boolean isLiked;
     private Boolean isBookmarked;
+    private Long duplicateOfId;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 
-    @Builder
+    @Builder(toBuilder = true)
     public RecipeResponse(Long id, Long authorId, String authorNickname, String authorProfileImage,
                          String title, String description, String promptTemplate, String usageInstructions,
                          String exampleInput, String exampleOutput, RecipeCategory category, List<String> tags,
                          List<String> suitableModels, Integer difficultyLevel, Integer estimatedTimeMinutes,
                          Integer viewCount, Integer likeCount, Integer bookmarkCount, Integer useCount,
                          Boolean isFeatured, Boolean isVerified, Boolean isLiked, Boolean isBookmarked,
-                         LocalDateTime createdAt, LocalDateTime updatedAt) {
+                         Long duplicateOfId, LocalDateTime createdAt, LocalDateTime updatedAt) {
         this.id = id;
         this.authorId = authorId;
         this.authorNickname = authorNickname;
@@ -69,6 +70,7 @@ public class RecipeResponse {
         this.isVerified = isVerified;
         this.isLiked = isLiked;
         this.isBookmarked = isBookmarked;
+        this.duplicateOfId = duplicateOfId;
         this.createdAt = createdAt;
         this.updatedAt = updatedAt;
     }
@@ -102,9 +104,14 @@ public class RecipeResponse {
                 .isVerified(recipe.getIsVerified())
                 .isLiked(isLiked)
                 .isBookmarked(isBookmarked)
+                .duplicateOfId(recipe.getDuplicateOfId())
                 .createdAt(recipe.getCreatedAt())
                 .updatedAt(recipe.getUpdatedAt())
                 .build();
     }
-}
 
+    // 아직 DB에 반영되지 않은 조회수/사용수 증분을 더한 응답
+    public RecipeResponse withCounts(Integer viewCount, Integer useCount) {
+        return toBuilder().viewCount(viewCount).useCount(useCount).build();
+    }
+}
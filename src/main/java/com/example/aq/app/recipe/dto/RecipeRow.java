@@ -0,0 +1,59 @@
+package com.example.aq.app.recipe.dto;
+
+import com.example.aq.app.recipe.domain.RecipeCategory;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 레시피 목록용 JPQL 생성자 프로젝션 (레시피 + 작성자 스칼라 값을 한 번의 조인 쿼리로 조회)
+ * 프롬프트 템플릿, 사용 방법, 예시 입출력 TEXT 컬럼은 읽지 않고, 설명은 앞부분만 잘라서 읽습니다.
+ * 태그/적합 모델은 컬렉션이므로 포함하지 않고 별도의 배치 쿼리로 조회합니다.
+ */
+@Getter
+public class RecipeRow {
+    private final Long id;
+    private final Long authorId;
+    private final String authorNickname;
+    private final String authorProfileImage;
+    private final String title;
+    private final String description;
+    private final RecipeCategory category;
+    private final Integer difficultyLevel;
+    private final Integer estimatedTimeMinutes;
+    private final Integer viewCount;
+    private final Integer likeCount;
+    private final Integer bookmarkCount;
+    private final Integer useCount;
+    private final Boolean isFeatured;
+    private final Boolean isVerified;
+    private final Double hotScore;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime updatedAt;
+
+    public RecipeRow(Long id, Long authorId, String authorNickname, String authorProfileImage,
+                     String title, String description, RecipeCategory category,
+                     Integer difficultyLevel, Integer estimatedTimeMinutes,
+                     Integer viewCount, Integer likeCount, Integer bookmarkCount, Integer useCount,
+                     Boolean isFeatured, Boolean isVerified, Double hotScore,
+                     LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this.id = id;
+        this.authorId = authorId;
+        this.authorNickname = authorNickname;
+        this.authorProfileImage = authorProfileImage;
+        this.title = title;
+        this.description = description;
+        this.category = category;
+        this.difficultyLevel = difficultyLevel;
+        this.estimatedTimeMinutes = estimatedTimeMinutes;
+        this.viewCount = viewCount;
+        this.likeCount = likeCount;
+        this.bookmarkCount = bookmarkCount;
+        this.useCount = useCount;
+        this.isFeatured = isFeatured;
+        this.isVerified = isVerified;
+        this.hotScore = hotScore;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+    }
+}
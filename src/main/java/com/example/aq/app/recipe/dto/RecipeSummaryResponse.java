@@ -0,0 +1,89 @@
+package com.example.aq.app.recipe.dto;
+
+import com.example.aq.app.recipe.domain.RecipeCategory;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 레시피 목록 카드용 응답
+ * 프롬프트 템플릿, 사용 방법, 예시 입출력은 상세 조회(RecipeResponse)에서만 제공하며, 설명은 앞부분만 포함합니다.
+ */
+@Getter
+@NoArgsConstructor
+public class RecipeSummaryResponse {
+    private Long id;
+    private Long authorId;
+    private String authorNickname;
+    private String authorProfileImage;
+    private String title;
+    private String description;
+    private RecipeCategory category;
+    private List<String> tags;
+    private List<String> suitableModels;
+    private Integer difficultyLevel;
+    private Integer estimatedTimeMinutes;
+    private Integer viewCount;
+    private Integer likeCount;
+    private Integer bookmarkCount;
+    private Integer useCount;
+    private Boolean isFeatured;
+    private Boolean isVerified;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+
+    @Builder
+    public RecipeSummaryResponse(Long id, Long authorId, String authorNickname, String authorProfileImage,
+                                 String title, String description, RecipeCategory category, List<String> tags,
+                                 List<String> suitableModels, Integer difficultyLevel, Integer estimatedTimeMinutes,
+                                 Integer viewCount, Integer likeCount, Integer bookmarkCount, Integer useCount,
+                                 Boolean isFeatured, Boolean isVerified,
+                                 LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this.id = id;
+        this.authorId = authorId;
+        this.authorNickname = authorNickname;
+        this.authorProfileImage = authorProfileImage;
+        this.title = title;
+        this.description = description;
+        this.category = category;
+        this.tags = tags;
+        this.suitableModels = suitableModels;
+        this.difficultyLevel = difficultyLevel;
+        this.estimatedTimeMinutes = estimatedTimeMinutes;
+        this.viewCount = viewCount;
+        this.likeCount = likeCount;
+        this.bookmarkCount = bookmarkCount;
+        this.useCount = useCount;
+        this.isFeatured = isFeatured;
+        this.isVerified = isVerified;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+    }
+
+    public static RecipeSummaryResponse of(RecipeRow row, List<String> tags, List<String> suitableModels) {
+        return RecipeSummaryResponse.builder()
+                .id(row.getId())
+                .authorId(row.getAuthorId())
+                .authorNickname(row.getAuthorNickname())
+                .authorProfileImage(row.getAuthorProfileImage())
+                .title(row.getTitle())
+                .description(row.getDescription())
+                .category(row.getCategory())
+                .tags(tags)
+                .suitableModels(suitableModels)
+                .difficultyLevel(row.getDifficultyLevel())
+                .estimatedTimeMinutes(row.getEstimatedTimeMinutes())
+                .viewCount(row.getViewCount())
+                .likeCount(row.getLikeCount())
+                .bookmarkCount(row.getBookmarkCount())
+                .useCount(row.getUseCount())
+                .isFeatured(row.getIsFeatured())
+                .isVerified(row.getIsVerified())
+                .createdAt(row.getCreatedAt())
+                .updatedAt(row.getUpdatedAt())
+                .build();
+    }
+}
@@ -0,0 +1,10 @@
+package com.example.aq.app.recipe.dto;
+
+/**
+ * 레시피 ID별 컬렉션 값 (태그/적합 모델 배치 조회 프로젝션)
+ */
+public interface RecipeValue {
+    Long getRecipeId();
+
+    String getValue();
+}
@@ -0,0 +1,13 @@
+package com.example.aq.app.recipe.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Getter
+@NoArgsConstructor
+public class RenderRecipeRequest {
+    // 변수명 -> 값 (선택 변수는 생략하면 템플릿의 기본값 사용)
+    private Map<String, String> variables;
+}
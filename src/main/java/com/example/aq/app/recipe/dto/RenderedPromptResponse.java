@@ -0,0 +1,27 @@
+package com.example.aq.app.recipe.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 변수를 채운 프롬프트와 템플릿의 변수 목록
+ */
+@Getter
+@NoArgsConstructor
+public class RenderedPromptResponse {
+    private Long recipeId;
+    private String prompt;
+    private List<String> variables;
+    private List<String> requiredVariables;
+
+    @Builder
+    public RenderedPromptResponse(Long recipeId, String prompt, List<String> variables, List<String> requiredVariables) {
+        this.recipeId = recipeId;
+        this.prompt = prompt;
+        this.variables = variables;
+        this.requiredVariables = requiredVariables;
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.aq.app.recipe.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 레시피의 MinHash 서명이 새로 계산되었거나(signature) 레시피가 삭제되었음(null)을 알리는 이벤트
+ * 트랜잭션 커밋 이후 관련 레시피 색인에 반영하는 데 사용됩니다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class RecipeSignatureChangedEvent {
+    private final Long recipeId;
+    private final long[] signature;
+}
@@ -0,0 +1,35 @@
+package com.example.aq.app.recipe.repository;
+
+import com.example.aq.app.recipe.domain.RecipeModelLink;
+import com.example.aq.app.recipe.dto.RecipeValue;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface RecipeModelLinkRepository extends JpaRepository<RecipeModelLink, Long> {
+
+    // 키셋(커서) 페이지네이션: (model_id, recipe_id) 유니크 색인만 읽어 최신 레시피(ID 내림차순)부터 limit개를 조회
+    @Query("SELECT l.recipeId FROM RecipeModelLink l WHERE l.modelId = :modelId AND l.recipeId < :recipeId " +
+           "ORDER BY l.recipeId DESC")
+    List<Long> findRecipeIdsByModelIdBefore(@Param("modelId") Long modelId,
+                                            @Param("recipeId") Long recipeId, Limit limit);
+
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM RecipeModelLink l WHERE l.recipeId = :recipeId")
+    int deleteByRecipeId(@Param("recipeId") Long recipeId);
+
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM RecipeModelLink l WHERE l.recipeId IN :recipeIds")
+    int deleteByRecipeIdIn(@Param("recipeIds") Collection<Long> recipeIds);
+
+    // 기존 레시피의 적합 모델 이관 및 모델명 변경 시 재연결용
+    @Query("SELECT r.id AS recipeId, m AS value FROM Recipe r JOIN r.suitableModels m WHERE r.active = true")
+    List<RecipeValue> findActiveSuitableModels();
+}
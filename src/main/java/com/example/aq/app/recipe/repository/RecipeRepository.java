@@ -2,9 +2,14 @@ package com.example.aq.app.recipe.repository;
 
 import com.example.aq.app.recipe.domain.Recipe;
 import com.example.aq.app.recipe.domain.RecipeCategory;
+import com.example.aq.app.recipe.dto.RecipeContent;
+import com.example.aq.app.recipe.dto.RecipeRow;
+import com.example.aq.app.recipe.dto.RecipeValue;
 import com.example.aq.app.user.domain.User;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -12,47 +17,177 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface RecipeRepository extends JpaRepository<Recipe, Long> {
+
+    // 목록 조회용 프로젝션: 레시피와 작성자를 한 번에 조인해 카드에 필요한 스칼라 값만 조회 (TEXT 컬럼 제외, 설명은 앞부분만)
+    String RECIPE_ROW_SELECT = "SELECT new com.example.aq.app.recipe.dto.RecipeRow(" +
+            "r.id, a.id, a.nickname, a.profileImageUrl, r.title, SUBSTRING(r.description, 1, 300), r.category, " +
+            "r.difficultyLevel, r.estimatedTimeMinutes, r.viewCount, r.likeCount, r.bookmarkCount, r.useCount, " +
+            "r.isFeatured, r.isVerified, r.hotScore, r.createdAt, r.updatedAt) " +
+            "FROM Recipe r JOIN r.author a ";
+
+    // 키워드 검색 조건 (목록/개수 쿼리 공용)
+    String RECIPE_KEYWORD_CONDITION = "(LOWER(r.title) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
+            "LOWER(r.description) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
+            "LOWER(r.promptTemplate) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
+            "EXISTS (SELECT t FROM r.tags t WHERE LOWER(t) LIKE LOWER(CONCAT('%', :keyword, '%'))))";
+
+
+    // FULLTEXT 검색 (네이티브): 제목, 본문(description, prompt_template), 태그 중 하나라도 일치하는 레시피
+    String RECIPE_FULLTEXT_FROM = "FROM recipes r " +
+            "LEFT JOIN (SELECT tl.target_id, MAX(MATCH(t.normalized_name) AGAINST(:query)) AS score " +
+            "FROM tag_links tl JOIN tags t ON t.id = tl.tag_id " +
+            "WHERE tl.target_type = 'RECIPE' AND MATCH(t.normalized_name) AGAINST(:query) " +
+            "GROUP BY tl.target_id) ts ON ts.target_id = r.id " +
+            "WHERE r.active = true AND (MATCH(r.title) AGAINST(:query) " +
+            "OR MATCH(r.description, r.prompt_template) AGAINST(:query) OR ts.target_id IS NOT NULL) ";
     
     Optional<Recipe> findById(Long id);
     
+    // 템플릿 렌더링: 캐시 확인용 수정 시각만 먼저 조회하고, 원문은 캐시가 없거나 낡았을 때만 조회
+    @Query("SELECT r.updatedAt FROM Recipe r WHERE r.id = :id AND r.active = true")
+    Optional<LocalDateTime> findActiveUpdatedAtById(@Param("id") Long id);
+    
+    @Query("SELECT r.promptTemplate FROM Recipe r WHERE r.id = :id")
+    Optional<String> findPromptTemplateById(@Param("id") Long id);
+    
     @Query("SELECT r FROM Recipe r WHERE r.active = true")
     Page<Recipe> findAllActive(Pageable pageable);
     
-    @Query("SELECT r FROM Recipe r WHERE r.active = true ORDER BY r.createdAt DESC")
-    Page<Recipe> findLatestRecipes(Pageable pageable);
+    // 목록은 Slice로 조회하여 COUNT 쿼리를 생략하고, 전체 개수가 필요하면 count* 쿼리를 별도로 실행
+    @Query(RECIPE_ROW_SELECT + "WHERE r.active = true ORDER BY r.createdAt DESC")
+    Slice<RecipeRow> findLatestRecipeRows(Pageable pageable);
     
-    @Query("SELECT r FROM Recipe r WHERE r.active = true ORDER BY r.likeCount DESC")
-    Page<Recipe> findPopularRecipes(Pageable pageable);
+    @Query(RECIPE_ROW_SELECT + "WHERE r.active = true ORDER BY r.likeCount DESC")
+    Slice<RecipeRow> findPopularRecipeRows(Pageable pageable);
     
-    @Query("SELECT r FROM Recipe r WHERE r.active = true ORDER BY r.useCount DESC")
-    Page<Recipe> findMostUsedRecipes(Pageable pageable);
+    @Query(RECIPE_ROW_SELECT + "WHERE r.active = true ORDER BY r.useCount DESC")
+    Slice<RecipeRow> findMostUsedRecipeRows(Pageable pageable);
+
+    @Query(RECIPE_ROW_SELECT + "WHERE r.active = true ORDER BY r.hotScore DESC, r.id DESC")
+    Slice<RecipeRow> findHotRecipeRows(Pageable pageable);
     
     @Query("SELECT r FROM Recipe r WHERE r.active = true AND r.author = :author")
     Page<Recipe> findByAuthor(@Param("author") User author, Pageable pageable);
     
-    @Query("SELECT r FROM Recipe r WHERE r.active = true AND r.author.id = :authorId")
-    Page<Recipe> findByAuthorId(@Param("authorId") Long authorId, Pageable pageable);
+    @Query(RECIPE_ROW_SELECT + "WHERE r.active = true AND a.id = :authorId")
+    Slice<RecipeRow> findRowsByAuthorId(@Param("authorId") Long authorId, Pageable pageable);
     
-    @Query("SELECT r FROM Recipe r WHERE r.active = true AND r.category = :category")
-    Page<Recipe> findByCategory(@Param("category") RecipeCategory category, Pageable pageable);
+    @Query(RECIPE_ROW_SELECT + "WHERE r.active = true AND r.category = :category")
+    Slice<RecipeRow> findRowsByCategory(@Param("category") RecipeCategory category, Pageable pageable);
     
-    @Query("SELECT r FROM Recipe r WHERE r.active = true AND r.difficultyLevel = :difficulty")
-    Page<Recipe> findByDifficultyLevel(@Param("difficulty") Integer difficulty, Pageable pageable);
+    @Query(value = RECIPE_ROW_SELECT + "WHERE r.active = true AND r.difficultyLevel = :difficulty",
+           countQuery = "SELECT COUNT(r) FROM Recipe r WHERE r.active = true AND r.difficultyLevel = :difficulty")
+    Page<RecipeRow> findRowsByDifficultyLevel(@Param("difficulty") Integer difficulty, Pageable pageable);
     
-    @Query("SELECT r FROM Recipe r WHERE r.active = true AND " +
-           "(LOWER(r.title) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
-           "LOWER(r.description) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
-           "LOWER(r.promptTemplate) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
-           "EXISTS (SELECT t FROM r.tags t WHERE LOWER(t) LIKE LOWER(CONCAT('%', :keyword, '%'))))")
-    Page<Recipe> searchRecipes(@Param("keyword") String keyword, Pageable pageable);
-    
-    @Query("SELECT r FROM Recipe r WHERE r.active = true AND r.isFeatured = true ORDER BY r.createdAt DESC")
-    Page<Recipe> findFeaturedRecipes(Pageable pageable);
+    @Query(RECIPE_ROW_SELECT + "WHERE r.active = true AND " + RECIPE_KEYWORD_CONDITION)
+    Slice<RecipeRow> searchRecipeRows(@Param("keyword") String keyword, Pageable pageable);
+
+    // 필드 가중치를 적용한 관련도 점수순 ID 슬라이스 (동점이면 최신 ID 우선)
+    @Query(value = "SELECT r.id " + RECIPE_FULLTEXT_FROM +
+                   "ORDER BY (:titleBoost * MATCH(r.title) AGAINST(:query) + " +
+                   ":tagBoost * COALESCE(ts.score, 0) + " +
+                   ":bodyBoost * MATCH(r.description, r.prompt_template) AGAINST(:query)) DESC, r.id DESC",
+           nativeQuery = true)
+    Slice<Long> searchIdsByFulltext(@Param("query") String query,
+                                    @Param("titleBoost") double titleBoost,
+                                    @Param("tagBoost") double tagBoost,
+                                    @Param("bodyBoost") double bodyBoost,
+                                    Pageable pageable);
+
+    @Query(value = "SELECT COUNT(*) " + RECIPE_FULLTEXT_FROM, nativeQuery = true)
+    long countFulltextSearch(@Param("query") String query);
+
+    @Query("SELECT COUNT(r) FROM Recipe r WHERE r.active = true")
+    long countActive();
+
+    @Query("SELECT COUNT(r) FROM Recipe r WHERE r.active = true AND r.author.id = :authorId")
+    long countActiveByAuthorId(@Param("authorId") Long authorId);
+
+    @Query("SELECT COUNT(r) FROM Recipe r WHERE r.active = true AND " + RECIPE_KEYWORD_CONDITION)
+    long countSearch(@Param("keyword") String keyword);
+    
+    // 키셋(커서) 페이지네이션: (정렬 키, id) 내림차순으로 커서 다음 행부터 limit개를 조회 (COUNT 쿼리 없음)
+    @Query(RECIPE_ROW_SELECT + "WHERE r.active = true AND " +
+           "(r.createdAt < :createdAt OR (r.createdAt = :createdAt AND r.id < :id)) " +
+           "ORDER BY r.createdAt DESC, r.id DESC")
+    List<RecipeRow> findLatestRecipeRowsBefore(@Param("createdAt") LocalDateTime createdAt,
+                                               @Param("id") Long id, Limit limit);
+
+    @Query(RECIPE_ROW_SELECT + "WHERE r.active = true AND " +
+           "(r.likeCount < :likeCount OR (r.likeCount = :likeCount AND r.id < :id)) " +
+           "ORDER BY r.likeCount DESC, r.id DESC")
+    List<RecipeRow> findPopularRecipeRowsBefore(@Param("likeCount") Integer likeCount,
+                                                @Param("id") Long id, Limit limit);
+
+    @Query(RECIPE_ROW_SELECT + "WHERE r.active = true AND " +
+           "(r.useCount < :useCount OR (r.useCount = :useCount AND r.id < :id)) " +
+           "ORDER BY r.useCount DESC, r.id DESC")
+    List<RecipeRow> findMostUsedRecipeRowsBefore(@Param("useCount") Integer useCount,
+                                                 @Param("id") Long id, Limit limit);
+
+    @Query(RECIPE_ROW_SELECT + "WHERE r.active = true AND " +
+           "(r.hotScore < :hotScore OR (r.hotScore = :hotScore AND r.id < :id)) " +
+           "ORDER BY r.hotScore DESC, r.id DESC")
+    List<RecipeRow> findHotRecipeRowsBefore(@Param("hotScore") Double hotScore,
+                                            @Param("id") Long id, Limit limit);
+
+    @Query(RECIPE_ROW_SELECT + "WHERE r.active = true AND r.category = :category AND " +
+           "(r.createdAt < :createdAt OR (r.createdAt = :createdAt AND r.id < :id)) " +
+           "ORDER BY r.createdAt DESC, r.id DESC")
+    List<RecipeRow> findRowsByCategoryBefore(@Param("category") RecipeCategory category,
+                                             @Param("createdAt") LocalDateTime createdAt,
+                                             @Param("id") Long id, Limit limit);
+
+    @Query(RECIPE_ROW_SELECT + "WHERE r.active = true AND a.id = :authorId AND " +
+           "(r.createdAt < :createdAt OR (r.createdAt = :createdAt AND r.id < :id)) " +
+           "ORDER BY r.createdAt DESC, r.id DESC")
+    List<RecipeRow> findRowsByAuthorIdBefore(@Param("authorId") Long authorId,
+                                             @Param("createdAt") LocalDateTime createdAt,
+                                             @Param("id") Long id, Limit limit);
+
+    // 태그 색인 등 ID 목록으로 찾은 레시피를 한 번에 조회 (순서는 호출 측에서 맞춤)
+    @Query(RECIPE_ROW_SELECT + "WHERE r.active = true AND r.id IN :ids")
+    List<RecipeRow> findRowsByIdIn(@Param("ids") Collection<Long> ids);
+
+    // 관련 레시피 색인 초기 적재: ID 순으로 afterId 다음부터 limit개의 활성 레시피 제목을 조회
+    @Query("SELECT r.id AS recipeId, r.title AS value FROM Recipe r WHERE r.active = true AND r.id > :afterId ORDER BY r.id")
+    List<RecipeValue> findActiveTitlesAfter(@Param("afterId") Long afterId, Limit limit);
+
+    // 중복 후보: 16비트 밴드 중 하나라도 같은 활성 레시피 (밴드별 색인의 index merge로 조회)
+    // 해밍 거리 조건을 SQL에서 함께 적용하므로, 흔한 밴드 값에 행이 몰려도 실제 중복이 후보에서 잘려 나가지 않습니다.
+    // beforeId보다 먼저 작성된 레시피만 대상으로 하여, 원본을 수정할 때 나중에 올라온 사본과 일치하지 않게 합니다.
+    @Query(value = "SELECT r.id FROM recipes r WHERE r.active = true AND r.id < :beforeId AND " +
+                   "(r.simhash_band0 = :band0 OR r.simhash_band1 = :band1 OR " +
+                   "r.simhash_band2 = :band2 OR r.simhash_band3 = :band3) AND " +
+                   "BIT_COUNT(r.simhash ^ :simhash) <= :maxDistance " +
+                   "ORDER BY BIT_COUNT(r.simhash ^ :simhash), r.id LIMIT 1", nativeQuery = true)
+    Optional<Long> findNearestBySimhash(@Param("simhash") long simhash,
+                                        @Param("band0") int band0, @Param("band1") int band1,
+                                        @Param("band2") int band2, @Param("band3") int band3,
+                                        @Param("maxDistance") int maxDistance,
+                                        @Param("beforeId") long beforeId);
+
+    // 지문 초기 계산: ID 순으로 afterId 다음부터 지문이 없는 레시피를 limit개 조회
+    @Query("SELECT r.id AS id, r.promptTemplate AS promptTemplate, r.description AS description FROM Recipe r " +
+           "WHERE r.simhash IS NULL AND r.id > :afterId ORDER BY r.id")
+    List<RecipeContent> findContentsWithoutSimhashAfter(@Param("afterId") Long afterId, Limit limit);
+
+    // 페이지에 포함된 레시피들의 태그/적합 모델을 한 번에 조회
+    @Query("SELECT r.id AS recipeId, t AS value FROM Recipe r JOIN r.tags t WHERE r.id IN :recipeIds")
+    List<RecipeValue> findTagsByRecipeIds(@Param("recipeIds") Collection<Long> recipeIds);
+
+    @Query("SELECT r.id AS recipeId, m AS value FROM Recipe r JOIN r.suitableModels m WHERE r.id IN :recipeIds")
+    List<RecipeValue> findSuitableModelsByRecipeIds(@Param("recipeIds") Collection<Long> recipeIds);
+
+    @Query(value = RECIPE_ROW_SELECT + "WHERE r.active = true AND r.isFeatured = true ORDER BY r.createdAt DESC",
+           countQuery = "SELECT COUNT(r) FROM Recipe r WHERE r.active = true AND r.isFeatured = true")
+    Page<RecipeRow> findFeaturedRecipeRows(Pageable pageable);
     
     @Query("SELECT r FROM Recipe r WHERE r.active = true AND r.isVerified = true ORDER BY r.createdAt DESC")
     Page<Recipe> findVerifiedRecipes(Pageable pageable);
@@ -60,12 +195,6 @@ public interface RecipeRepository extends JpaRepository<Recipe, Long> {
     @Query("SELECT r FROM Recipe r WHERE r.active = true AND r.createdAt >= :since")
     Page<Recipe> findRecentRecipes(@Param("since") LocalDateTime since, Pageable pageable);
     
-    @Query("SELECT r FROM Recipe r WHERE r.active = true AND r.tags LIKE %:tag%")
-    Page<Recipe> findByTag(@Param("tag") String tag, Pageable pageable);
-    
-    @Query("SELECT r FROM Recipe r WHERE r.active = true AND r.suitableModels LIKE %:modelName%")
-    Page<Recipe> findBySuitableModel(@Param("modelName") String modelName, Pageable pageable);
-    
     @Query("SELECT r FROM Recipe r WHERE r.active = true AND r.estimatedTimeMinutes <= :maxTime")
     Page<Recipe> findByMaxTime(@Param("maxTime") Integer maxTime, Pageable pageable);
     
@@ -0,0 +1,140 @@
+package com.example.aq.app.recipe.service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 리터럴 조각과 변수 자리로 미리 분해해 둔 프롬프트 템플릿
+ * {{name}}은 필수 변수, {{name|기본값}}은 값이 없을 때 기본값을 쓰는 선택 변수입니다.
+ * 닫히지 않은 {{ 나 이름이 빈 자리는 그대로 리터럴로 남깁니다. 생성 후 변경되지 않습니다.
+ */
+public class CompiledPromptTemplate {
+
+    private static final String OPEN = "{{";
+    private static final String CLOSE = "}}";
+
+    private final String[] literals;  // 자리 수 + 1개 (literals[i] 다음에 i번째 자리가 옵니다)
+    private final String[] names;
+    private final String[] defaults;  // null이면 필수 변수
+    private final int literalLength;
+    private final Map<String, String> variables; // 변수명 -> 기본값(필수면 null), 처음 등장한 순서
+
+    private CompiledPromptTemplate(List<String> literals, List<String> names, List<String> defaults) {
+        this.literals = literals.toArray(new String[0]);
+        this.names = names.toArray(new String[0]);
+        this.defaults = defaults.toArray(new String[0]);
+
+        int length = 0;
+        for (String literal : this.literals) {
+            length += literal.length();
+        }
+        this.literalLength = length;
+
+        Map<String, String> variables = new LinkedHashMap<>();
+        for (int i = 0; i < this.names.length; i++) {
+            // 같은 변수가 한 곳이라도 기본값 없이 쓰이면 필수 변수로 취급
+            if (!variables.containsKey(this.names[i]) || this.defaults[i] == null) {
+                variables.put(this.names[i], this.defaults[i]);
+            }
+        }
+        this.variables = Collections.unmodifiableMap(variables);
+    }
+
+    public static CompiledPromptTemplate compile(String template) {
+        String source = template == null ? "" : template;
+        List<String> literals = new ArrayList<>();
+        List<String> names = new ArrayList<>();
+        List<String> defaults = new ArrayList<>();
+
+        StringBuilder literal = new StringBuilder();
+        int position = 0;
+        while (position < source.length()) {
+            int open = source.indexOf(OPEN, position);
+            if (open < 0) {
+                break;
+            }
+            int close = source.indexOf(CLOSE, open + OPEN.length());
+            if (close < 0) {
+                break;
+            }
+
+            String slot = source.substring(open + OPEN.length(), close);
+            int separator = slot.indexOf('|');
+            String name = (separator < 0 ? slot : slot.substring(0, separator)).trim();
+            if (name.isEmpty()) {
+                literal.append(source, position, close + CLOSE.length());
+                position = close + CLOSE.length();
+                continue;
+            }
+
+            literal.append(source, position, open);
+            literals.add(literal.toString());
+            literal.setLength(0);
+            names.add(name);
+            defaults.add(separator < 0 ? null : slot.substring(separator + 1));
+            position = close + CLOSE.length();
+        }
+        literal.append(source, position, source.length());
+        literals.add(literal.toString());
+
+        return new CompiledPromptTemplate(literals, names, defaults);
+    }
+
+    /**
+     * 변수 맵으로 템플릿을 채웁니다. 값이 없거나 비어 있는 필수 변수가 있으면 모두 모아 예외를 던집니다.
+     */
+    public String render(Map<String, String> values) {
+        Map<String, String> given = values == null ? Map.of() : values;
+
+        List<String> missing = null;
+        String[] resolved = new String[names.length];
+        int length = literalLength;
+        for (int i = 0; i < names.length; i++) {
+            String value = given.get(names[i]);
+            if (value == null || value.isEmpty()) {
+                value = defaults[i];
+            }
+            if (value == null) {
+                if (missing == null) {
+                    missing = new ArrayList<>();
+                }
+                if (!missing.contains(names[i])) {
+                    missing.add(names[i]);
+                }
+                continue;
+            }
+            resolved[i] = value;
+            length += value.length();
+        }
+
+        if (missing != null) {
+            throw new IllegalArgumentException("필수 변수가 누락되었습니다: " + String.join(", ", missing));
+        }
+
+        StringBuilder rendered = new StringBuilder(length);
+        for (int i = 0; i < names.length; i++) {
+            rendered.append(literals[i]).append(resolved[i]);
+        }
+        return rendered.append(literals[names.length]).toString();
+    }
+
+    /**
+     * 변수명 -> 기본값(필수 변수면 null), 템플릿에 처음 등장한 순서
+     */
+    public Map<String, String> variables() {
+        return variables;
+    }
+
+    public List<String> requiredVariables() {
+        List<String> required = new ArrayList<>();
+        variables.forEach((name, defaultValue) -> {
+            if (defaultValue == null) {
+                required.add(name);
+            }
+        });
+        return required;
+    }
+}
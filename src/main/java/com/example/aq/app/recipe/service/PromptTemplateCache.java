@@ -0,0 +1,65 @@
+package com.example.aq.app.recipe.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * 레시피별 컴파일된 프롬프트 템플릿 캐시
+ * 레시피 ID와 수정 시각(updatedAt)이 모두 같을 때만 재사용하므로, 레시피가 수정되면 다음 요청에서 다시 컴파일됩니다.
+ * 키 수가 상한을 넘으면 가장 오래 사용되지 않은 레시피부터 제거합니다.
+ */
+@Component
+public class PromptTemplateCache {
+
+    private final Map<Long, Entry> entries;
+
+    public PromptTemplateCache(@Value("${app.recipe.template-cache.max-entries:1000}") int maxEntries) {
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Entry> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    /**
+     * 캐시된 템플릿을 반환합니다. 없거나 수정 시각이 다르면 loader로 원문을 읽어 컴파일합니다.
+     */
+    public CompiledPromptTemplate get(Long recipeId, LocalDateTime updatedAt, Supplier<String> loader) {
+        Entry entry;
+        synchronized (entries) {
+            entry = entries.get(recipeId);
+        }
+        if (entry != null && Objects.equals(entry.updatedAt, updatedAt)) {
+            return entry.template;
+        }
+
+        CompiledPromptTemplate compiled = CompiledPromptTemplate.compile(loader.get());
+        synchronized (entries) {
+            entries.put(recipeId, new Entry(updatedAt, compiled));
+        }
+        return compiled;
+    }
+
+    public void evict(Long recipeId) {
+        synchronized (entries) {
+            entries.remove(recipeId);
+        }
+    }
+
+    private static class Entry {
+        private final LocalDateTime updatedAt;
+        private final CompiledPromptTemplate template;
+
+        private Entry(LocalDateTime updatedAt, CompiledPromptTemplate template) {
+            this.updatedAt = updatedAt;
+            this.template = template;
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.example.aq.app.recipe.service;
+
+import com.example.aq.app.recipe.domain.DuplicatePolicy;
+import com.example.aq.app.recipe.domain.Recipe;
+import com.example.aq.app.recipe.dto.RecipeContent;
+import com.example.aq.app.recipe.repository.RecipeRepository;
+import com.example.aq.common.search.SimHash;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 프롬프트 템플릿과 설명의 SimHash 지문으로 거의 같은 레시피를 찾아 표시하거나 거부합니다.
+ * 지문을 16비트 밴드 4개로 나눠 밴드 값이 같은 레시피만 색인으로 조회하므로, 비교 대상 수가 레시피 수와 무관합니다.
+ * 밴드가 4개이므로 허용 해밍 거리는 최대 3이며, 거리 조건도 SQL에서 적용하므로 이 범위의 중복은 후보에서 빠지지 않습니다.
+ * 중복 판정은 먼저 작성된 레시피를 원본으로 보며, 수정 시에는 자신보다 먼저 작성된 레시피와만 비교합니다.
+ */
+@Service
+@Slf4j
+public class RecipeDuplicateDetector {
+
+    private static final String UPDATE_SIMHASH_SQL = "UPDATE recipes SET simhash = ?, simhash_band0 = ?, " +
+            "simhash_band1 = ?, simhash_band2 = ?, simhash_band3 = ? WHERE id = ?";
+
+    private final RecipeRepository recipeRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+    private final DuplicatePolicy policy;
+    private final int maxDistance;
+
+    @Value("${app.recipe.duplicate.backfill-chunk-size:1000}")
+    private int backfillChunkSize;
+
+    public RecipeDuplicateDetector(RecipeRepository recipeRepository,
+                                   JdbcTemplate jdbcTemplate,
+                                   PlatformTransactionManager transactionManager,
+                                   @Value("${app.recipe.duplicate.policy:flag}") String policy,
+                                   @Value("${app.recipe.duplicate.max-distance:3}") int maxDistance) {
+        if (maxDistance < 0 || maxDistance >= SimHash.BANDS) {
+            throw new IllegalArgumentException("중복 판정 해밍 거리는 0 이상 " + (SimHash.BANDS - 1) + " 이하여야 합니다");
+        }
+        this.recipeRepository = recipeRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.readOnlyTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.policy = DuplicatePolicy.from(policy);
+        this.maxDistance = maxDistance;
+    }
+
+    /**
+     * 지문이 없는 기존 레시피의 지문을 ID 순 청크 단위로 계산합니다. (updatedAt은 변경하지 않음)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        int updated = 0;
+        long afterId = 0L;
+        while (true) {
+            long cursor = afterId;
+            List<RecipeContent> contents = readOnlyTransaction.execute(status ->
+                    recipeRepository.findContentsWithoutSimhashAfter(cursor, Limit.of(backfillChunkSize)));
+            if (contents.isEmpty()) {
+                break;
+            }
+
+            List<Object[]> batchArgs = new ArrayList<>(contents.size());
+            for (RecipeContent content : contents) {
+                long simhash = SimHash.of(content.getPromptTemplate(), content.getDescription());
+                batchArgs.add(new Object[]{simhash, SimHash.band(simhash, 0), SimHash.band(simhash, 1),
+                        SimHash.band(simhash, 2), SimHash.band(simhash, 3), content.getId()});
+            }
+            jdbcTemplate.batchUpdate(UPDATE_SIMHASH_SQL, batchArgs);
+            updated += contents.size();
+            afterId = contents.get(contents.size() - 1).getId();
+        }
+
+        if (updated > 0) {
+            log.info("레시피 SimHash 지문을 계산했습니다: {}건", updated);
+        }
+    }
+
+    /**
+     * 레시피의 지문을 갱신하고 정책에 따라 중복을 표시하거나 거부합니다. (작성/수정 시 저장 전에 호출)
+     */
+    public void inspect(Recipe recipe) {
+        long simhash = SimHash.of(recipe.getPromptTemplate(), recipe.getDescription());
+        recipe.updateSimhash(simhash);
+
+        if (policy == DuplicatePolicy.OFF) {
+            recipe.markDuplicateOf(null);
+            return;
+        }
+
+        // 새 레시피는 기존 전체, 수정하는 레시피는 자신보다 먼저 작성된 레시피만 비교
+        long beforeId = recipe.getId() == null ? Long.MAX_VALUE : recipe.getId();
+        Optional<Long> duplicate = recipeRepository.findNearestBySimhash(simhash,
+                SimHash.band(simhash, 0), SimHash.band(simhash, 1), SimHash.band(simhash, 2), SimHash.band(simhash, 3),
+                maxDistance, beforeId);
+        if (duplicate.isPresent() && policy == DuplicatePolicy.REJECT) {
+            throw new IllegalArgumentException("이미 등록된 레시피와 내용이 거의 같습니다 (레시피 ID: " + duplicate.get() + ")");
+        }
+        duplicate.ifPresent(id -> log.info("중복 의심 레시피: {} -> {}", recipe.getId(), id));
+        recipe.markDuplicateOf(duplicate.orElse(null));
+    }
+}
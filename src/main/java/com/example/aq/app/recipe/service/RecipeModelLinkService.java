@@ -0,0 +1,145 @@
+package com.example.aq.app.recipe.service;
+
+import com.example.aq.app.model.event.ModelNamesChangedEvent;
+import com.example.aq.app.model.service.ModelCatalog;
+import com.example.aq.app.model.service.ModelCatalogSnapshot;
+import com.example.aq.app.recipe.dto.RecipeValue;
+import com.example.aq.app.recipe.repository.RecipeModelLinkRepository;
+import com.example.aq.common.exception.ResourceNotFoundException;
+import com.example.aq.common.search.NgramIndex;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+
+/**
+ * 레시피의 자유 입력 적합 모델명을 카탈로그의 모델 ID로 해석해 recipe_model_links에 저장하고, 모델별 레시피 조회에 사용합니다.
+ * 이름은 카탈로그 기준으로 정확히 일치할 때만 연결되며(제공업체만 다른 같은 이름의 모델은 모두), 해석되지 않는 이름은 레시피의 표시용 목록에만 남습니다.
+ * 모델이 추가/비활성화되거나 이름이 바뀌면 해당 이름을 적은 레시피의 연결을 다시 계산합니다.
+ */
+@Service
+@Slf4j
+public class RecipeModelLinkService {
+
+    private static final String INSERT_LINK_SQL =
+            "INSERT IGNORE INTO recipe_model_links (model_id, recipe_id) VALUES (?, ?)";
+
+    private final RecipeModelLinkRepository linkRepository;
+    private final ModelCatalog modelCatalog;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate writeTransaction;
+
+    public RecipeModelLinkService(RecipeModelLinkRepository linkRepository,
+                                  ModelCatalog modelCatalog,
+                                  JdbcTemplate jdbcTemplate,
+                                  PlatformTransactionManager transactionManager) {
+        this.linkRepository = linkRepository;
+        this.modelCatalog = modelCatalog;
+        this.jdbcTemplate = jdbcTemplate;
+        this.writeTransaction = new TransactionTemplate(transactionManager);
+        // 모델 변경 트랜잭션의 커밋 이후 콜백에서도 실행되므로 항상 새 트랜잭션으로 실행
+        this.writeTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        writeTransaction.executeWithoutResult(status -> backfillIfEmpty());
+    }
+
+    @EventListener
+    public void onModelNamesChanged(ModelNamesChangedEvent event) {
+        writeTransaction.executeWithoutResult(status -> relink(event.getNames()));
+    }
+
+    /**
+     * 레시피의 모델 연결을 주어진 적합 모델명 기준으로 교체합니다. (빈 목록이면 모두 제거)
+     */
+    @Transactional
+    public void replaceLinks(Long recipeId, Collection<String> suitableModels) {
+        Set<Long> modelIds = modelCatalog.current().resolveIds(suitableModels);
+
+        linkRepository.deleteByRecipeId(recipeId);
+        if (!modelIds.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_LINK_SQL, modelIds.stream()
+                    .map(modelId -> new Object[]{modelId, recipeId})
+                    .toList());
+        }
+    }
+
+    @Transactional
+    public void removeLinks(Long recipeId) {
+        linkRepository.deleteByRecipeId(recipeId);
+    }
+
+    /**
+     * 모델에 연결된 레시피 ID를 recipeId 미만에서 ID 내림차순으로 limit개 조회합니다.
+     */
+    @Transactional(readOnly = true)
+    public List<Long> findRecipeIds(Long modelId, Long beforeRecipeId, int limit) {
+        if (modelCatalog.current().findById(modelId).isEmpty()) {
+            throw new ResourceNotFoundException("모델", "id", modelId);
+        }
+        return linkRepository.findRecipeIdsByModelIdBefore(modelId, beforeRecipeId, Limit.of(limit));
+    }
+
+    /**
+     * 적합 모델명 중 하나라도 names에 해당하는 활성 레시피의 연결을 현재 카탈로그 기준으로 교체합니다.
+     * 모델명 변경은 드물어 적합 모델 목록 전체를 한 번 읽어 대상 레시피를 찾습니다. (정규화가 SQL로 표현되지 않음)
+     */
+    private void relink(Set<String> names) {
+        Map<Long, List<String>> suitableModels = new HashMap<>();
+        Set<Long> recipeIds = new HashSet<>();
+        for (RecipeValue source : linkRepository.findActiveSuitableModels()) {
+            suitableModels.computeIfAbsent(source.getRecipeId(), id -> new ArrayList<>()).add(source.getValue());
+            if (names.contains(NgramIndex.normalize(source.getValue()))) {
+                recipeIds.add(source.getRecipeId());
+            }
+        }
+        if (recipeIds.isEmpty()) {
+            return;
+        }
+
+        ModelCatalogSnapshot catalog = modelCatalog.current();
+        List<Object[]> links = new ArrayList<>();
+        for (Long recipeId : recipeIds) {
+            for (Long modelId : catalog.resolveIds(suitableModels.get(recipeId))) {
+                links.add(new Object[]{modelId, recipeId});
+            }
+        }
+
+        linkRepository.deleteByRecipeIdIn(recipeIds);
+        if (!links.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_LINK_SQL, links);
+        }
+        log.info("모델명 변경으로 레시피의 모델 연결을 다시 계산했습니다: 레시피 {}건, 연결 {}건", recipeIds.size(), links.size());
+    }
+
+    private void backfillIfEmpty() {
+        if (linkRepository.count() > 0) {
+            return;
+        }
+
+        ModelCatalogSnapshot catalog = modelCatalog.current();
+        List<Object[]> links = new ArrayList<>();
+        Set<Long> recipeIds = new HashSet<>();
+        for (RecipeValue source : linkRepository.findActiveSuitableModels()) {
+            for (Long modelId : catalog.resolveIds(List.of(source.getValue()))) {
+                links.add(new Object[]{modelId, source.getRecipeId()});
+                recipeIds.add(source.getRecipeId());
+            }
+        }
+
+        if (!links.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_LINK_SQL, links);
+            log.info("기존 레시피의 적합 모델을 모델 연결로 이관했습니다: 레시피 {}건, 연결 {}건", recipeIds.size(), links.size());
+        }
+    }
+}
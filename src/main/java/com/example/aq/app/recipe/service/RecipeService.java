@@ -1,15 +1,36 @@
 package com.example.aq.app.recipe.service;
 
+import com.example.aq.common.cache.ApproximateCountCache;
+import com.example.aq.common.dto.CountMode;
+import com.example.aq.common.dto.PopularSort;
+import com.example.aq.common.dto.CursorResponse;
+import com.example.aq.common.dto.CursorToken;
 import com.example.aq.common.dto.PageResponse;
 import com.example.aq.common.exception.ResourceNotFoundException;
 import com.example.aq.common.exception.UnauthorizedException;
+import com.example.aq.common.search.FulltextSearchSupport;
+import com.example.aq.common.search.SearchMode;
+import com.example.aq.common.util.PageUtil;
 import com.example.aq.common.util.SecurityUtil;
+import com.example.aq.app.counter.domain.BufferedCounter;
+import com.example.aq.app.counter.service.CounterWriteBuffer;
+import com.example.aq.app.model.domain.FacetMatchMode;
+import com.example.aq.app.ranking.domain.HotScoreTarget;
+import com.example.aq.app.ranking.event.RankingSignalChangedEvent;
 import com.example.aq.app.recipe.domain.Recipe;
 import com.example.aq.app.recipe.domain.RecipeCategory;
+import com.example.aq.app.recipe.domain.RecipeFeedSort;
 import com.example.aq.app.recipe.dto.CreateRecipeRequest;
 import com.example.aq.app.recipe.dto.RecipeResponse;
+import com.example.aq.app.recipe.dto.RecipeRow;
+import com.example.aq.app.recipe.dto.RecipeSummaryResponse;
+import com.example.aq.app.recipe.dto.RecipeValue;
+import com.example.aq.app.recipe.dto.RenderRecipeRequest;
+import com.example.aq.app.recipe.dto.RenderedPromptResponse;
 import com.example.aq.app.recipe.dto.UpdateRecipeRequest;
 import com.example.aq.app.recipe.repository.RecipeRepository;
+import com.example.aq.app.tag.domain.TagTargetType;
+import com.example.aq.app.tag.service.TagService;
 import com.example.aq.app.user.domain.User;
 import com.example.aq.app.user.repository.UserRepository;
 import com.example.aq.app.interaction.repository.LikeRepository;
@@ -18,103 +39,214 @@ import com.example.aq.app.interaction.domain.LikeType;
 import com.example.aq.app.interaction.domain.BookmarkType;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Locale;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 @Slf4j
 public class RecipeService {
 
+    private static final int MAX_RELATED_SIZE = 50;
+
     private final RecipeRepository recipeRepository;
     private final UserRepository userRepository;
     private final LikeRepository likeRepository;
     private final BookmarkRepository bookmarkRepository;
+    private final ApproximateCountCache countCache;
+    private final CounterWriteBuffer counterWriteBuffer;
+    private final TagService tagService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final FulltextSearchSupport fulltextSearch;
+    private final PromptTemplateCache templateCache;
+    private final RelatedRecipeService relatedRecipeService;
+    private final RecipeModelLinkService recipeModelLinkService;
+    private final RecipeDuplicateDetector duplicateDetector;
 
-    public PageResponse<RecipeResponse> getRecipes(Pageable pageable) {
-        Page<Recipe> recipes = recipeRepository.findLatestRecipes(pageable);
-        // Lazy 컬렉션 초기화
-        recipes.forEach(recipe -> {
-            recipe.getTags().size();
-            recipe.getSuitableModels().size();
-        });
-        return PageResponse.of(recipes.map(RecipeResponse::of));
+    public PageResponse<RecipeSummaryResponse> getRecipes(Pageable pageable, CountMode countMode) {
+        return toRecipePage(recipeRepository.findLatestRecipeRows(pageable), countMode,
+                "recipes:active", recipeRepository::countActive);
     }
 
-    public PageResponse<RecipeResponse> getPopularRecipes(Pageable pageable) {
-        Page<Recipe> recipes = recipeRepository.findPopularRecipes(pageable);
-        // Lazy 컬렉션 초기화
-        recipes.forEach(recipe -> {
-            recipe.getTags().size();
-            recipe.getSuitableModels().size();
-        });
-        return PageResponse.of(recipes.map(RecipeResponse::of));
+    public PageResponse<RecipeSummaryResponse> getPopularRecipes(PopularSort sort, Pageable pageable, CountMode countMode) {
+        Slice<RecipeRow> rows = sort == PopularSort.HOT
+                ? recipeRepository.findHotRecipeRows(pageable)
+                : recipeRepository.findPopularRecipeRows(pageable);
+        return toRecipePage(rows, countMode,
+                "recipes:active", recipeRepository::countActive);
     }
 
-    public PageResponse<RecipeResponse> getMostUsedRecipes(Pageable pageable) {
-        Page<Recipe> recipes = recipeRepository.findMostUsedRecipes(pageable);
-        // Lazy 컬렉션 초기화
-        recipes.forEach(recipe -> {
-            recipe.getTags().size();
-            recipe.getSuitableModels().size();
-        });
-        return PageResponse.of(recipes.map(RecipeResponse::of));
+    public PageResponse<RecipeSummaryResponse> getMostUsedRecipes(Pageable pageable, CountMode countMode) {
+        return toRecipePage(recipeRepository.findMostUsedRecipeRows(pageable), countMode,
+                "recipes:active", recipeRepository::countActive);
     }
 
-    public PageResponse<RecipeResponse> getFeaturedRecipes(Pageable pageable) {
-        Page<Recipe> recipes = recipeRepository.findFeaturedRecipes(pageable);
-        // Lazy 컬렉션 초기화
-        recipes.forEach(recipe -> {
-            recipe.getTags().size();
-            recipe.getSuitableModels().size();
-        });
-        return PageResponse.of(recipes.map(RecipeResponse::of));
+    public PageResponse<RecipeSummaryResponse> getFeaturedRecipes(Pageable pageable) {
+        return toRecipePage(recipeRepository.findFeaturedRecipeRows(pageable));
     }
 
-    public PageResponse<RecipeResponse> searchRecipes(String keyword, Pageable pageable) {
-        Page<Recipe> recipes = recipeRepository.searchRecipes(keyword, pageable);
-        // Lazy 컬렉션 초기화
-        recipes.forEach(recipe -> {
-            recipe.getTags().size();
-            recipe.getSuitableModels().size();
-        });
-        return PageResponse.of(recipes.map(RecipeResponse::of));
+    public PageResponse<RecipeSummaryResponse> searchRecipes(String keyword, SearchMode mode, Pageable pageable,
+                                                             CountMode countMode) {
+        if (fulltextSearch.supports(mode, keyword)) {
+            String query = keyword.strip();
+            Slice<Long> ids = recipeRepository.searchIdsByFulltext(query, fulltextSearch.getTitleBoost(),
+                    fulltextSearch.getTagBoost(), fulltextSearch.getBodyBoost(), fulltextSearch.unsorted(pageable));
+            return toRecipeSearchPage(PageUtil.fetchByIds(ids, recipeRepository::findRowsByIdIn, RecipeRow::getId),
+                    countMode, "recipes:fulltext:" + query.toLowerCase(Locale.ROOT),
+                    () -> recipeRepository.countFulltextSearch(query));
+        }
+        return toRecipeSearchPage(recipeRepository.searchRecipeRows(keyword, pageable), countMode,
+                "recipes:search:" + keyword.trim().toLowerCase(Locale.ROOT), () -> recipeRepository.countSearch(keyword));
     }
 
-    public PageResponse<RecipeResponse> getRecipesByCategory(RecipeCategory category, Pageable pageable) {
-        Page<Recipe> recipes = recipeRepository.findByCategory(category, pageable);
-        // Lazy 컬렉션 초기화
-        recipes.forEach(recipe -> {
-            recipe.getTags().size();
-            recipe.getSuitableModels().size();
-        });
-        return PageResponse.of(recipes.map(RecipeResponse::of));
+    public PageResponse<RecipeSummaryResponse> getRecipesByCategory(RecipeCategory category, Pageable pageable,
+                                                                    CountMode countMode) {
+        return toRecipePage(recipeRepository.findRowsByCategory(category, pageable), countMode,
+                "recipes:category:" + category.name(), () -> recipeRepository.countByCategory(category));
     }
 
-    public PageResponse<RecipeResponse> getRecipesByAuthor(Long authorId, Pageable pageable) {
-        Page<Recipe> recipes = recipeRepository.findByAuthorId(authorId, pageable);
-        // Lazy 컬렉션 초기화
-        recipes.forEach(recipe -> {
-            recipe.getTags().size();
-            recipe.getSuitableModels().size();
-        });
-        return PageResponse.of(recipes.map(RecipeResponse::of));
+    public PageResponse<RecipeSummaryResponse> getRecipesByAuthor(Long authorId, Pageable pageable, CountMode countMode) {
+        return toRecipePage(recipeRepository.findRowsByAuthorId(authorId, pageable), countMode,
+                "recipes:author:" + authorId, () -> recipeRepository.countActiveByAuthorId(authorId));
     }
 
-    public PageResponse<RecipeResponse> getRecipesByDifficulty(Integer difficulty, Pageable pageable) {
-        Page<Recipe> recipes = recipeRepository.findByDifficultyLevel(difficulty, pageable);
-        // Lazy 컬렉션 초기화
-        recipes.forEach(recipe -> {
-            recipe.getTags().size();
-            recipe.getSuitableModels().size();
-        });
-        return PageResponse.of(recipes.map(RecipeResponse::of));
+    /**
+     * 태그로 레시피 조회: 태그 색인에서 최신순 ID 페이지를 구한 뒤 해당 레시피만 조회합니다.
+     */
+    public PageResponse<RecipeSummaryResponse> getRecipesByTags(List<String> tags, FacetMatchMode mode, Pageable pageable) {
+        Page<Long> idPage = tagService.findTargetIds(TagTargetType.RECIPE, tags, mode, pageable);
+        return toRecipePage(PageUtil.fetchByIds(idPage, recipeRepository::findRowsByIdIn, RecipeRow::getId));
+    }
+
+    /**
+     * 키셋(커서) 방식 레시피 피드: 커서 위치부터 인덱스를 따라 읽으므로 깊은 페이지도 첫 페이지와 비용이 같습니다.
+     */
+    public CursorResponse<RecipeSummaryResponse> getRecipeFeed(RecipeFeedSort sort, String cursor, int size) {
+        CursorResponse.validateSize(size);
+        CursorToken token = CursorToken.decodeOrDescendingStart(cursor);
+        Limit limit = Limit.of(size + 1);
+
+        return switch (sort) {
+            case LATEST -> toRecipeCursor(recipeRepository.findLatestRecipeRowsBefore(
+                    token.sortKeyAsDateTime(), token.getId(), limit), size, row -> CursorToken.of(row.getCreatedAt(), row.getId()));
+            case POPULAR -> toRecipeCursor(recipeRepository.findPopularRecipeRowsBefore(
+                    token.sortKeyAsInt(), token.getId(), limit), size, row -> CursorToken.of(row.getLikeCount(), row.getId()));
+            case MOST_USED -> toRecipeCursor(recipeRepository.findMostUsedRecipeRowsBefore(
+                    token.sortKeyAsInt(), token.getId(), limit), size, row -> CursorToken.of(row.getUseCount(), row.getId()));
+            case HOT -> toRecipeCursor(recipeRepository.findHotRecipeRowsBefore(
+                    token.sortKeyAsDouble(), token.getId(), limit), size, row -> CursorToken.of(row.getHotScore(), row.getId()));
+        };
+    }
+
+    public CursorResponse<RecipeSummaryResponse> getRecipeFeedByCategory(RecipeCategory category, String cursor, int size) {
+        CursorResponse.validateSize(size);
+        CursorToken token = CursorToken.decodeOrDescendingStart(cursor);
+        return toRecipeCursor(recipeRepository.findRowsByCategoryBefore(
+                category, token.sortKeyAsDateTime(), token.getId(), Limit.of(size + 1)),
+                size, row -> CursorToken.of(row.getCreatedAt(), row.getId()));
+    }
+
+    /**
+     * 적합 모델로 연결된 레시피 피드: 모델-레시피 연결 색인을 최신순(레시피 ID 내림차순)으로 읽습니다.
+     * 정렬 키가 레시피 ID이므로 커서의 정렬 키에도 ID를 넣습니다.
+     */
+    public CursorResponse<RecipeSummaryResponse> getRecipeFeedByModel(Long modelId, String cursor, int size) {
+        CursorResponse.validateSize(size);
+        CursorToken token = CursorToken.decodeOrDescendingStart(cursor);
+        List<Long> recipeIds = recipeModelLinkService.findRecipeIds(modelId, token.getId(), size + 1);
+        return toRecipeCursor(PageUtil.fetchByIds(recipeIds, recipeRepository::findRowsByIdIn, RecipeRow::getId),
+                size, row -> CursorToken.of(row.getId(), row.getId()));
+    }
+
+    public CursorResponse<RecipeSummaryResponse> getRecipeFeedByAuthor(Long authorId, String cursor, int size) {
+        CursorResponse.validateSize(size);
+        CursorToken token = CursorToken.decodeOrDescendingStart(cursor);
+        return toRecipeCursor(recipeRepository.findRowsByAuthorIdBefore(
+                authorId, token.sortKeyAsDateTime(), token.getId(), Limit.of(size + 1)),
+                size, row -> CursorToken.of(row.getCreatedAt(), row.getId()));
+    }
+
+    private PageResponse<RecipeSummaryResponse> toRecipePage(Slice<RecipeRow> rows, CountMode countMode,
+                                                            String countKey, LongSupplier counter) {
+        return PageResponse.of(rows.map(toSummary(rows.getContent())), countMode,
+                counter, () -> countCache.get(countKey, counter));
+    }
+
+    // 검색어별 개수는 주기 갱신 캐시에 넣지 않고 짧은 TTL로만 재사용 (임의의 검색어로 갱신 대상 키가 늘어나지 않도록)
+    private PageResponse<RecipeSummaryResponse> toRecipeSearchPage(Slice<RecipeRow> rows, CountMode countMode,
+                                                                  String countKey, LongSupplier counter) {
+        return PageResponse.of(rows.map(toSummary(rows.getContent())), countMode,
+                counter, () -> countCache.getSearch(countKey, counter));
+    }
+
+    private PageResponse<RecipeSummaryResponse> toRecipePage(Page<RecipeRow> rows) {
+        return PageResponse.of(rows.map(toSummary(rows.getContent())));
+    }
+
+    private CursorResponse<RecipeSummaryResponse> toRecipeCursor(List<RecipeRow> rows, int size,
+                                                                Function<RecipeRow, CursorToken> cursorOf) {
+        return CursorResponse.of(rows, size, cursorOf, page -> page.stream().map(toSummary(page)).toList());
+    }
+
+    /**
+     * 페이지에 포함된 레시피들의 태그/적합 모델을 배치 조회한 뒤, 목록 행을 카드 응답으로 변환하는 함수를 반환합니다.
+     */
+    private Function<RecipeRow, RecipeSummaryResponse> toSummary(List<RecipeRow> rows) {
+        Map<Long, List<String>> tags = new HashMap<>();
+        Map<Long, List<String>> suitableModels = new HashMap<>();
+        if (!rows.isEmpty()) {
+            List<Long> recipeIds = rows.stream().map(RecipeRow::getId).toList();
+            tags = groupByRecipeId(recipeRepository.findTagsByRecipeIds(recipeIds));
+            suitableModels = groupByRecipeId(recipeRepository.findSuitableModelsByRecipeIds(recipeIds));
+        }
+
+        Map<Long, List<String>> tagsByRecipeId = tags;
+        Map<Long, List<String>> modelsByRecipeId = suitableModels;
+        return row -> RecipeSummaryResponse.of(row,
+                tagsByRecipeId.getOrDefault(row.getId(), List.of()), modelsByRecipeId.getOrDefault(row.getId(), List.of()));
+    }
+
+    private static Map<Long, List<String>> groupByRecipeId(List<RecipeValue> values) {
+        Map<Long, List<String>> grouped = new HashMap<>();
+        values.forEach(value ->
+                grouped.computeIfAbsent(value.getRecipeId(), key -> new ArrayList<>()).add(value.getValue()));
+        return grouped;
+    }
+
+    /**
+     * MinHash 색인에서 태그/제목/적합 모델이 비슷한 레시피를 찾아 유사도순으로 반환합니다.
+     */
+    public List<RecipeSummaryResponse> getRelatedRecipes(Long id, int size) {
+        if (size < 1 || size > MAX_RELATED_SIZE) {
+            throw new IllegalArgumentException("조회 개수는 1 이상 " + MAX_RELATED_SIZE + " 이하여야 합니다");
+        }
+        recipeRepository.findActiveUpdatedAtById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("레시피", "id", id));
+
+        List<RecipeRow> rows = PageUtil.fetchByIds(relatedRecipeService.findRelatedIds(id, size),
+                recipeRepository::findRowsByIdIn, RecipeRow::getId);
+        return rows.stream().map(toSummary(rows)).toList();
+    }
+
+    public PageResponse<RecipeSummaryResponse> getRecipesByDifficulty(Integer difficulty, Pageable pageable) {
+        return toRecipePage(recipeRepository.findRowsByDifficultyLevel(difficulty, pageable));
     }
 
-    @Transactional
     public RecipeResponse getRecipe(Long id) {
         Recipe recipe = recipeRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("레시피", "id", id));
@@ -127,8 +259,8 @@ public class RecipeService {
         recipe.getTags().size();
         recipe.getSuitableModels().size();
         
-        // 조회수 증가
-        recipe.incrementViewCount();
+        // 조회수 증가 (버퍼에 모았다가 주기적으로 반영하므로 읽기 전용 트랜잭션으로 처리)
+        counterWriteBuffer.increment(BufferedCounter.RECIPE_VIEW_COUNT, id);
         
         // 현재 사용자의 좋아요/북마크 상태 확인
         boolean isLiked = false;
@@ -149,7 +281,7 @@ public class RecipeService {
             log.debug("User not authenticated, returning default interaction states");
         }
         
-        return RecipeResponse.of(recipe, isLiked, isBookmarked);
+        return withPendingCounts(RecipeResponse.of(recipe, isLiked, isBookmarked));
     }
 
     @Transactional
@@ -173,8 +305,14 @@ public class RecipeService {
                 .difficultyLevel(request.getDifficultyLevel())
                 .estimatedTimeMinutes(request.getEstimatedTimeMinutes())
                 .build();
+        duplicateDetector.inspect(recipe);
 
         Recipe savedRecipe = recipeRepository.save(recipe);
+        tagService.replaceTags(TagTargetType.RECIPE, savedRecipe.getId(), savedRecipe.getTags());
+        recipeModelLinkService.replaceLinks(savedRecipe.getId(), savedRecipe.getSuitableModels());
+        relatedRecipeService.updateSignature(savedRecipe.getId(), savedRecipe.getTitle(),
+                savedRecipe.getTags(), savedRecipe.getSuitableModels());
+        eventPublisher.publishEvent(new RankingSignalChangedEvent(HotScoreTarget.RECIPE, List.of(savedRecipe.getId())));
 
         log.info("레시피가 생성되었습니다: {} by {}", savedRecipe.getId(), author.getNickname());
         return RecipeResponse.of(savedRecipe);
@@ -208,8 +346,13 @@ public class RecipeService {
                 request.getDifficultyLevel(),
                 request.getEstimatedTimeMinutes()
         );
+        duplicateDetector.inspect(recipe);
 
         Recipe savedRecipe = recipeRepository.save(recipe);
+        tagService.replaceTags(TagTargetType.RECIPE, savedRecipe.getId(), savedRecipe.getTags());
+        recipeModelLinkService.replaceLinks(savedRecipe.getId(), savedRecipe.getSuitableModels());
+        relatedRecipeService.updateSignature(savedRecipe.getId(), savedRecipe.getTitle(),
+                savedRecipe.getTags(), savedRecipe.getSuitableModels());
 
         log.info("레시피가 수정되었습니다: {}", savedRecipe.getId());
         return RecipeResponse.of(savedRecipe);
@@ -228,11 +371,15 @@ public class RecipeService {
         // 레시피 비활성화
         recipe.deactivate();
         recipeRepository.save(recipe);
+        tagService.removeTags(TagTargetType.RECIPE, id);
+        templateCache.evict(id);
+        recipeModelLinkService.removeLinks(id);
+        relatedRecipeService.removeSignature(id);
 
         log.info("레시피가 삭제되었습니다: {}", id);
     }
 
-    @Transactional
+    // 사용수 증가: 엔티티를 수정하지 않고 버퍼에 모아 증분 UPDATE로 반영하므로 동시 요청에도 증가분이 유실되지 않습니다
     public RecipeResponse incrementUseCount(Long id) {
         Recipe recipe = recipeRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("레시피", "id", id));
@@ -241,10 +388,36 @@ public class RecipeService {
             throw new ResourceNotFoundException("레시피", "id", id);
         }
         
-        recipe.incrementUseCount();
-        recipeRepository.save(recipe);
+        counterWriteBuffer.increment(BufferedCounter.RECIPE_USE_COUNT, id);
         
-        return RecipeResponse.of(recipe);
+        return withPendingCounts(RecipeResponse.of(recipe));
+    }
+
+    // 템플릿 렌더링: 컴파일된 템플릿을 (ID, 수정 시각) 기준으로 재사용하고, 렌더링 1회를 사용 1회로 집계합니다
+    public RenderedPromptResponse renderRecipe(Long id, RenderRecipeRequest request) {
+        LocalDateTime updatedAt = recipeRepository.findActiveUpdatedAtById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("레시피", "id", id));
+
+        CompiledPromptTemplate template = templateCache.get(id, updatedAt, () ->
+                recipeRepository.findPromptTemplateById(id)
+                        .orElseThrow(() -> new ResourceNotFoundException("레시피", "id", id)));
+
+        String prompt = template.render(request == null ? null : request.getVariables());
+        counterWriteBuffer.increment(BufferedCounter.RECIPE_USE_COUNT, id);
+
+        return RenderedPromptResponse.builder()
+                .recipeId(id)
+                .prompt(prompt)
+                .variables(new ArrayList<>(template.variables().keySet()))
+                .requiredVariables(template.requiredVariables())
+                .build();
+    }
+
+    private RecipeResponse withPendingCounts(RecipeResponse response) {
+        Long id = response.getId();
+        return response.withCounts(
+                response.getViewCount() + (int) counterWriteBuffer.pending(BufferedCounter.RECIPE_VIEW_COUNT, id),
+                response.getUseCount() + (int) counterWriteBuffer.pending(BufferedCounter.RECIPE_USE_COUNT, id));
     }
 }
 
@@ -0,0 +1,196 @@
+package com.example.aq.app.recipe.service;
+
+import com.example.aq.app.recipe.dto.RecipeValue;
+import com.example.aq.app.recipe.event.RecipeSignatureChangedEvent;
+import com.example.aq.app.recipe.repository.RecipeRepository;
+import com.example.aq.common.search.MinHashLshIndex;
+import com.example.aq.common.search.NgramIndex;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 태그, 제목 shingle, 적합 모델을 특징으로 한 MinHash 서명 기반 관련 레시피 색인
+ * 서명은 레시피 작성/수정 시 계산해 커밋 이후 색인에 반영하고, 시작 시에는 ID 청크 단위로 병렬 적재합니다.
+ * 적재 중 실시간으로 반영(추가/수정/삭제)된 레시피는 기록해 두고 적재에서 건너뛰므로, 먼저 읽은 오래된 값이나 삭제된 레시피가 다시 들어가지 않습니다.
+ */
+@Service
+@Slf4j
+public class RelatedRecipeService {
+
+    private static final int SHINGLE_SIZE = 3;
+
+    private final RecipeRepository recipeRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ExecutorService executor;
+    private final MinHashLshIndex index;
+    private final Object backfillLock = new Object();
+    private Set<Long> backfillTouched; // 적재 중 실시간 반영된 레시피 ID (적재 중이 아니면 null, backfillLock으로 보호)
+
+    @Value("${app.recipe.related.min-similarity:0.2}")
+    private double minSimilarity;
+
+    @Value("${app.recipe.related.backfill-chunk-size:1000}")
+    private int backfillChunkSize;
+
+    public RelatedRecipeService(RecipeRepository recipeRepository,
+                                ApplicationEventPublisher eventPublisher,
+                                PlatformTransactionManager transactionManager,
+                                @Value("${app.recipe.related.bands:16}") int bands,
+                                @Value("${app.recipe.related.rows:4}") int rows,
+                                @Value("${app.recipe.related.backfill-parallelism:4}") int parallelism) {
+        this.recipeRepository = recipeRepository;
+        this.eventPublisher = eventPublisher;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.readOnlyTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.executor = Executors.newFixedThreadPool(parallelism);
+        this.index = new MinHashLshIndex(bands, rows);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    /**
+     * 활성 레시피의 제목을 ID 순 청크로 읽고, 청크별 태그/적합 모델 조회와 서명 계산은 병렬로 처리합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        long start = System.currentTimeMillis();
+        synchronized (backfillLock) {
+            backfillTouched = new HashSet<>();
+        }
+        try {
+            List<CompletableFuture<Void>> futures = new ArrayList<>();
+            long afterId = 0L;
+            while (true) {
+                long cursor = afterId;
+                List<RecipeValue> titles = readOnlyTransaction.execute(status ->
+                        recipeRepository.findActiveTitlesAfter(cursor, Limit.of(backfillChunkSize)));
+                if (titles.isEmpty()) {
+                    break;
+                }
+                futures.add(CompletableFuture.runAsync(() -> indexChunk(titles), executor));
+                afterId = titles.get(titles.size() - 1).getRecipeId();
+            }
+
+            futures.forEach(CompletableFuture::join);
+        } finally {
+            synchronized (backfillLock) {
+                backfillTouched = null;
+            }
+        }
+        log.info("관련 레시피 색인이 생성되었습니다: {}건 ({}ms)", index.size(), System.currentTimeMillis() - start);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onSignatureChanged(RecipeSignatureChangedEvent event) {
+        synchronized (backfillLock) {
+            if (backfillTouched != null) {
+                backfillTouched.add(event.getRecipeId());
+            }
+            if (event.getSignature() == null) {
+                index.remove(event.getRecipeId());
+            } else {
+                index.put(event.getRecipeId(), event.getSignature());
+            }
+        }
+    }
+
+    /**
+     * 레시피 작성/수정 시 서명을 계산합니다. 색인에는 트랜잭션 커밋 이후 반영됩니다.
+     */
+    public void updateSignature(Long recipeId, String title, Collection<String> tags, Collection<String> suitableModels) {
+        long[] signature = index.signature(features(title, tags, suitableModels));
+        eventPublisher.publishEvent(new RecipeSignatureChangedEvent(recipeId, signature));
+    }
+
+    public void removeSignature(Long recipeId) {
+        eventPublisher.publishEvent(new RecipeSignatureChangedEvent(recipeId, null));
+    }
+
+    /**
+     * 추정 유사도 내림차순의 관련 레시피 ID 목록
+     */
+    public List<Long> findRelatedIds(Long recipeId, int limit) {
+        return index.similar(recipeId, limit, minSimilarity);
+    }
+
+    private void indexChunk(List<RecipeValue> titles) {
+        List<Long> recipeIds = titles.stream().map(RecipeValue::getRecipeId).toList();
+        Map<Long, List<String>> tags = new HashMap<>();
+        Map<Long, List<String>> suitableModels = new HashMap<>();
+        readOnlyTransaction.executeWithoutResult(status -> {
+            recipeRepository.findTagsByRecipeIds(recipeIds).forEach(value ->
+                    tags.computeIfAbsent(value.getRecipeId(), key -> new ArrayList<>()).add(value.getValue()));
+            recipeRepository.findSuitableModelsByRecipeIds(recipeIds).forEach(value ->
+                    suitableModels.computeIfAbsent(value.getRecipeId(), key -> new ArrayList<>()).add(value.getValue()));
+        });
+
+        for (RecipeValue title : titles) {
+            Long recipeId = title.getRecipeId();
+            long[] signature = index.signature(features(title.getValue(),
+                    tags.getOrDefault(recipeId, List.of()), suitableModels.getOrDefault(recipeId, List.of())));
+            if (signature == null) {
+                continue;
+            }
+            synchronized (backfillLock) {
+                if (backfillTouched == null || !backfillTouched.contains(recipeId)) {
+                    index.put(recipeId, signature);
+                }
+            }
+        }
+    }
+
+    /**
+     * 특징 집합: 태그(t:), 제목의 문자 3-gram(s:), 적합 모델(m:)
+     * 접두어로 종류를 구분해 같은 문자열이라도 태그와 모델명이 서로 일치하지 않게 합니다.
+     */
+    static Set<String> features(String title, Collection<String> tags, Collection<String> suitableModels) {
+        Set<String> features = new HashSet<>();
+        addAll(features, "t:", tags);
+        addAll(features, "m:", suitableModels);
+
+        String normalized = NgramIndex.normalize(title);
+        if (normalized.length() <= SHINGLE_SIZE) {
+            if (!normalized.isEmpty()) {
+                features.add("s:" + normalized);
+            }
+        } else {
+            for (int i = 0; i + SHINGLE_SIZE <= normalized.length(); i++) {
+                features.add("s:" + normalized.substring(i, i + SHINGLE_SIZE));
+            }
+        }
+        return features;
+    }
+
+    private static void addAll(Set<String> features, String prefix, Collection<String> values) {
+        if (values == null) {
+            return;
+        }
+        for (String value : values) {
+            String normalized = NgramIndex.normalize(value);
+            if (!normalized.isEmpty()) {
+                features.add(prefix + normalized);
+            }
+        }
+    }
+}
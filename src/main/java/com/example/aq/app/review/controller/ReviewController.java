@@ -1,8 +1,15 @@
 package com.example.aq.app.review.controller;
 
 import com.example.aq.common.dto.BaseResponse;
+import com.example.aq.common.dto.CountMode;
+import com.example.aq.common.dto.PopularSort;
+import com.example.aq.common.search.SearchMode;
+import com.example.aq.common.dto.CursorResponse;
 import com.example.aq.common.dto.PageResponse;
 import com.example.aq.common.util.SecurityUtil;
+import com.example.aq.app.model.domain.FacetMatchMode;
+import com.example.aq.app.review.domain.ModelReviewSort;
+import com.example.aq.app.review.domain.ReviewFeedSort;
 import com.example.aq.app.review.dto.CreateReviewRequest;
 import com.example.aq.app.review.dto.ReviewResponse;
 import com.example.aq.app.review.dto.UpdateReviewRequest;
@@ -19,6 +26,8 @@ import org.springframework.data.domain.Sort;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @RestController
 @RequestMapping("/api/reviews")
 @RequiredArgsConstructor
@@ -32,21 +41,25 @@ public class ReviewController {
     @Operation(summary = "리뷰 목록 조회", description = "최신순으로 리뷰 목록을 조회합니다")
     public ResponseEntity<BaseResponse<PageResponse<ReviewResponse>>> getReviews(
             @Parameter(description = "페이지 번호 (0부터 시작)") @RequestParam(defaultValue = "0") int page,
-            @Parameter(description = "페이지 크기") @RequestParam(defaultValue = "20") int size) {
+            @Parameter(description = "페이지 크기") @RequestParam(defaultValue = "20") int size,
+            @Parameter(description = "전체 개수 계산 방식 (exact, none, approximate)") @RequestParam(defaultValue = "exact") String count) {
         
         Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "createdAt"));
-        PageResponse<ReviewResponse> response = reviewService.getReviews(pageable);
+        PageResponse<ReviewResponse> response = reviewService.getReviews(pageable, CountMode.from(count));
         return ResponseEntity.ok(BaseResponse.success(response));
     }
 
     @GetMapping("/popular")
-    @Operation(summary = "인기 리뷰 조회", description = "좋아요 수 기준으로 인기 리뷰를 조회합니다")
+    @Operation(summary = "인기 리뷰 조회", description = "누적 좋아요 수 또는 시간 감쇠 인기 점수 기준으로 인기 리뷰를 조회합니다")
     public ResponseEntity<BaseResponse<PageResponse<ReviewResponse>>> getPopularReviews(
+            @Parameter(description = "정렬 기준 (likes: 누적 좋아요순, hot: 시간 감쇠 인기순)") @RequestParam(defaultValue = "likes") String sort,
             @Parameter(description = "페이지 번호 (0부터 시작)") @RequestParam(defaultValue = "0") int page,
-            @Parameter(description = "페이지 크기") @RequestParam(defaultValue = "20") int size) {
+            @Parameter(description = "페이지 크기") @RequestParam(defaultValue = "20") int size,
+            @Parameter(description = "전체 개수 계산 방식 (exact, none, approximate)") @RequestParam(defaultValue = "exact") String count) {
         
-        Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "likeCount"));
-        PageResponse<ReviewResponse> response = reviewService.getPopularReviews(pageable);
+        PopularSort popularSort = PopularSort.from(sort);
+        Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, popularSort.getSortProperty()));
+        PageResponse<ReviewResponse> response = reviewService.getPopularReviews(popularSort, pageable, CountMode.from(count));
         return ResponseEntity.ok(BaseResponse.success(response));
     }
 
@@ -54,34 +67,54 @@ public class ReviewController {
     @Operation(summary = "높은 평점 리뷰 조회", description = "평점 기준으로 높은 평점 리뷰를 조회합니다")
     public ResponseEntity<BaseResponse<PageResponse<ReviewResponse>>> getTopRatedReviews(
             @Parameter(description = "페이지 번호 (0부터 시작)") @RequestParam(defaultValue = "0") int page,
-            @Parameter(description = "페이지 크기") @RequestParam(defaultValue = "20") int size) {
+            @Parameter(description = "페이지 크기") @RequestParam(defaultValue = "20") int size,
+            @Parameter(description = "전체 개수 계산 방식 (exact, none, approximate)") @RequestParam(defaultValue = "exact") String count) {
         
         Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "rating"));
-        PageResponse<ReviewResponse> response = reviewService.getTopRatedReviews(pageable);
+        PageResponse<ReviewResponse> response = reviewService.getTopRatedReviews(pageable, CountMode.from(count));
         return ResponseEntity.ok(BaseResponse.success(response));
     }
 
     @GetMapping("/search")
-    @Operation(summary = "리뷰 검색", description = "키워드로 리뷰를 검색합니다")
+    @Operation(summary = "리뷰 검색", description = "키워드로 리뷰를 검색합니다. keyword는 최신순 부분 일치, fulltext는 제목 > 태그 > 본문 가중치를 적용한 관련도순입니다")
     public ResponseEntity<BaseResponse<PageResponse<ReviewResponse>>> searchReviews(
             @Parameter(description = "검색 키워드") @RequestParam String keyword,
+            @Parameter(description = "검색 방식 (keyword, fulltext)") @RequestParam(defaultValue = "keyword") String mode,
             @Parameter(description = "페이지 번호 (0부터 시작)") @RequestParam(defaultValue = "0") int page,
-            @Parameter(description = "페이지 크기") @RequestParam(defaultValue = "20") int size) {
+            @Parameter(description = "페이지 크기") @RequestParam(defaultValue = "20") int size,
+            @Parameter(description = "전체 개수 계산 방식 (exact, none, approximate)") @RequestParam(defaultValue = "exact") String count) {
         
         Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "createdAt"));
-        PageResponse<ReviewResponse> response = reviewService.searchReviews(keyword, pageable);
+        PageResponse<ReviewResponse> response = reviewService.searchReviews(keyword, SearchMode.from(mode), pageable,
+                CountMode.from(count));
+        return ResponseEntity.ok(BaseResponse.success(response));
+    }
+
+    @GetMapping("/tags")
+    @Operation(summary = "태그별 리뷰 조회", description = "태그 색인으로 리뷰를 최신순 조회합니다. AND는 모든 태그, OR는 하나 이상의 태그를 가진 리뷰를 찾습니다")
+    public ResponseEntity<BaseResponse<PageResponse<ReviewResponse>>> getReviewsByTags(
+            @Parameter(description = "태그 목록") @RequestParam List<String> tags,
+            @Parameter(description = "태그 결합 방식 (AND, OR)") @RequestParam(defaultValue = "AND") FacetMatchMode match,
+            @Parameter(description = "페이지 번호 (0부터 시작)") @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "페이지 크기") @RequestParam(defaultValue = "20") int size) {
+
+        PageResponse<ReviewResponse> response = reviewService.getReviewsByTags(tags, match, PageRequest.of(page, size));
         return ResponseEntity.ok(BaseResponse.success(response));
     }
 
     @GetMapping("/model/{modelId}")
-    @Operation(summary = "모델별 리뷰 조회", description = "특정 AI 모델의 리뷰를 조회합니다")
+    @Operation(summary = "모델별 리뷰 조회", description = "특정 AI 모델의 리뷰를 최신순 또는 도움순(조회 대비 좋아요 비율의 Wilson 신뢰 하한)으로 조회합니다")
     public ResponseEntity<BaseResponse<PageResponse<ReviewResponse>>> getReviewsByModel(
             @Parameter(description = "모델 ID") @PathVariable Long modelId,
+            @Parameter(description = "정렬 기준 (latest, helpful)") @RequestParam(defaultValue = "latest") String sort,
             @Parameter(description = "페이지 번호 (0부터 시작)") @RequestParam(defaultValue = "0") int page,
-            @Parameter(description = "페이지 크기") @RequestParam(defaultValue = "20") int size) {
+            @Parameter(description = "페이지 크기") @RequestParam(defaultValue = "20") int size,
+            @Parameter(description = "전체 개수 계산 방식 (exact, none, approximate)") @RequestParam(defaultValue = "exact") String count) {
         
-        Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "createdAt"));
-        PageResponse<ReviewResponse> response = reviewService.getReviewsByModel(modelId, pageable);
+        ModelReviewSort reviewSort = ModelReviewSort.from(sort);
+        Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, reviewSort.getSortProperty()));
+        PageResponse<ReviewResponse> response = reviewService.getReviewsByModel(modelId, reviewSort, pageable,
+                CountMode.from(count));
         return ResponseEntity.ok(BaseResponse.success(response));
     }
 
@@ -90,10 +123,45 @@ public class ReviewController {
     public ResponseEntity<BaseResponse<PageResponse<ReviewResponse>>> getReviewsByUser(
             @Parameter(description = "사용자 ID") @PathVariable Long userId,
             @Parameter(description = "페이지 번호 (0부터 시작)") @RequestParam(defaultValue = "0") int page,
-            @Parameter(description = "페이지 크기") @RequestParam(defaultValue = "20") int size) {
+            @Parameter(description = "페이지 크기") @RequestParam(defaultValue = "20") int size,
+            @Parameter(description = "전체 개수 계산 방식 (exact, none, approximate)") @RequestParam(defaultValue = "exact") String count) {
         
         Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "createdAt"));
-        PageResponse<ReviewResponse> response = reviewService.getReviewsByAuthor(userId, pageable);
+        PageResponse<ReviewResponse> response = reviewService.getReviewsByAuthor(userId, pageable, CountMode.from(count));
+        return ResponseEntity.ok(BaseResponse.success(response));
+    }
+
+    @GetMapping("/cursor")
+    @Operation(summary = "리뷰 피드 (커서)",
+               description = "커서 기반으로 리뷰 목록을 조회합니다. 전체 개수를 세지 않아 깊은 페이지도 첫 페이지와 같은 비용으로 조회됩니다")
+    public ResponseEntity<BaseResponse<CursorResponse<ReviewResponse>>> getReviewFeed(
+            @Parameter(description = "정렬 기준 (latest, popular, top-rated, hot)") @RequestParam(defaultValue = "latest") String sort,
+            @Parameter(description = "이전 응답의 nextCursor (생략하면 첫 페이지)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "조회 개수 (최대 100)") @RequestParam(defaultValue = "20") int size) {
+
+        CursorResponse<ReviewResponse> response = reviewService.getReviewFeed(ReviewFeedSort.from(sort), cursor, size);
+        return ResponseEntity.ok(BaseResponse.success(response));
+    }
+
+    @GetMapping("/model/{modelId}/cursor")
+    @Operation(summary = "모델별 리뷰 피드 (커서)", description = "특정 AI 모델의 리뷰를 커서 기반으로 최신순 조회합니다")
+    public ResponseEntity<BaseResponse<CursorResponse<ReviewResponse>>> getReviewFeedByModel(
+            @Parameter(description = "모델 ID") @PathVariable Long modelId,
+            @Parameter(description = "이전 응답의 nextCursor (생략하면 첫 페이지)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "조회 개수 (최대 100)") @RequestParam(defaultValue = "20") int size) {
+
+        CursorResponse<ReviewResponse> response = reviewService.getReviewFeedByModel(modelId, cursor, size);
+        return ResponseEntity.ok(BaseResponse.success(response));
+    }
+
+    @GetMapping("/user/{userId}/cursor")
+    @Operation(summary = "사용자별 리뷰 피드 (커서)", description = "특정 사용자가 작성한 리뷰를 커서 기반으로 최신순 조회합니다")
+    public ResponseEntity<BaseResponse<CursorResponse<ReviewResponse>>> getReviewFeedByUser(
+            @Parameter(description = "사용자 ID") @PathVariable Long userId,
+            @Parameter(description = "이전 응답의 nextCursor (생략하면 첫 페이지)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "조회 개수 (최대 100)") @RequestParam(defaultValue = "20") int size) {
+
+        CursorResponse<ReviewResponse> response = reviewService.getReviewFeedByAuthor(userId, cursor, size);
         return ResponseEntity.ok(BaseResponse.success(response));
     }
 
@@ -0,0 +1,27 @@
+package com.example.aq.app.review.domain;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Locale;
+
+/**
+ * 모델별 리뷰 목록 정렬 기준
+ */
+@Getter
+@RequiredArgsConstructor
+public enum ModelReviewSort {
+    LATEST("최신순", "createdAt"),
+    HELPFUL("도움순 (조회 대비 좋아요 비율의 Wilson 신뢰 하한)", "helpfulScore");
+
+    private final String description;
+    private final String sortProperty;
+
+    public static ModelReviewSort from(String value) {
+        try {
+            return ModelReviewSort.valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("지원하지 않는 리뷰 정렬 기준입니다: " + value);
+        }
+    }
+}
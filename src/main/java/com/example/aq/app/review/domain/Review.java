@@ -17,7 +17,16 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "reviews")
+@Table(name = "reviews",
+       indexes = {
+           @Index(name = "idx_reviews_active_created_at_id", columnList = "active, created_at, id"),
+           @Index(name = "idx_reviews_active_like_count_id", columnList = "active, like_count, id"),
+           @Index(name = "idx_reviews_active_rating_id", columnList = "active, rating, id"),
+           @Index(name = "idx_reviews_active_hot_score_id", columnList = "active, hot_score, id"),
+           @Index(name = "idx_reviews_model_active_created_at_id", columnList = "model_id, active, created_at, id"),
+           @Index(name = "idx_reviews_model_active_helpful_score_id", columnList = "model_id, active, helpful_score, id"),
+           @Index(name = "idx_reviews_author_active_created_at_id", columnList = "author_id, active, created_at, id")
+       })
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @EntityListeners(AuditingEntityListener.class)
@@ -81,6 +90,14 @@ public class Review {
     @Column(name = "comment_count", nullable = false)
     private Integer commentCount = 0;
 
+    // 시간 감쇠 인기 점수: HotScoreService가 SQL로만 갱신하므로 엔티티 저장 시에는 덮어쓰지 않음
+    @Column(name = "hot_score", nullable = false, updatable = false)
+    private Double hotScore = 0.0;
+
+    // 조회수 대비 좋아요 비율의 Wilson 신뢰 하한: HelpfulScoreService가 SQL로만 갱신
+    @Column(name = "helpful_score", nullable = false, updatable = false)
+    private Double helpfulScore = 0.0;
+
     @Column(name = "is_featured", nullable = false)
     private Boolean isFeatured = false;
 
@@ -131,10 +148,6 @@ public class Review {
         this.screenshotUrl = screenshotUrl;
     }
 
-    public void incrementViewCount() {
-        this.viewCount++;
-    }
-
     public void incrementLikeCount() {
         this.likeCount++;
     }
@@ -0,0 +1,25 @@
+package com.example.aq.app.review.domain;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Locale;
+
+@Getter
+@RequiredArgsConstructor
+public enum ReviewFeedSort {
+    LATEST("최신순"),
+    POPULAR("좋아요순"),
+    TOP_RATED("평점순"),
+    HOT("시간 감쇠 인기순");
+
+    private final String description;
+
+    public static ReviewFeedSort from(String value) {
+        try {
+            return ReviewFeedSort.valueOf(value.trim().replace('-', '_').toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("지원하지 않는 리뷰 정렬 기준입니다: " + value);
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.example.aq.app.review.dto;
+
+/**
+ * 모델별 활성 리뷰 수 집계 결과 (GROUP BY 프로젝션)
+ */
+public interface ModelReviewCount {
+    Long getModelId();
+
+    Long getReviewCount();
+}
@@ -34,7 +34,7 @@ public class ReviewResponse {
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 
-    @Builder
+    @Builder(toBuilder = true)
     public ReviewResponse(Long id, Long modelId, String modelName, String modelProvider,
                          Long authorId, String authorNickname, String authorProfileImage,
                          String title, String content, Integer rating, String useCase,
@@ -96,4 +96,36 @@ public class ReviewResponse {
                 .updatedAt(review.getUpdatedAt())
                 .build();
     }
+
+    public static ReviewResponse of(ReviewRow row, List<String> tags) {
+        return ReviewResponse.builder()
+                .id(row.getId())
+                .modelId(row.getModelId())
+                .modelName(row.getModelName())
+                .modelProvider(row.getModelProvider())
+                .authorId(row.getAuthorId())
+                .authorNickname(row.getAuthorNickname())
+                .authorProfileImage(row.getAuthorProfileImage())
+                .title(row.getTitle())
+                .content(row.getContent())
+                .rating(row.getRating())
+                .useCase(row.getUseCase())
+                .inputExample(row.getInputExample())
+                .outputExample(row.getOutputExample())
+                .tags(tags)
+                .screenshotUrl(row.getScreenshotUrl())
+                .viewCount(row.getViewCount())
+                .likeCount(row.getLikeCount())
+                .commentCount(row.getCommentCount())
+                .isLiked(false)
+                .isBookmarked(false)
+                .createdAt(row.getCreatedAt())
+                .updatedAt(row.getUpdatedAt())
+                .build();
+    }
+
+    // 아직 DB에 반영되지 않은 조회수 증분을 더한 응답
+    public ReviewResponse withViewCount(Integer viewCount) {
+        return toBuilder().viewCount(viewCount).build();
+    }
 }
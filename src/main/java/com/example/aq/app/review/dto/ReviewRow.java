@@ -0,0 +1,61 @@
+package com.example.aq.app.review.dto;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 리뷰 목록용 JPQL 생성자 프로젝션 (리뷰 + 모델 + 작성자 스칼라 값을 한 번의 조인 쿼리로 조회)
+ * 태그는 컬렉션이므로 포함하지 않고 별도의 배치 쿼리로 조회합니다.
+ */
+@Getter
+public class ReviewRow {
+    private final Long id;
+    private final Long modelId;
+    private final String modelName;
+    private final String modelProvider;
+    private final Long authorId;
+    private final String authorNickname;
+    private final String authorProfileImage;
+    private final String title;
+    private final String content;
+    private final Integer rating;
+    private final String useCase;
+    private final String inputExample;
+    private final String outputExample;
+    private final String screenshotUrl;
+    private final Integer viewCount;
+    private final Integer likeCount;
+    private final Integer commentCount;
+    private final Double hotScore;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime updatedAt;
+
+    public ReviewRow(Long id, Long modelId, String modelName, String modelProvider,
+                     Long authorId, String authorNickname, String authorProfileImage,
+                     String title, String content, Integer rating, String useCase,
+                     String inputExample, String outputExample, String screenshotUrl,
+                     Integer viewCount, Integer likeCount, Integer commentCount, Double hotScore,
+                     LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this.id = id;
+        this.modelId = modelId;
+        this.modelName = modelName;
+        this.modelProvider = modelProvider;
+        this.authorId = authorId;
+        this.authorNickname = authorNickname;
+        this.authorProfileImage = authorProfileImage;
+        this.title = title;
+        this.content = content;
+        this.rating = rating;
+        this.useCase = useCase;
+        this.inputExample = inputExample;
+        this.outputExample = outputExample;
+        this.screenshotUrl = screenshotUrl;
+        this.viewCount = viewCount;
+        this.likeCount = likeCount;
+        this.commentCount = commentCount;
+        this.hotScore = hotScore;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+    }
+}
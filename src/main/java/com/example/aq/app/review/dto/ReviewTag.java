@@ -0,0 +1,10 @@
+package com.example.aq.app.review.dto;
+
+/**
+ * 리뷰 ID별 태그 (배치 조회 프로젝션)
+ */
+public interface ReviewTag {
+    Long getReviewId();
+
+    String getTag();
+}
@@ -2,24 +2,59 @@ package com.example.aq.app.review.repository;
 
 import com.example.aq.app.model.domain.AIModel;
 import com.example.aq.app.review.domain.Review;
+import com.example.aq.app.review.dto.ModelReviewCount;
+import com.example.aq.app.review.dto.ReviewRow;
+import com.example.aq.app.review.dto.ReviewTag;
 import com.example.aq.app.user.domain.User;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface ReviewRepository extends JpaRepository<Review, Long> {
+
+    // 목록 조회용 프로젝션: 리뷰, 모델, 작성자를 한 번에 조인해 스칼라 값만 조회
+    String REVIEW_ROW_SELECT = "SELECT new com.example.aq.app.review.dto.ReviewRow(" +
+            "r.id, m.id, m.name, m.provider, a.id, a.nickname, a.profileImageUrl, " +
+            "r.title, r.content, r.rating, r.useCase, r.inputExample, r.outputExample, r.screenshotUrl, " +
+            "r.viewCount, r.likeCount, r.commentCount, r.hotScore, r.createdAt, r.updatedAt) " +
+            "FROM Review r JOIN r.model m JOIN r.author a ";
+
+    // 키워드 검색 조건 (목록/개수 쿼리 공용)
+    String REVIEW_KEYWORD_CONDITION = "(LOWER(r.title) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
+            "LOWER(r.content) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
+            "LOWER(r.useCase) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
+            "EXISTS (SELECT t FROM r.tags t WHERE LOWER(t) LIKE LOWER(CONCAT('%', :keyword, '%'))))";
+
+    // FULLTEXT 검색 (네이티브): 제목, 본문(content, use_case), 태그 중 하나라도 일치하는 리뷰
+    String REVIEW_FULLTEXT_FROM = "FROM reviews r " +
+            "LEFT JOIN (SELECT tl.target_id, MAX(MATCH(t.normalized_name) AGAINST(:query)) AS score " +
+            "FROM tag_links tl JOIN tags t ON t.id = tl.tag_id " +
+            "WHERE tl.target_type = 'REVIEW' AND MATCH(t.normalized_name) AGAINST(:query) " +
+            "GROUP BY tl.target_id) ts ON ts.target_id = r.id " +
+            "WHERE r.active = true AND (MATCH(r.title) AGAINST(:query) " +
+            "OR MATCH(r.content, r.use_case) AGAINST(:query) OR ts.target_id IS NOT NULL) ";
     
     @Query("SELECT r FROM Review r WHERE r.id = :id")
     Optional<Review> findById(@Param("id") Long id);
+
+    // 수정/삭제용: 활성 리뷰만 행 잠금과 함께 조회 (동시 삭제가 리뷰 수/평점 합계를 두 번 감소시키지 않도록 직렬화)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT r FROM Review r WHERE r.id = :id AND r.active = true")
+    Optional<Review> findActiveByIdForUpdate(@Param("id") Long id);
     
     @Query("SELECT r FROM Review r WHERE r.active = true")
     Page<Review> findAllActive(Pageable pageable);
@@ -52,6 +87,105 @@ public interface ReviewRepository extends JpaRepository<Review, Long> {
            "EXISTS (SELECT t FROM r.tags t WHERE LOWER(t) LIKE LOWER(CONCAT('%', :keyword, '%'))))")
     Page<Review> searchReviews(@Param("keyword") String keyword, Pageable pageable);
     
+    // 목록은 Slice로 조회하여 COUNT 쿼리를 생략하고, 전체 개수가 필요하면 아래 count* 쿼리를 별도로 실행
+    @Query(REVIEW_ROW_SELECT + "WHERE r.active = true")
+    Slice<ReviewRow> findLatestReviewRows(Pageable pageable);
+
+    @Query(REVIEW_ROW_SELECT + "WHERE r.active = true ORDER BY r.likeCount DESC")
+    Slice<ReviewRow> findPopularReviewRows(Pageable pageable);
+
+    @Query(REVIEW_ROW_SELECT + "WHERE r.active = true ORDER BY r.rating DESC")
+    Slice<ReviewRow> findTopRatedReviewRows(Pageable pageable);
+
+    @Query(REVIEW_ROW_SELECT + "WHERE r.active = true ORDER BY r.hotScore DESC, r.id DESC")
+    Slice<ReviewRow> findHotReviewRows(Pageable pageable);
+
+    @Query(REVIEW_ROW_SELECT + "WHERE r.active = true AND m.id = :modelId")
+    Slice<ReviewRow> findRowsByModelId(@Param("modelId") Long modelId, Pageable pageable);
+
+    @Query(REVIEW_ROW_SELECT + "WHERE r.active = true AND m.id = :modelId ORDER BY r.helpfulScore DESC, r.id DESC")
+    Slice<ReviewRow> findRowsByModelIdOrderByHelpful(@Param("modelId") Long modelId, Pageable pageable);
+
+    @Query(REVIEW_ROW_SELECT + "WHERE r.active = true AND a.id = :authorId")
+    Slice<ReviewRow> findRowsByAuthorId(@Param("authorId") Long authorId, Pageable pageable);
+
+    @Query(REVIEW_ROW_SELECT + "WHERE r.active = true AND " + REVIEW_KEYWORD_CONDITION)
+    Slice<ReviewRow> searchReviewRows(@Param("keyword") String keyword, Pageable pageable);
+
+    // 필드 가중치를 적용한 관련도 점수순 ID 슬라이스 (동점이면 최신 ID 우선)
+    @Query(value = "SELECT r.id " + REVIEW_FULLTEXT_FROM +
+                   "ORDER BY (:titleBoost * MATCH(r.title) AGAINST(:query) + " +
+                   ":tagBoost * COALESCE(ts.score, 0) + " +
+                   ":bodyBoost * MATCH(r.content, r.use_case) AGAINST(:query)) DESC, r.id DESC",
+           nativeQuery = true)
+    Slice<Long> searchIdsByFulltext(@Param("query") String query,
+                                    @Param("titleBoost") double titleBoost,
+                                    @Param("tagBoost") double tagBoost,
+                                    @Param("bodyBoost") double bodyBoost,
+                                    Pageable pageable);
+
+    @Query(value = "SELECT COUNT(*) " + REVIEW_FULLTEXT_FROM, nativeQuery = true)
+    long countFulltextSearch(@Param("query") String query);
+
+    @Query("SELECT COUNT(r) FROM Review r WHERE r.active = true")
+    long countActive();
+
+    @Query("SELECT COUNT(r) FROM Review r WHERE r.active = true AND r.model.id = :modelId")
+    long countActiveByModelId(@Param("modelId") Long modelId);
+
+    @Query("SELECT COUNT(r) FROM Review r WHERE r.active = true AND r.author.id = :authorId")
+    long countActiveByAuthorId(@Param("authorId") Long authorId);
+
+    @Query("SELECT COUNT(r) FROM Review r WHERE r.active = true AND " + REVIEW_KEYWORD_CONDITION)
+    long countSearch(@Param("keyword") String keyword);
+
+    // 키셋(커서) 페이지네이션: (정렬 키, id) 내림차순으로 커서 다음 행부터 limit개를 조회 (COUNT 쿼리 없음)
+    @Query(REVIEW_ROW_SELECT + "WHERE r.active = true AND " +
+           "(r.createdAt < :createdAt OR (r.createdAt = :createdAt AND r.id < :id)) " +
+           "ORDER BY r.createdAt DESC, r.id DESC")
+    List<ReviewRow> findLatestReviewRowsBefore(@Param("createdAt") LocalDateTime createdAt,
+                                               @Param("id") Long id, Limit limit);
+
+    @Query(REVIEW_ROW_SELECT + "WHERE r.active = true AND " +
+           "(r.likeCount < :likeCount OR (r.likeCount = :likeCount AND r.id < :id)) " +
+           "ORDER BY r.likeCount DESC, r.id DESC")
+    List<ReviewRow> findPopularReviewRowsBefore(@Param("likeCount") Integer likeCount,
+                                                @Param("id") Long id, Limit limit);
+
+    @Query(REVIEW_ROW_SELECT + "WHERE r.active = true AND " +
+           "(r.rating < :rating OR (r.rating = :rating AND r.id < :id)) " +
+           "ORDER BY r.rating DESC, r.id DESC")
+    List<ReviewRow> findTopRatedReviewRowsBefore(@Param("rating") Integer rating,
+                                                 @Param("id") Long id, Limit limit);
+
+    @Query(REVIEW_ROW_SELECT + "WHERE r.active = true AND " +
+           "(r.hotScore < :hotScore OR (r.hotScore = :hotScore AND r.id < :id)) " +
+           "ORDER BY r.hotScore DESC, r.id DESC")
+    List<ReviewRow> findHotReviewRowsBefore(@Param("hotScore") Double hotScore,
+                                            @Param("id") Long id, Limit limit);
+
+    @Query(REVIEW_ROW_SELECT + "WHERE r.active = true AND m.id = :modelId AND " +
+           "(r.createdAt < :createdAt OR (r.createdAt = :createdAt AND r.id < :id)) " +
+           "ORDER BY r.createdAt DESC, r.id DESC")
+    List<ReviewRow> findRowsByModelIdBefore(@Param("modelId") Long modelId,
+                                            @Param("createdAt") LocalDateTime createdAt,
+                                            @Param("id") Long id, Limit limit);
+
+    @Query(REVIEW_ROW_SELECT + "WHERE r.active = true AND a.id = :authorId AND " +
+           "(r.createdAt < :createdAt OR (r.createdAt = :createdAt AND r.id < :id)) " +
+           "ORDER BY r.createdAt DESC, r.id DESC")
+    List<ReviewRow> findRowsByAuthorIdBefore(@Param("authorId") Long authorId,
+                                             @Param("createdAt") LocalDateTime createdAt,
+                                             @Param("id") Long id, Limit limit);
+
+    // 태그 색인 등 ID 목록으로 찾은 리뷰를 한 번에 조회 (순서는 호출 측에서 맞춤)
+    @Query(REVIEW_ROW_SELECT + "WHERE r.active = true AND r.id IN :ids")
+    List<ReviewRow> findRowsByIdIn(@Param("ids") Collection<Long> ids);
+
+    // 페이지에 포함된 리뷰들의 태그를 한 번에 조회
+    @Query("SELECT r.id AS reviewId, t AS tag FROM Review r JOIN r.tags t WHERE r.id IN :reviewIds")
+    List<ReviewTag> findTagsByReviewIds(@Param("reviewIds") Collection<Long> reviewIds);
+
     @Query("SELECT r FROM Review r WHERE r.active = true AND r.isFeatured = true ORDER BY r.createdAt DESC")
     Page<Review> findFeaturedReviews(Pageable pageable);
     
@@ -61,9 +195,6 @@ public interface ReviewRepository extends JpaRepository<Review, Long> {
     @Query("SELECT r FROM Review r WHERE r.active = true AND r.rating >= :minRating")
     Page<Review> findByMinRating(@Param("minRating") Integer minRating, Pageable pageable);
     
-    @Query("SELECT r FROM Review r WHERE r.active = true AND r.tags LIKE %:tag%")
-    Page<Review> findByTag(@Param("tag") String tag, Pageable pageable);
-    
     @Query("SELECT r FROM Review r WHERE r.active = true AND r.model.provider = :provider")
     Page<Review> findByModelProvider(@Param("provider") String provider, Pageable pageable);
     
@@ -72,7 +203,15 @@ public interface ReviewRepository extends JpaRepository<Review, Long> {
     
     @Query("SELECT COUNT(r) FROM Review r WHERE r.active = true AND r.model = :model")
     Long countByModel(@Param("model") AIModel model);
-    
+
+    @Query("SELECT r.model.id AS modelId, COUNT(r) AS reviewCount FROM Review r " +
+           "WHERE r.active = true AND r.model.id IN :modelIds GROUP BY r.model.id")
+    List<ModelReviewCount> countByModelIds(@Param("modelIds") Collection<Long> modelIds);
+
+    @Query("SELECT r.model.id AS modelId, COUNT(r) AS reviewCount FROM Review r " +
+           "WHERE r.active = true GROUP BY r.model.id")
+    List<ModelReviewCount> countAllGroupByModel();
+
     @Query("SELECT AVG(r.rating) FROM Review r WHERE r.active = true AND r.model = :model")
     Double getAverageRatingByModel(@Param("model") AIModel model);
     
@@ -1,17 +1,38 @@
 package com.example.aq.app.review.service;
 
+import com.example.aq.common.cache.ApproximateCountCache;
+import com.example.aq.common.dto.CountMode;
+import com.example.aq.common.dto.PopularSort;
+import com.example.aq.common.dto.CursorResponse;
+import com.example.aq.common.dto.CursorToken;
 import com.example.aq.common.dto.PageResponse;
 import com.example.aq.common.exception.ResourceNotFoundException;
 import com.example.aq.common.exception.UnauthorizedException;
+import com.example.aq.common.search.FulltextSearchSupport;
+import com.example.aq.common.search.SearchMode;
+import com.example.aq.common.util.PageUtil;
 import com.example.aq.common.util.SecurityUtil;
+import com.example.aq.app.counter.domain.BufferedCounter;
+import com.example.aq.app.counter.service.CounterWriteBuffer;
 import com.example.aq.app.model.domain.AIModel;
+import com.example.aq.app.model.domain.FacetMatchMode;
+import com.example.aq.app.model.event.ModelChangedEvent;
 import com.example.aq.app.model.repository.AIModelRepository;
+import com.example.aq.app.model.repository.ModelRatingHistogramRepository;
+import com.example.aq.app.model.service.ModelRatingPrior;
+import com.example.aq.app.ranking.domain.HotScoreTarget;
+import com.example.aq.app.ranking.event.RankingSignalChangedEvent;
+import com.example.aq.app.review.domain.ModelReviewSort;
 import com.example.aq.app.review.domain.Review;
+import com.example.aq.app.review.domain.ReviewFeedSort;
 import com.example.aq.app.review.repository.ReviewRepository;
+import com.example.aq.app.tag.domain.TagTargetType;
+import com.example.aq.app.tag.service.TagService;
 import com.example.aq.app.user.domain.User;
 import com.example.aq.app.user.repository.UserRepository;
 import com.example.aq.app.review.dto.CreateReviewRequest;
 import com.example.aq.app.review.dto.ReviewResponse;
+import com.example.aq.app.review.dto.ReviewRow;
 import com.example.aq.app.review.dto.UpdateReviewRequest;
 import com.example.aq.app.interaction.repository.LikeRepository;
 import com.example.aq.app.interaction.repository.BookmarkRepository;
@@ -19,14 +40,22 @@ import com.example.aq.app.interaction.domain.LikeType;
 import com.example.aq.app.interaction.domain.BookmarkType;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.math.BigDecimal;
-import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
 
 @Service
 @RequiredArgsConstructor
@@ -39,50 +68,109 @@ public class ReviewService {
     private final UserRepository userRepository;
     private final LikeRepository likeRepository;
     private final BookmarkRepository bookmarkRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ModelRatingPrior ratingPrior;
+    private final ModelRatingHistogramRepository histogramRepository;
+    private final ApproximateCountCache countCache;
+    private final CounterWriteBuffer counterWriteBuffer;
+    private final TagService tagService;
+    private final FulltextSearchSupport fulltextSearch;
 
-    public PageResponse<ReviewResponse> getReviews(Pageable pageable) {
-        Page<Review> reviews = reviewRepository.findLatestReviews(pageable);
-        // Lazy 컬렉션 초기화
-        reviews.forEach(review -> review.getTags().size());
-        return PageResponse.of(reviews.map(ReviewResponse::of));
+    // 목록 조회는 프로젝션 조인 쿼리 1회 + 태그 배치 쿼리 1회로 구성합니다 (전체 개수는 countMode에 따라 별도 계산)
+    public PageResponse<ReviewResponse> getReviews(Pageable pageable, CountMode countMode) {
+        return toReviewPage(reviewRepository.findLatestReviewRows(pageable), countMode,
+                "reviews:active", reviewRepository::countActive);
     }
 
-    public PageResponse<ReviewResponse> getPopularReviews(Pageable pageable) {
-        Page<Review> reviews = reviewRepository.findPopularReviews(pageable);
-        // Lazy 컬렉션 초기화
-        reviews.forEach(review -> review.getTags().size());
-        return PageResponse.of(reviews.map(ReviewResponse::of));
+    public PageResponse<ReviewResponse> getPopularReviews(PopularSort sort, Pageable pageable, CountMode countMode) {
+        Slice<ReviewRow> rows = sort == PopularSort.HOT
+                ? reviewRepository.findHotReviewRows(pageable)
+                : reviewRepository.findPopularReviewRows(pageable);
+        return toReviewPage(rows, countMode,
+                "reviews:active", reviewRepository::countActive);
     }
 
-    public PageResponse<ReviewResponse> getTopRatedReviews(Pageable pageable) {
-        Page<Review> reviews = reviewRepository.findTopRatedReviews(pageable);
-        // Lazy 컬렉션 초기화
-        reviews.forEach(review -> review.getTags().size());
-        return PageResponse.of(reviews.map(ReviewResponse::of));
+    public PageResponse<ReviewResponse> getTopRatedReviews(Pageable pageable, CountMode countMode) {
+        return toReviewPage(reviewRepository.findTopRatedReviewRows(pageable), countMode,
+                "reviews:active", reviewRepository::countActive);
     }
 
-    public PageResponse<ReviewResponse> searchReviews(String keyword, Pageable pageable) {
-        Page<Review> reviews = reviewRepository.searchReviews(keyword, pageable);
-        // Lazy 컬렉션 초기화
-        reviews.forEach(review -> review.getTags().size());
-        return PageResponse.of(reviews.map(ReviewResponse::of));
+    public PageResponse<ReviewResponse> searchReviews(String keyword, SearchMode mode, Pageable pageable,
+                                                      CountMode countMode) {
+        if (fulltextSearch.supports(mode, keyword)) {
+            String query = keyword.strip();
+            Slice<Long> ids = reviewRepository.searchIdsByFulltext(query, fulltextSearch.getTitleBoost(),
+                    fulltextSearch.getTagBoost(), fulltextSearch.getBodyBoost(), fulltextSearch.unsorted(pageable));
+            return toReviewSearchPage(PageUtil.fetchByIds(ids, reviewRepository::findRowsByIdIn, ReviewRow::getId),
+                    countMode, "reviews:fulltext:" + query.toLowerCase(Locale.ROOT),
+                    () -> reviewRepository.countFulltextSearch(query));
+        }
+        return toReviewSearchPage(reviewRepository.searchReviewRows(keyword, pageable), countMode,
+                "reviews:search:" + keyword.trim().toLowerCase(Locale.ROOT), () -> reviewRepository.countSearch(keyword));
     }
 
-    public PageResponse<ReviewResponse> getReviewsByModel(Long modelId, Pageable pageable) {
-        Page<Review> reviews = reviewRepository.findByModelId(modelId, pageable);
-        // Lazy 컬렉션 초기화
-        reviews.forEach(review -> review.getTags().size());
-        return PageResponse.of(reviews.map(ReviewResponse::of));
+    public PageResponse<ReviewResponse> getReviewsByModel(Long modelId, ModelReviewSort sort, Pageable pageable,
+                                                          CountMode countMode) {
+        Slice<ReviewRow> rows = sort == ModelReviewSort.HELPFUL
+                ? reviewRepository.findRowsByModelIdOrderByHelpful(modelId, pageable)
+                : reviewRepository.findRowsByModelId(modelId, pageable);
+        return toReviewPage(rows, countMode,
+                "reviews:model:" + modelId, () -> reviewRepository.countActiveByModelId(modelId));
     }
 
-    public PageResponse<ReviewResponse> getReviewsByAuthor(Long authorId, Pageable pageable) {
-        Page<Review> reviews = reviewRepository.findByAuthorId(authorId, pageable);
-        // Lazy 컬렉션 초기화
-        reviews.forEach(review -> review.getTags().size());
-        return PageResponse.of(reviews.map(ReviewResponse::of));
+    public PageResponse<ReviewResponse> getReviewsByAuthor(Long authorId, Pageable pageable, CountMode countMode) {
+        return toReviewPage(reviewRepository.findRowsByAuthorId(authorId, pageable), countMode,
+                "reviews:author:" + authorId, () -> reviewRepository.countActiveByAuthorId(authorId));
+    }
+
+    /**
+     * 태그로 리뷰 조회: 태그 색인에서 최신순 ID 페이지를 구한 뒤 해당 리뷰만 조회합니다.
+     */
+    public PageResponse<ReviewResponse> getReviewsByTags(List<String> tags, FacetMatchMode mode, Pageable pageable) {
+        Page<Long> idPage = tagService.findTargetIds(TagTargetType.REVIEW, tags, mode, pageable);
+        Page<ReviewRow> rows = PageUtil.fetchByIds(idPage, reviewRepository::findRowsByIdIn, ReviewRow::getId);
+
+        Map<Long, List<String>> tagsByReviewId = findTags(rows.getContent());
+        return PageResponse.of(rows.map(row ->
+                ReviewResponse.of(row, tagsByReviewId.getOrDefault(row.getId(), List.of()))));
+    }
+
+    /**
+     * 키셋(커서) 방식 리뷰 피드: 커서 위치부터 인덱스를 따라 읽으므로 깊은 페이지도 첫 페이지와 비용이 같습니다.
+     */
+    public CursorResponse<ReviewResponse> getReviewFeed(ReviewFeedSort sort, String cursor, int size) {
+        CursorResponse.validateSize(size);
+        CursorToken token = CursorToken.decodeOrDescendingStart(cursor);
+        Limit limit = Limit.of(size + 1);
+
+        return switch (sort) {
+            case LATEST -> toReviewCursor(reviewRepository.findLatestReviewRowsBefore(
+                    token.sortKeyAsDateTime(), token.getId(), limit), size, row -> CursorToken.of(row.getCreatedAt(), row.getId()));
+            case POPULAR -> toReviewCursor(reviewRepository.findPopularReviewRowsBefore(
+                    token.sortKeyAsInt(), token.getId(), limit), size, row -> CursorToken.of(row.getLikeCount(), row.getId()));
+            case TOP_RATED -> toReviewCursor(reviewRepository.findTopRatedReviewRowsBefore(
+                    token.sortKeyAsInt(), token.getId(), limit), size, row -> CursorToken.of(row.getRating(), row.getId()));
+            case HOT -> toReviewCursor(reviewRepository.findHotReviewRowsBefore(
+                    token.sortKeyAsDouble(), token.getId(), limit), size, row -> CursorToken.of(row.getHotScore(), row.getId()));
+        };
+    }
+
+    public CursorResponse<ReviewResponse> getReviewFeedByModel(Long modelId, String cursor, int size) {
+        CursorResponse.validateSize(size);
+        CursorToken token = CursorToken.decodeOrDescendingStart(cursor);
+        return toReviewCursor(reviewRepository.findRowsByModelIdBefore(
+                modelId, token.sortKeyAsDateTime(), token.getId(), Limit.of(size + 1)),
+                size, row -> CursorToken.of(row.getCreatedAt(), row.getId()));
+    }
+
+    public CursorResponse<ReviewResponse> getReviewFeedByAuthor(Long authorId, String cursor, int size) {
+        CursorResponse.validateSize(size);
+        CursorToken token = CursorToken.decodeOrDescendingStart(cursor);
+        return toReviewCursor(reviewRepository.findRowsByAuthorIdBefore(
+                authorId, token.sortKeyAsDateTime(), token.getId(), Limit.of(size + 1)),
+                size, row -> CursorToken.of(row.getCreatedAt(), row.getId()));
     }
 
-    @Transactional
     public ReviewResponse getReview(Long id) {
         Review review = reviewRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("리뷰", "id", id));
@@ -90,9 +178,9 @@ public class ReviewService {
         // Lazy 컬렉션 초기화
         review.getTags().size();
         
-        // 조회수 증가
-        review.incrementViewCount();
-        // save 호출 제거 - @Transactional로 자동 반영
+        // 조회수 증가 (버퍼에 모았다가 주기적으로 반영하므로 읽기 전용 트랜잭션으로 처리)
+        counterWriteBuffer.increment(BufferedCounter.REVIEW_VIEW_COUNT, id);
+        int viewCount = review.getViewCount() + (int) counterWriteBuffer.pending(BufferedCounter.REVIEW_VIEW_COUNT, id);
         
         // 현재 사용자의 좋아요/북마크 상태 확인
         boolean isLiked = false;
@@ -113,7 +201,7 @@ public class ReviewService {
             log.debug("User not authenticated, returning default interaction states");
         }
         
-        return ReviewResponse.of(review, isLiked, isBookmarked);
+        return ReviewResponse.of(review, isLiked, isBookmarked).withViewCount(viewCount);
     }
 
     @Transactional
@@ -141,13 +229,14 @@ public class ReviewService {
                 .build();
 
         Review savedReview = reviewRepository.save(review);
+        tagService.replaceTags(TagTargetType.REVIEW, savedReview.getId(), savedReview.getTags());
 
-        // 모델의 리뷰 수 증가
-        model.incrementReviewCount();
-        aiModelRepository.save(model);
+        // 모델의 리뷰 수, 평점 합계 증가 후 평균/가중 평점, 평점 분포 갱신 (리뷰 재조회 없음)
+        applyRatingDelta(model.getId(), 1, savedReview.getRating());
+        histogramRepository.applyRatingChange(model.getId(), null, savedReview.getRating());
 
-        // 모델의 평균 평점 업데이트
-        updateModelAverageRating(model);
+        eventPublisher.publishEvent(new ModelChangedEvent(model.getId()));
+        eventPublisher.publishEvent(new RankingSignalChangedEvent(HotScoreTarget.REVIEW, List.of(savedReview.getId())));
 
         log.info("리뷰가 생성되었습니다: {} by {}", savedReview.getId(), author.getNickname());
         return ReviewResponse.of(savedReview);
@@ -155,7 +244,8 @@ public class ReviewService {
 
     @Transactional
     public ReviewResponse updateReview(Long id, UpdateReviewRequest request, Long userId) {
-        Review review = reviewRepository.findById(id)
+        // 삭제된 리뷰는 모델의 리뷰 수/평점 합계에 포함되지 않으므로 수정 대상에서 제외
+        Review review = reviewRepository.findActiveByIdForUpdate(id)
                 .orElseThrow(() -> new ResourceNotFoundException("리뷰", "id", id));
 
         // 작성자 확인
@@ -163,6 +253,8 @@ public class ReviewService {
             throw new UnauthorizedException("리뷰를 수정할 권한이 없습니다");
         }
 
+        int previousRating = review.getRating();
+
         // 리뷰 업데이트
         review.updateReview(
                 request.getTitle(),
@@ -176,9 +268,15 @@ public class ReviewService {
         );
 
         Review savedReview = reviewRepository.save(review);
+        tagService.replaceTags(TagTargetType.REVIEW, savedReview.getId(), savedReview.getTags());
 
-        // 모델의 평균 평점 업데이트
-        updateModelAverageRating(review.getModel());
+        // 평점이 바뀐 경우 차이만큼 평점 합계와 분포를 조정
+        int ratingDelta = savedReview.getRating() - previousRating;
+        if (ratingDelta != 0) {
+            applyRatingDelta(review.getModel().getId(), 0, ratingDelta);
+            histogramRepository.applyRatingChange(review.getModel().getId(), previousRating, savedReview.getRating());
+        }
+        eventPublisher.publishEvent(new ModelChangedEvent(review.getModel().getId()));
 
         log.info("리뷰가 수정되었습니다: {}", savedReview.getId());
         return ReviewResponse.of(savedReview);
@@ -186,7 +284,8 @@ public class ReviewService {
 
     @Transactional
     public void deleteReview(Long id, Long userId) {
-        Review review = reviewRepository.findById(id)
+        // 이미 삭제된 리뷰를 다시 삭제해 리뷰 수/평점 합계/분포가 두 번 감소하지 않도록 활성 리뷰만 조회
+        Review review = reviewRepository.findActiveByIdForUpdate(id)
                 .orElseThrow(() -> new ResourceNotFoundException("리뷰", "id", id));
 
         // 작성자 확인
@@ -197,35 +296,62 @@ public class ReviewService {
         // 리뷰 비활성화
         review.deactivate();
         reviewRepository.save(review);
+        tagService.removeTags(TagTargetType.REVIEW, id);
 
-        // 모델의 리뷰 수 감소
+        // 모델의 리뷰 수, 평점 합계 감소 후 평균/가중 평점, 평점 분포 갱신
         AIModel model = review.getModel();
-        model.decrementReviewCount();
-        aiModelRepository.save(model);
+        applyRatingDelta(model.getId(), -1, -review.getRating());
+        histogramRepository.applyRatingChange(model.getId(), review.getRating(), null);
 
-        // 모델의 평균 평점 업데이트
-        updateModelAverageRating(model);
+        eventPublisher.publishEvent(new ModelChangedEvent(model.getId()));
 
         log.info("리뷰가 삭제되었습니다: {}", id);
     }
 
-    private void updateModelAverageRating(AIModel model) {
-        List<Review> activeReviews = reviewRepository.findByModel(model, Pageable.unpaged()).getContent();
-        
-        if (activeReviews.isEmpty()) {
-            model.updateRating(null);
-        } else {
-            double averageRating = activeReviews.stream()
-                    .mapToInt(Review::getRating)
-                    .average()
-                    .orElse(0.0);
-            
-            BigDecimal roundedRating = BigDecimal.valueOf(averageRating)
-                    .setScale(2, RoundingMode.HALF_UP);
-            
-            model.updateRating(roundedRating);
+    /**
+     * 리뷰 수/평점 합계를 SQL에서 증감한 뒤(첫 UPDATE가 모델 행을 잠그므로 동시 작성이 직렬화됨),
+     * 같은 트랜잭션에서 평균/가중 평점을 다시 계산합니다.
+     * 영속성 컨텍스트의 AIModel 엔티티는 수정하지 않으므로 flush 시 오래된 값으로 덮어쓰지 않습니다.
+     */
+    private void applyRatingDelta(Long modelId, int countDelta, long sumDelta) {
+        aiModelRepository.applyRatingDelta(modelId, countDelta, sumDelta, LocalDateTime.now());
+        aiModelRepository.refreshRatingScores(List.of(modelId), ratingPrior.getPriorWeight(), ratingPrior.getPriorMean());
+    }
+
+    private PageResponse<ReviewResponse> toReviewPage(Slice<ReviewRow> rows, CountMode countMode,
+                                                     String countKey, LongSupplier counter) {
+        Map<Long, List<String>> tagsByReviewId = findTags(rows.getContent());
+        Slice<ReviewResponse> reviews = rows.map(row ->
+                ReviewResponse.of(row, tagsByReviewId.getOrDefault(row.getId(), List.of())));
+        return PageResponse.of(reviews, countMode, counter, () -> countCache.get(countKey, counter));
+    }
+
+    // 검색어별 개수는 주기 갱신 캐시에 넣지 않고 짧은 TTL로만 재사용 (임의의 검색어로 갱신 대상 키가 늘어나지 않도록)
+    private PageResponse<ReviewResponse> toReviewSearchPage(Slice<ReviewRow> rows, CountMode countMode,
+                                                           String countKey, LongSupplier counter) {
+        Map<Long, List<String>> tagsByReviewId = findTags(rows.getContent());
+        Slice<ReviewResponse> reviews = rows.map(row ->
+                ReviewResponse.of(row, tagsByReviewId.getOrDefault(row.getId(), List.of())));
+        return PageResponse.of(reviews, countMode, counter, () -> countCache.getSearch(countKey, counter));
+    }
+
+    private CursorResponse<ReviewResponse> toReviewCursor(List<ReviewRow> rows, int size,
+                                                         Function<ReviewRow, CursorToken> cursorOf) {
+        return CursorResponse.of(rows, size, cursorOf, page -> {
+            Map<Long, List<String>> tagsByReviewId = findTags(page);
+            return page.stream()
+                    .map(row -> ReviewResponse.of(row, tagsByReviewId.getOrDefault(row.getId(), List.of())))
+                    .toList();
+        });
+    }
+
+    private Map<Long, List<String>> findTags(List<ReviewRow> rows) {
+        Map<Long, List<String>> tagsByReviewId = new HashMap<>();
+        if (!rows.isEmpty()) {
+            List<Long> reviewIds = rows.stream().map(ReviewRow::getId).toList();
+            reviewRepository.findTagsByReviewIds(reviewIds).forEach(tag ->
+                    tagsByReviewId.computeIfAbsent(tag.getReviewId(), key -> new ArrayList<>()).add(tag.getTag()));
         }
-        
-        aiModelRepository.save(model);
+        return tagsByReviewId;
     }
 }
@@ -0,0 +1,33 @@
+package com.example.aq.app.tag.controller;
+
+import com.example.aq.app.tag.domain.TagTargetType;
+import com.example.aq.app.tag.dto.TagCountResponse;
+import com.example.aq.app.tag.service.TagService;
+import com.example.aq.common.dto.BaseResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/tags")
+@RequiredArgsConstructor
+@Tag(name = "태그", description = "리뷰/레시피 태그 관련 API")
+public class TagController {
+
+    private final TagService tagService;
+
+    @GetMapping("/popular")
+    @Operation(summary = "인기 태그 조회", description = "리뷰 또는 레시피에 많이 사용된 태그를 사용 수와 함께 조회합니다")
+    public ResponseEntity<BaseResponse<List<TagCountResponse>>> getPopularTags(
+            @Parameter(description = "대상 유형 (REVIEW, RECIPE)") @RequestParam TagTargetType type,
+            @Parameter(description = "조회 개수 (최대 100)") @RequestParam(defaultValue = "20") int limit) {
+
+        List<TagCountResponse> response = tagService.getPopularTags(type, limit);
+        return ResponseEntity.ok(BaseResponse.success(response));
+    }
+}
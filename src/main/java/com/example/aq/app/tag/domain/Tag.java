@@ -0,0 +1,49 @@
+package com.example.aq.app.tag.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.text.Normalizer;
+import java.time.LocalDateTime;
+import java.util.Locale;
+
+/**
+ * 태그 사전: 정규화된 태그 문자열마다 한 행
+ * 행은 태그 연결 시 INSERT IGNORE로만 생성되므로 동시에 같은 태그가 처음 등장해도 중복되지 않습니다.
+ */
+@Entity
+@Table(name = "tags",
+       uniqueConstraints = @UniqueConstraint(name = "uk_tags_normalized_name", columnNames = "normalized_name"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class Tag {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private String name; // 처음 등록된 표기
+
+    @Column(name = "normalized_name", nullable = false)
+    private String normalizedName;
+
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    /**
+     * NFKC 정규화 후 앞뒤 공백 제거, 연속 공백 축약, 소문자 변환
+     * 빈 문자열이면 태그로 취급하지 않습니다.
+     */
+    public static String normalize(String tag) {
+        if (tag == null) {
+            return "";
+        }
+        return Normalizer.normalize(tag, Normalizer.Form.NFKC)
+                .trim()
+                .replaceAll("\\s+", " ")
+                .toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.aq.app.tag.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 태그와 리뷰/레시피의 연결
+ * 화면에 보여 주는 태그 목록은 각 엔티티의 태그 컬렉션이 원본이며, 이 테이블은 태그 조회용 색인입니다.
+ */
+@Entity
+@Table(name = "tag_links",
+       uniqueConstraints = @UniqueConstraint(name = "uk_tag_links_tag_target",
+               columnNames = {"tag_id", "target_type", "target_id"}),
+       indexes = @Index(name = "idx_tag_links_target", columnList = "target_type, target_id"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class TagLink {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "tag_id", nullable = false)
+    private Tag tag;
+
+    @Column(name = "target_id", nullable = false)
+    private Long targetId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "target_type", nullable = false, length = 20)
+    private TagTargetType targetType;
+}
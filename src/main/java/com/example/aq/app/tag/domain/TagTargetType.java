@@ -0,0 +1,13 @@
+package com.example.aq.app.tag.domain;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum TagTargetType {
+    REVIEW("리뷰"),
+    RECIPE("레시피");
+
+    private final String description;
+}
@@ -0,0 +1,18 @@
+package com.example.aq.app.tag.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+public class TagCountResponse {
+    private Long tagId;
+    private String name;
+    private long count;
+
+    public TagCountResponse(Long tagId, String name, long count) {
+        this.tagId = tagId;
+        this.name = name;
+        this.count = count;
+    }
+}
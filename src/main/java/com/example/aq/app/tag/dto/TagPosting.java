@@ -0,0 +1,9 @@
+package com.example.aq.app.tag.dto;
+
+/**
+ * 태그 색인 적재용 프로젝션 (태그 ID, 대상 ID)
+ */
+public interface TagPosting {
+    Long getTagId();
+    Long getTargetId();
+}
@@ -0,0 +1,9 @@
+package com.example.aq.app.tag.dto;
+
+/**
+ * 기존 태그 컬렉션 테이블(review_tags, recipe_tags)에서 읽은 (대상 ID, 태그) 행
+ */
+public interface TagSource {
+    Long getTargetId();
+    String getTag();
+}
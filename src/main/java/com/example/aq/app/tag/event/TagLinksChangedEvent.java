@@ -0,0 +1,16 @@
+package com.example.aq.app.tag.event;
+
+import com.example.aq.app.tag.domain.TagTargetType;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 리뷰/레시피의 태그 연결이 바뀌었음을 알리는 이벤트
+ * 트랜잭션 커밋 이후 해당 대상의 태그 색인 항목을 다시 읽는 데 사용됩니다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class TagLinksChangedEvent {
+    private final TagTargetType targetType;
+    private final Long targetId;
+}
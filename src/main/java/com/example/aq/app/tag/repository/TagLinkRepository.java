@@ -0,0 +1,36 @@
+package com.example.aq.app.tag.repository;
+
+import com.example.aq.app.tag.domain.TagLink;
+import com.example.aq.app.tag.domain.TagTargetType;
+import com.example.aq.app.tag.dto.TagPosting;
+import com.example.aq.app.tag.dto.TagSource;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface TagLinkRepository extends JpaRepository<TagLink, Long> {
+
+    @Query("SELECT l.tag.id AS tagId, l.targetId AS targetId FROM TagLink l WHERE l.targetType = :targetType")
+    List<TagPosting> findPostingsByTargetType(@Param("targetType") TagTargetType targetType);
+
+    @Query("SELECT l.tag.id FROM TagLink l WHERE l.targetType = :targetType AND l.targetId = :targetId")
+    List<Long> findTagIdsByTarget(@Param("targetType") TagTargetType targetType, @Param("targetId") Long targetId);
+
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM TagLink l WHERE l.targetType = :targetType AND l.targetId = :targetId")
+    int deleteByTarget(@Param("targetType") TagTargetType targetType, @Param("targetId") Long targetId);
+
+    // 태그 사전 도입 전 데이터 이관용: 활성 리뷰/레시피의 기존 태그 컬렉션
+    @Query(value = "SELECT rt.review_id AS targetId, rt.tag AS tag FROM review_tags rt " +
+                   "JOIN reviews r ON r.id = rt.review_id WHERE r.active = true", nativeQuery = true)
+    List<TagSource> findActiveReviewTagSources();
+
+    @Query(value = "SELECT rt.recipe_id AS targetId, rt.tag AS tag FROM recipe_tags rt " +
+                   "JOIN recipes r ON r.id = rt.recipe_id WHERE r.active = true", nativeQuery = true)
+    List<TagSource> findActiveRecipeTagSources();
+}
@@ -0,0 +1,23 @@
+package com.example.aq.app.tag.repository;
+
+import com.example.aq.app.tag.domain.Tag;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface TagRepository extends JpaRepository<Tag, Long> {
+
+    List<Tag> findByNormalizedNameIn(Collection<String> normalizedNames);
+
+    // 이미 있는 태그면 무시 (uk_tags_normalized_name)
+    @Modifying(flushAutomatically = true)
+    @Query(value = "INSERT IGNORE INTO tags (name, normalized_name, created_at) " +
+                   "VALUES (:name, :normalizedName, NOW(6))", nativeQuery = true)
+    int insertIgnore(@Param("name") String name, @Param("normalizedName") String normalizedName);
+}
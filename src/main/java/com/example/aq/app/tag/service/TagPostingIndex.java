@@ -0,0 +1,198 @@
+package com.example.aq.app.tag.service;
+
+import com.example.aq.app.tag.domain.TagTargetType;
+import com.example.aq.app.tag.dto.TagPosting;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 태그 ID별로 대상 ID를 오름차순 long 배열(posting list)로 보관하는 인메모리 색인
+ * 배열은 한 번 공개되면 변경하지 않고(copy-on-write), 갱신은 대상 유형별로 직렬화됩니다.
+ * 다중 태그 조회는 가장 짧은 목록을 기준으로 나머지 목록을 이진 탐색하여 교집합을 구합니다.
+ */
+public class TagPostingIndex {
+
+    private static final long[] EMPTY = new long[0];
+
+    private final Map<TagTargetType, Postings> postings = new EnumMap<>(TagTargetType.class);
+
+    public TagPostingIndex() {
+        for (TagTargetType type : TagTargetType.values()) {
+            postings.put(type, new Postings());
+        }
+    }
+
+    public void load(TagTargetType type, List<TagPosting> rows) {
+        postings.get(type).load(rows);
+    }
+
+    public void replace(TagTargetType type, long targetId, Collection<Long> tagIds) {
+        postings.get(type).replace(targetId, tagIds.stream().mapToLong(Long::longValue).toArray());
+    }
+
+    /**
+     * 모든 태그를 가진 대상 ID (오름차순)
+     */
+    public long[] intersection(TagTargetType type, Collection<Long> tagIds) {
+        if (tagIds.isEmpty()) {
+            return EMPTY;
+        }
+        Postings target = postings.get(type);
+        long[][] lists = tagIds.stream().distinct()
+                .map(target::get)
+                .sorted(Comparator.comparingInt(list -> list.length))
+                .toArray(long[][]::new);
+
+        long[] result = lists[0];
+        for (int i = 1; i < lists.length && result.length > 0; i++) {
+            result = intersect(result, lists[i]);
+        }
+        return result;
+    }
+
+    /**
+     * 하나 이상의 태그를 가진 대상 ID (오름차순)
+     */
+    public long[] union(TagTargetType type, Collection<Long> tagIds) {
+        Postings target = postings.get(type);
+        long[] result = EMPTY;
+        for (Long tagId : new LinkedHashSet<>(tagIds)) {
+            result = merge(result, target.get(tagId));
+        }
+        return result;
+    }
+
+    /**
+     * 대상 수가 많은 순서의 상위 태그 ID와 대상 수
+     */
+    public List<long[]> topTags(TagTargetType type, int limit) {
+        return postings.get(type).byTag.entrySet().stream()
+                .filter(entry -> entry.getValue().length > 0)
+                .sorted(Comparator.comparingInt((Map.Entry<Long, long[]> entry) -> entry.getValue().length).reversed()
+                        .thenComparing(Map.Entry::getKey))
+                .limit(limit)
+                .map(entry -> new long[]{entry.getKey(), entry.getValue().length})
+                .toList();
+    }
+
+    // 짧은 목록의 각 원소를 긴 목록에서 이진 탐색 (탐색 시작 위치는 계속 앞으로만 이동)
+    static long[] intersect(long[] shorter, long[] longer) {
+        long[] out = new long[shorter.length];
+        int size = 0;
+        int from = 0;
+        for (long value : shorter) {
+            int position = Arrays.binarySearch(longer, from, longer.length, value);
+            if (position >= 0) {
+                out[size++] = value;
+                from = position + 1;
+            } else {
+                from = -position - 1;
+            }
+            if (from >= longer.length) {
+                break;
+            }
+        }
+        return Arrays.copyOf(out, size);
+    }
+
+    static long[] merge(long[] a, long[] b) {
+        long[] out = new long[a.length + b.length];
+        int i = 0, j = 0, size = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] < b[j]) {
+                out[size++] = a[i++];
+            } else if (a[i] > b[j]) {
+                out[size++] = b[j++];
+            } else {
+                out[size++] = a[i++];
+                j++;
+            }
+        }
+        while (i < a.length) {
+            out[size++] = a[i++];
+        }
+        while (j < b.length) {
+            out[size++] = b[j++];
+        }
+        return Arrays.copyOf(out, size);
+    }
+
+    private static class Postings {
+        private final Map<Long, long[]> byTag = new ConcurrentHashMap<>();
+        private final Map<Long, long[]> byTarget = new ConcurrentHashMap<>(); // 대상 ID -> 태그 ID (갱신 시 이전 태그 제거용)
+
+        long[] get(long tagId) {
+            return byTag.getOrDefault(tagId, EMPTY);
+        }
+
+        synchronized void load(List<TagPosting> rows) {
+            Map<Long, List<Long>> targetsByTag = new HashMap<>();
+            Map<Long, List<Long>> tagsByTarget = new HashMap<>();
+            for (TagPosting row : rows) {
+                Long tagId = row.getTagId();
+                Long targetId = row.getTargetId();
+                targetsByTag.computeIfAbsent(tagId, key -> new ArrayList<>()).add(targetId);
+                tagsByTarget.computeIfAbsent(targetId, key -> new ArrayList<>()).add(tagId);
+            }
+
+            byTag.clear();
+            byTarget.clear();
+            targetsByTag.forEach((tagId, targets) -> byTag.put(tagId, sortedDistinct(targets)));
+            tagsByTarget.forEach((targetId, tags) -> byTarget.put(targetId, sortedDistinct(tags)));
+        }
+
+        synchronized void replace(long targetId, long[] tagIds) {
+            long[] previous = byTarget.getOrDefault(targetId, EMPTY);
+            long[] current = Arrays.stream(tagIds).distinct().sorted().toArray();
+
+            for (long tagId : previous) {
+                if (Arrays.binarySearch(current, tagId) < 0) {
+                    byTag.computeIfPresent(tagId, (key, list) -> {
+                        long[] removed = remove(list, targetId);
+                        return removed.length == 0 ? null : removed;
+                    });
+                }
+            }
+            for (long tagId : current) {
+                if (Arrays.binarySearch(previous, tagId) < 0) {
+                    byTag.merge(tagId, new long[]{targetId}, (list, single) -> insert(list, targetId));
+                }
+            }
+
+            if (current.length == 0) {
+                byTarget.remove(targetId);
+            } else {
+                byTarget.put(targetId, current);
+            }
+        }
+
+        private static long[] insert(long[] list, long value) {
+            int position = Arrays.binarySearch(list, value);
+            if (position >= 0) {
+                return list;
+            }
+            int at = -position - 1;
+            long[] out = new long[list.length + 1];
+            System.arraycopy(list, 0, out, 0, at);
+            out[at] = value;
+            System.arraycopy(list, at, out, at + 1, list.length - at);
+            return out;
+        }
+
+        private static long[] remove(long[] list, long value) {
+            int position = Arrays.binarySearch(list, value);
+            if (position < 0) {
+                return list;
+            }
+            long[] out = new long[list.length - 1];
+            System.arraycopy(list, 0, out, 0, position);
+            System.arraycopy(list, position + 1, out, position, list.length - position - 1);
+            return out;
+        }
+
+        private static long[] sortedDistinct(List<Long> values) {
+            return values.stream().mapToLong(Long::longValue).distinct().sorted().toArray();
+        }
+    }
+}
@@ -0,0 +1,211 @@
+package com.example.aq.app.tag.service;
+
+import com.example.aq.app.model.domain.FacetMatchMode;
+import com.example.aq.app.tag.domain.Tag;
+import com.example.aq.app.tag.domain.TagTargetType;
+import com.example.aq.app.tag.dto.TagCountResponse;
+import com.example.aq.app.tag.dto.TagSource;
+import com.example.aq.app.tag.event.TagLinksChangedEvent;
+import com.example.aq.app.tag.repository.TagLinkRepository;
+import com.example.aq.app.tag.repository.TagRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 태그 사전과 태그 연결(tag_links)을 관리하고, 태그 조회를 인메모리 posting list 색인으로 처리합니다.
+ * 리뷰/레시피의 태그 컬렉션이 바뀌면 같은 트랜잭션에서 연결을 교체하고, 커밋 후 해당 대상의 색인 항목만 갱신합니다.
+ */
+@Service
+@Slf4j
+public class TagService {
+
+    private static final String INSERT_TAG_SQL =
+            "INSERT IGNORE INTO tags (name, normalized_name, created_at) VALUES (?, ?, NOW(6))";
+    private static final String INSERT_LINK_SQL =
+            "INSERT IGNORE INTO tag_links (tag_id, target_type, target_id) VALUES (?, ?, ?)";
+    private static final int IN_CHUNK_SIZE = 1000;
+
+    private final TagRepository tagRepository;
+    private final TagLinkRepository tagLinkRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate writeTransaction;
+    private final TransactionTemplate readOnlyTransaction;
+    private final TagPostingIndex index = new TagPostingIndex();
+
+    public TagService(TagRepository tagRepository,
+                      TagLinkRepository tagLinkRepository,
+                      JdbcTemplate jdbcTemplate,
+                      ApplicationEventPublisher eventPublisher,
+                      PlatformTransactionManager transactionManager) {
+        this.tagRepository = tagRepository;
+        this.tagLinkRepository = tagLinkRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.eventPublisher = eventPublisher;
+        this.writeTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.readOnlyTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        writeTransaction.executeWithoutResult(status -> backfillIfEmpty());
+        rebuild();
+    }
+
+    public void rebuild() {
+        for (TagTargetType type : TagTargetType.values()) {
+            index.load(type, readOnlyTransaction.execute(status -> tagLinkRepository.findPostingsByTargetType(type)));
+        }
+        log.info("태그 색인이 생성되었습니다");
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTagLinksChanged(TagLinksChangedEvent event) {
+        List<Long> tagIds = readOnlyTransaction.execute(status ->
+                tagLinkRepository.findTagIdsByTarget(event.getTargetType(), event.getTargetId()));
+        index.replace(event.getTargetType(), event.getTargetId(), tagIds);
+    }
+
+    /**
+     * 대상의 태그 연결을 주어진 태그 목록으로 교체합니다. (빈 목록이면 모두 제거)
+     * 처음 등장한 태그는 사전에 INSERT IGNORE로 추가하므로 동시 요청에도 중복 행이 생기지 않습니다.
+     */
+    @Transactional
+    public void replaceTags(TagTargetType type, Long targetId, Collection<String> tags) {
+        Map<String, String> names = normalizeAll(tags);
+
+        tagLinkRepository.deleteByTarget(type, targetId);
+        if (!names.isEmpty()) {
+            names.forEach((normalized, name) -> tagRepository.insertIgnore(name, normalized));
+            List<Object[]> links = tagRepository.findByNormalizedNameIn(names.keySet()).stream()
+                    .map(tag -> new Object[]{tag.getId(), type.name(), targetId})
+                    .toList();
+            jdbcTemplate.batchUpdate(INSERT_LINK_SQL, links);
+        }
+
+        eventPublisher.publishEvent(new TagLinksChangedEvent(type, targetId));
+    }
+
+    @Transactional
+    public void removeTags(TagTargetType type, Long targetId) {
+        replaceTags(type, targetId, List.of());
+    }
+
+    /**
+     * 태그 조건에 맞는 대상 ID를 최신순(ID 내림차순)으로 페이징합니다. 전체 개수는 색인에서 바로 구합니다.
+     * AND는 모든 태그를, OR는 하나 이상의 태그를 가진 대상을 찾습니다.
+     */
+    @Transactional(readOnly = true)
+    public Page<Long> findTargetIds(TagTargetType type, Collection<String> tags, FacetMatchMode mode, Pageable pageable) {
+        Set<String> normalized = normalizeAll(tags).keySet();
+        if (normalized.isEmpty()) {
+            throw new IllegalArgumentException("태그를 하나 이상 입력해야 합니다");
+        }
+
+        List<Long> tagIds = tagRepository.findByNormalizedNameIn(normalized).stream().map(Tag::getId).toList();
+        long[] targetIds;
+        if (mode == FacetMatchMode.OR) {
+            targetIds = index.union(type, tagIds);
+        } else {
+            targetIds = tagIds.size() < normalized.size() ? new long[0] : index.intersection(type, tagIds);
+        }
+
+        long offset = pageable.getOffset();
+        List<Long> content = new ArrayList<>(pageable.getPageSize());
+        for (long i = targetIds.length - 1 - offset; i >= 0 && content.size() < pageable.getPageSize(); i--) {
+            content.add(targetIds[(int) i]);
+        }
+        return new PageImpl<>(content, pageable, targetIds.length);
+    }
+
+    @Transactional(readOnly = true)
+    public List<TagCountResponse> getPopularTags(TagTargetType type, int limit) {
+        if (limit < 1 || limit > 100) {
+            throw new IllegalArgumentException("조회 개수는 1~100이어야 합니다");
+        }
+
+        List<long[]> top = index.topTags(type, limit);
+        Map<Long, Tag> tags = tagRepository.findAllById(top.stream().map(entry -> entry[0]).toList()).stream()
+                .collect(Collectors.toMap(Tag::getId, Function.identity()));
+
+        return top.stream()
+                .filter(entry -> tags.containsKey(entry[0]))
+                .map(entry -> new TagCountResponse(entry[0], tags.get(entry[0]).getName(), entry[1]))
+                .toList();
+    }
+
+    // 태그 사전 도입 이전의 태그 컬렉션을 한 번에 이관 (tag_links가 비어 있을 때만)
+    private void backfillIfEmpty() {
+        if (tagLinkRepository.count() > 0) {
+            return;
+        }
+        int reviews = backfill(TagTargetType.REVIEW, tagLinkRepository.findActiveReviewTagSources());
+        int recipes = backfill(TagTargetType.RECIPE, tagLinkRepository.findActiveRecipeTagSources());
+        if (reviews + recipes > 0) {
+            log.info("기존 태그를 태그 사전으로 이관했습니다: 리뷰 {}건, 레시피 {}건", reviews, recipes);
+        }
+    }
+
+    private int backfill(TagTargetType type, List<TagSource> sources) {
+        Map<String, String> names = normalizeAll(sources.stream().map(TagSource::getTag).toList());
+        if (names.isEmpty()) {
+            return 0;
+        }
+
+        jdbcTemplate.batchUpdate(INSERT_TAG_SQL, names.entrySet().stream()
+                .map(entry -> new Object[]{entry.getValue(), entry.getKey()})
+                .toList());
+
+        Map<String, Long> tagIds = new HashMap<>();
+        List<String> keys = new ArrayList<>(names.keySet());
+        for (int from = 0; from < keys.size(); from += IN_CHUNK_SIZE) {
+            tagRepository.findByNormalizedNameIn(keys.subList(from, Math.min(from + IN_CHUNK_SIZE, keys.size())))
+                    .forEach(tag -> tagIds.put(tag.getNormalizedName(), tag.getId()));
+        }
+
+        Set<List<Long>> links = new LinkedHashSet<>();
+        for (TagSource source : sources) {
+            Long tagId = tagIds.get(Tag.normalize(source.getTag()));
+            if (tagId != null) {
+                links.add(List.of(tagId, source.getTargetId()));
+            }
+        }
+        jdbcTemplate.batchUpdate(INSERT_LINK_SQL, links.stream()
+                .map(link -> new Object[]{link.get(0), type.name(), link.get(1)})
+                .toList());
+        return links.size();
+    }
+
+    // 정규화된 태그 -> 처음 등장한 표기 (빈 태그 제외, 순서 유지)
+    private static Map<String, String> normalizeAll(Collection<String> tags) {
+        Map<String, String> names = new LinkedHashMap<>();
+        if (tags != null) {
+            for (String tag : tags) {
+                String normalized = Tag.normalize(tag);
+                if (!normalized.isEmpty()) {
+                    names.putIfAbsent(normalized, tag.trim());
+                }
+            }
+        }
+        return names;
+    }
+}
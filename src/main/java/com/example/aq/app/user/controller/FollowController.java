@@ -2,8 +2,10 @@ package com.example.aq.app.user.controller;
 
 import com.example.aq.app.user.dto.FollowListResponse;
 import com.example.aq.app.user.dto.FollowStatsResponse;
+import com.example.aq.app.user.dto.FollowUserResponse;
 import com.example.aq.app.user.service.FollowService;
 import com.example.aq.common.dto.BaseResponse;
+import com.example.aq.common.dto.CursorResponse;
 import com.example.aq.common.util.SecurityUtil;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -68,6 +70,28 @@ public class FollowController {
         return ResponseEntity.ok(BaseResponse.success(response));
     }
 
+    @GetMapping("/users/{userId}/followers/cursor")
+    @Operation(summary = "팔로워 목록 조회 (커서)", description = "사용자의 팔로워 목록을 커서 기반으로 최신순 조회합니다")
+    public ResponseEntity<BaseResponse<CursorResponse<FollowUserResponse>>> getFollowerFeed(
+            @Parameter(description = "사용자 ID") @PathVariable Long userId,
+            @Parameter(description = "이전 응답의 nextCursor (생략하면 첫 페이지)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "조회 개수 (최대 100)") @RequestParam(defaultValue = "20") int size) {
+
+        CursorResponse<FollowUserResponse> response = followService.getFollowerFeed(userId, cursor, size);
+        return ResponseEntity.ok(BaseResponse.success(response));
+    }
+
+    @GetMapping("/users/{userId}/following/cursor")
+    @Operation(summary = "팔로잉 목록 조회 (커서)", description = "사용자가 팔로우하는 사용자 목록을 커서 기반으로 최신순 조회합니다")
+    public ResponseEntity<BaseResponse<CursorResponse<FollowUserResponse>>> getFollowingFeed(
+            @Parameter(description = "사용자 ID") @PathVariable Long userId,
+            @Parameter(description = "이전 응답의 nextCursor (생략하면 첫 페이지)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "조회 개수 (최대 100)") @RequestParam(defaultValue = "20") int size) {
+
+        CursorResponse<FollowUserResponse> response = followService.getFollowingFeed(userId, cursor, size);
+        return ResponseEntity.ok(BaseResponse.success(response));
+    }
+
     @GetMapping("/users/{userId}/stats")
     @Operation(summary = "팔로우 통계 조회", description = "팔로워/팔로잉 수와 팔로우 상태를 조회합니다")
     public ResponseEntity<BaseResponse<FollowStatsResponse>> getFollowStats(
@@ -13,7 +13,11 @@ import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "follows",
-        uniqueConstraints = @UniqueConstraint(columnNames = {"follower_id", "following_id"}))
+        uniqueConstraints = @UniqueConstraint(columnNames = {"follower_id", "following_id"}),
+        indexes = {
+            @Index(name = "idx_follows_following_created_at_id", columnList = "following_id, created_at, id"),
+            @Index(name = "idx_follows_follower_created_at_id", columnList = "follower_id, created_at, id")
+        })
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @EntityListeners(AuditingEntityListener.class)
@@ -1,6 +1,7 @@
 package com.example.aq.app.user.repository;
 
 import com.example.aq.app.user.domain.Follow;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -8,6 +9,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -28,6 +30,22 @@ public interface FollowRepository extends JpaRepository<Follow, Long> {
     @Query("SELECT f FROM Follow f JOIN FETCH f.following WHERE f.follower.id = :userId")
     Page<Follow> findFollowingByUserId(@Param("userId") Long userId, Pageable pageable);
 
+    // 팔로워 목록 조회 (커서: 팔로우 시각, id 내림차순)
+    @Query("SELECT f FROM Follow f JOIN FETCH f.follower WHERE f.following.id = :userId AND " +
+           "(f.createdAt < :createdAt OR (f.createdAt = :createdAt AND f.id < :id)) " +
+           "ORDER BY f.createdAt DESC, f.id DESC")
+    List<Follow> findFollowersByUserIdBefore(@Param("userId") Long userId,
+                                             @Param("createdAt") LocalDateTime createdAt,
+                                             @Param("id") Long id, Limit limit);
+
+    // 팔로잉 목록 조회 (커서: 팔로우 시각, id 내림차순)
+    @Query("SELECT f FROM Follow f JOIN FETCH f.following WHERE f.follower.id = :userId AND " +
+           "(f.createdAt < :createdAt OR (f.createdAt = :createdAt AND f.id < :id)) " +
+           "ORDER BY f.createdAt DESC, f.id DESC")
+    List<Follow> findFollowingByUserIdBefore(@Param("userId") Long userId,
+                                             @Param("createdAt") LocalDateTime createdAt,
+                                             @Param("id") Long id, Limit limit);
+
     // 팔로워 수 카운트
     long countByFollowing_Id(Long userId);
 
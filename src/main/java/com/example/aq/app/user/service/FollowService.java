@@ -7,9 +7,12 @@ import com.example.aq.app.user.dto.FollowStatsResponse;
 import com.example.aq.app.user.dto.FollowUserResponse;
 import com.example.aq.app.user.repository.FollowRepository;
 import com.example.aq.app.user.repository.UserRepository;
+import com.example.aq.common.dto.CursorResponse;
+import com.example.aq.common.dto.CursorToken;
 import com.example.aq.common.exception.ResourceNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -116,6 +119,46 @@ public class FollowService {
         );
     }
 
+    /**
+     * 팔로워 목록 조회 (커서)
+     */
+    public CursorResponse<FollowUserResponse> getFollowerFeed(Long userId, String cursor, int size) {
+        CursorResponse.validateSize(size);
+        if (!userRepository.existsById(userId)) {
+            throw new ResourceNotFoundException("사용자를 찾을 수 없습니다");
+        }
+
+        CursorToken token = CursorToken.decodeOrDescendingStart(cursor);
+        List<Follow> follows = followRepository.findFollowersByUserIdBefore(
+                userId, token.sortKeyAsDateTime(), token.getId(), Limit.of(size + 1));
+
+        return CursorResponse.of(follows, size,
+                follow -> CursorToken.of(follow.getCreatedAt(), follow.getId()),
+                page -> page.stream()
+                        .map(follow -> FollowUserResponse.from(follow.getFollower(), follow.getCreatedAt()))
+                        .toList());
+    }
+
+    /**
+     * 팔로잉 목록 조회 (커서)
+     */
+    public CursorResponse<FollowUserResponse> getFollowingFeed(Long userId, String cursor, int size) {
+        CursorResponse.validateSize(size);
+        if (!userRepository.existsById(userId)) {
+            throw new ResourceNotFoundException("사용자를 찾을 수 없습니다");
+        }
+
+        CursorToken token = CursorToken.decodeOrDescendingStart(cursor);
+        List<Follow> follows = followRepository.findFollowingByUserIdBefore(
+                userId, token.sortKeyAsDateTime(), token.getId(), Limit.of(size + 1));
+
+        return CursorResponse.of(follows, size,
+                follow -> CursorToken.of(follow.getCreatedAt(), follow.getId()),
+                page -> page.stream()
+                        .map(follow -> FollowUserResponse.from(follow.getFollowing(), follow.getCreatedAt()))
+                        .toList());
+    }
+
     /**
      * 팔로우 통계 조회
      */
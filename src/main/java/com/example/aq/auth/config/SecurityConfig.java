@@ -36,20 +36,28 @@ public class SecurityConfig {
                 // 공개 API (조회만 허용)
                 .requestMatchers("/api/reviews", "/api/reviews/{id}", "/api/reviews/popular", 
                                 "/api/reviews/top-rated", "/api/reviews/search", 
-                                "/api/reviews/model/{modelId}", "/api/reviews/user/{userId}").permitAll()
+                                "/api/reviews/model/{modelId}", "/api/reviews/user/{userId}",
+                                "/api/reviews/cursor", "/api/reviews/model/{modelId}/cursor",
+                                "/api/reviews/user/{userId}/cursor", "/api/reviews/tags").permitAll()
                 .requestMatchers("/api/recipes", "/api/recipes/{id}", "/api/recipes/popular", 
                                 "/api/recipes/most-used", "/api/recipes/featured", 
                                 "/api/recipes/search", "/api/recipes/category/{category}", 
-                                "/api/recipes/user/{userId}", "/api/recipes/difficulty/{difficulty}").permitAll()
+                                "/api/recipes/user/{userId}", "/api/recipes/difficulty/{difficulty}",
+                                "/api/recipes/cursor", "/api/recipes/category/{category}/cursor",
+                                "/api/recipes/user/{userId}/cursor", "/api/recipes/tags",
+                                "/api/recipes/{id}/related").permitAll()
                 .requestMatchers("/api/models/**").permitAll()
+                .requestMatchers("/api/tags/**").permitAll()
                 .requestMatchers("/api/model-proposals/pending", "/api/model-proposals/approved", 
                                 "/api/model-proposals/top", "/api/model-proposals/{id}", 
-                                "/api/model-proposals/search").permitAll()
+                                "/api/model-proposals/search", "/api/model-proposals/pending/cursor",
+                                "/api/model-proposals/approved/cursor").permitAll()
                 .requestMatchers("/api/users/{id}", "/api/users/email/{email}", 
                                 "/api/users/nickname/{nickname}").permitAll()
                 // 팔로우 API (조회는 공개, 토글은 인증 필요)
                 .requestMatchers("/api/follows/users/{userId}/stats", "/api/follows/users/{userId}/followers", 
-                                "/api/follows/users/{userId}/following").permitAll()
+                                "/api/follows/users/{userId}/following", "/api/follows/users/{userId}/followers/cursor",
+                                "/api/follows/users/{userId}/following/cursor").permitAll()
                 // 인증 API (모두 공개)
                 .requestMatchers("/api/auth/**").permitAll()
                 .requestMatchers("/api/health/**").permitAll()
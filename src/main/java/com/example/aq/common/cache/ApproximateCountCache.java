@@ -0,0 +1,128 @@
+package com.example.aq.common.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+/**
+ * 목록 전체 개수의 근사값 캐시
+ * 처음 요청된 키만 동기적으로 계산하고, 이후에는 스케줄러가 주기적으로 다시 계산한 값을 반환합니다.
+ * 일정 시간 조회되지 않은 키는 갱신 대상에서 제외되며, 키 수가 상한을 넘으면 가장 오래 조회되지 않은 키부터 제거합니다.
+ * 검색어처럼 호출자가 키를 마음대로 만들 수 있는 개수는 주기 갱신 대상에 넣지 않고, 짧은 TTL 동안만 별도 공간에 보관합니다.
+ */
+@Component
+@Slf4j
+public class ApproximateCountCache {
+
+    private final long idleMillis;
+    private final Map<String, Entry> entries;
+    private final long searchTtlMillis;
+    private final Map<String, SearchEntry> searchEntries;
+
+    public ApproximateCountCache(@Value("${app.count-cache.idle-seconds:600}") long idleSeconds,
+                                 @Value("${app.count-cache.max-entries:1000}") int maxEntries,
+                                 @Value("${app.count-cache.search-ttl-seconds:30}") long searchTtlSeconds,
+                                 @Value("${app.count-cache.search-max-entries:200}") int searchMaxEntries) {
+        this.idleMillis = idleSeconds * 1000;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > maxEntries;
+            }
+        };
+        this.searchTtlMillis = searchTtlSeconds * 1000;
+        this.searchEntries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, SearchEntry> eldest) {
+                return size() > searchMaxEntries;
+            }
+        };
+    }
+
+    /**
+     * 캐시된 개수를 반환합니다. 캐시에 없으면 counter로 계산해 등록합니다.
+     */
+    public long get(String key, LongSupplier counter) {
+        Entry entry;
+        synchronized (entries) {
+            entry = entries.get(key);
+        }
+        if (entry != null) {
+            entry.lastAccessedAt = System.currentTimeMillis();
+            return entry.count;
+        }
+
+        Entry created = new Entry(counter, counter.getAsLong());
+        synchronized (entries) {
+            entries.putIfAbsent(key, created);
+        }
+        return created.count;
+    }
+
+    /**
+     * 검색 결과 개수를 반환합니다. TTL 안에 계산한 값이 있으면 재사용하고, 없거나 만료되었으면 counter로 다시 계산합니다.
+     * 주기 갱신 대상이 아니므로 검색어가 많아져도 백그라운드 COUNT 쿼리가 늘어나지 않습니다.
+     */
+    public long getSearch(String key, LongSupplier counter) {
+        long now = System.currentTimeMillis();
+        SearchEntry entry;
+        synchronized (searchEntries) {
+            entry = searchEntries.get(key);
+        }
+        if (entry != null && entry.computedAt >= now - searchTtlMillis) {
+            return entry.count;
+        }
+
+        SearchEntry computed = new SearchEntry(counter.getAsLong(), now);
+        synchronized (searchEntries) {
+            searchEntries.put(key, computed);
+        }
+        return computed.count;
+    }
+
+    @Scheduled(fixedDelayString = "${app.count-cache.refresh-interval-ms:60000}")
+    public void refresh() {
+        List<Map.Entry<String, Entry>> snapshot;
+        synchronized (entries) {
+            snapshot = new ArrayList<>(entries.entrySet());
+        }
+
+        long idleBefore = System.currentTimeMillis() - idleMillis;
+        for (Map.Entry<String, Entry> item : snapshot) {
+            Entry entry = item.getValue();
+            if (entry.lastAccessedAt < idleBefore) {
+                synchronized (entries) {
+                    entries.remove(item.getKey(), entry);
+                }
+                continue;
+            }
+            try {
+                entry.count = entry.counter.getAsLong();
+            } catch (RuntimeException e) {
+                log.warn("근사 개수 갱신 실패 - key: {}", item.getKey(), e);
+            }
+        }
+    }
+
+    private static class Entry {
+        private final LongSupplier counter;
+        private volatile long count;
+        private volatile long lastAccessedAt;
+
+        private Entry(LongSupplier counter, long count) {
+            this.counter = counter;
+            this.count = count;
+            this.lastAccessedAt = System.currentTimeMillis();
+        }
+    }
+
+    private record SearchEntry(long count, long computedAt) {
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.aq.common.dto;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Locale;
+
+/**
+ * 목록 조회 시 전체 개수(totalElements)를 구하는 방식
+ */
+@Getter
+@RequiredArgsConstructor
+public enum CountMode {
+    EXACT("매 요청마다 COUNT 쿼리로 정확히 계산"),
+    NONE("개수를 세지 않고 다음 페이지 존재 여부만 반환"),
+    APPROXIMATE("주기적으로 갱신되는 캐시 값을 사용");
+
+    private final String description;
+
+    public static CountMode from(String value) {
+        try {
+            return CountMode.valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("지원하지 않는 개수 조회 방식입니다: " + value);
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.aq.common.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 키셋(커서) 페이지네이션 응답
+ * 전체 개수를 세지 않으므로 페이지 위치와 관계없이 조회 비용이 일정합니다.
+ */
+@Getter
+@NoArgsConstructor
+public class CursorResponse<T> {
+
+    public static final int MAX_SIZE = 100;
+
+    private List<T> content;
+    private String nextCursor; // 다음 페이지 요청의 cursor 값 (마지막 페이지면 null)
+    private boolean hasNext;
+    private int size;
+
+    @Builder
+    public CursorResponse(List<T> content, String nextCursor, boolean hasNext, int size) {
+        this.content = content;
+        this.nextCursor = nextCursor;
+        this.hasNext = hasNext;
+        this.size = size;
+    }
+
+    /**
+     * size + 1개를 조회한 결과로 응답을 만듭니다. 초과분이 있으면 잘라낸 뒤 마지막 행의 커서를 nextCursor로 사용합니다.
+     * mapper는 잘라낸 행 목록 전체를 받으므로 태그 등 연관 데이터를 한 번에 조회할 수 있습니다.
+     */
+    public static <E, T> CursorResponse<T> of(List<E> fetched, int size,
+                                              Function<E, CursorToken> cursorOf,
+                                              Function<List<E>, List<T>> mapper) {
+        boolean hasNext = fetched.size() > size;
+        List<E> rows = hasNext ? fetched.subList(0, size) : fetched;
+        String nextCursor = hasNext ? cursorOf.apply(rows.get(rows.size() - 1)).encode() : null;
+
+        return CursorResponse.<T>builder()
+                .content(rows.isEmpty() ? List.of() : mapper.apply(rows))
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .size(size)
+                .build();
+    }
+
+    public static void validateSize(int size) {
+        if (size < 1 || size > MAX_SIZE) {
+            throw new IllegalArgumentException("조회 개수는 1~" + MAX_SIZE + "이어야 합니다");
+        }
+    }
+}
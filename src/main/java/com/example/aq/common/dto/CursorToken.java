@@ -0,0 +1,114 @@
+package com.example.aq.common.dto;
+
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 키셋 페이지네이션용 불투명 커서 (정렬 키 + ID)
+ * 클라이언트에는 URL-safe Base64 문자열로만 노출되며, 내용은 서버에서만 해석합니다.
+ */
+@Getter
+public class CursorToken {
+
+    private static final String SEPARATOR = "|";
+    // 내림차순 키셋 조회의 첫 페이지에 사용하는 정렬 키 (DATETIME 컬럼이 표현할 수 있는 최댓값)
+    private static final LocalDateTime MAX_DATE_TIME = LocalDateTime.of(9999, 12, 31, 23, 59, 59);
+
+    private final String sortKey;
+    private final Long id;
+
+    public CursorToken(String sortKey, Long id) {
+        this.sortKey = sortKey;
+        this.id = id;
+    }
+
+    public static CursorToken of(LocalDateTime sortKey, Long id) {
+        return new CursorToken(sortKey.toString(), id);
+    }
+
+    public static CursorToken of(long sortKey, Long id) {
+        return new CursorToken(Long.toString(sortKey), id);
+    }
+
+    public static CursorToken of(double sortKey, Long id) {
+        return new CursorToken(Double.toString(sortKey), id);
+    }
+
+    /**
+     * 내림차순 (정렬 키, ID) 키셋 조회의 시작 위치
+     * 정렬 키는 최댓값으로 해석되어 첫 페이지부터 조회됩니다.
+     */
+    public static CursorToken descendingStart() {
+        return new CursorToken(null, Long.MAX_VALUE);
+    }
+
+    public static CursorToken decodeOrDescendingStart(String cursor) {
+        return cursor == null || cursor.isBlank() ? descendingStart() : decode(cursor);
+    }
+
+    public String encode() {
+        String raw = sortKey + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static CursorToken decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new IllegalArgumentException("잘못된 커서입니다");
+            }
+            return new CursorToken(raw.substring(0, separator), Long.parseLong(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException e) { // NumberFormatException 포함
+            throw new IllegalArgumentException("잘못된 커서입니다");
+        }
+    }
+
+    public LocalDateTime sortKeyAsDateTime() {
+        if (sortKey == null) {
+            return MAX_DATE_TIME;
+        }
+        try {
+            return LocalDateTime.parse(sortKey);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다");
+        }
+    }
+
+    public long sortKeyAsLong() {
+        if (sortKey == null) {
+            return Long.MAX_VALUE;
+        }
+        try {
+            return Long.parseLong(sortKey);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다");
+        }
+    }
+
+    public double sortKeyAsDouble() {
+        if (sortKey == null) {
+            return Double.MAX_VALUE;
+        }
+        try {
+            return Double.parseDouble(sortKey);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다");
+        }
+    }
+
+    public int sortKeyAsInt() {
+        if (sortKey == null) {
+            return Integer.MAX_VALUE;
+        }
+        try {
+            return Integer.parseInt(sortKey);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다");
+        }
+    }
+}
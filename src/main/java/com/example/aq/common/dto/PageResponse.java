@@ -4,27 +4,35 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.support.PageableExecutionUtils;
 
 import java.util.List;
+import java.util.function.LongSupplier;
 
 @Getter
 @NoArgsConstructor
 public class PageResponse<T> {
+    public static final long UNKNOWN_TOTAL = -1;
+
     private List<T> content;
     private int number; // 프론트엔드와 호환성을 위해 추가
     private int size; // 프론트엔드와 호환성을 위해 추가
     private int pageNumber;
     private int pageSize;
-    private long totalElements;
-    private int totalPages;
+    private long totalElements; // CountMode.NONE이면 -1
+    private int totalPages; // CountMode.NONE이면 -1
     private boolean first;
     private boolean last;
     private int numberOfElements;
     private boolean empty;
+    private boolean hasNext;
+    private boolean approximate; // totalElements가 캐시된 근사값인지 여부
 
     @Builder
     public PageResponse(List<T> content, int pageNumber, int pageSize, long totalElements,
-                       int totalPages, boolean first, boolean last, int numberOfElements, boolean empty) {
+                       int totalPages, boolean first, boolean last, int numberOfElements, boolean empty,
+                       boolean hasNext, boolean approximate) {
         this.content = content;
         this.number = pageNumber; // 프론트엔드 호환성
         this.size = pageSize; // 프론트엔드 호환성
@@ -36,6 +44,8 @@ public class PageResponse<T> {
         this.last = last;
         this.numberOfElements = numberOfElements;
         this.empty = empty;
+        this.hasNext = hasNext;
+        this.approximate = approximate;
     }
 
     public static <T> PageResponse<T> of(Page<T> page) {
@@ -49,6 +59,45 @@ public class PageResponse<T> {
                 .last(page.isLast())
                 .numberOfElements(page.getNumberOfElements())
                 .empty(page.isEmpty())
+                .hasNext(page.hasNext())
+                .build();
+    }
+
+    /**
+     * COUNT 쿼리 없이 조회한 Slice로 응답을 만듭니다.
+     * EXACT는 필요한 경우에만 exactCount를 실행하고(마지막 페이지면 생략), APPROXIMATE는 캐시된 근사값을 사용합니다.
+     */
+    public static <T> PageResponse<T> of(Slice<T> slice, CountMode countMode,
+                                         LongSupplier exactCount, LongSupplier approximateCount) {
+        return switch (countMode) {
+            case EXACT -> of(PageableExecutionUtils.getPage(slice.getContent(), slice.getPageable(), exactCount));
+            case NONE -> ofSlice(slice, UNKNOWN_TOTAL, UNKNOWN_TOTAL, false);
+            case APPROXIMATE -> {
+                // 캐시가 갱신되기 전이라도 현재 페이지와 모순되지 않도록 보정
+                long seen = slice.getPageable().isPaged()
+                        ? slice.getPageable().getOffset() + slice.getNumberOfElements() + (slice.hasNext() ? 1 : 0)
+                        : slice.getNumberOfElements();
+                long total = Math.max(approximateCount.getAsLong(), seen);
+                int pageSize = slice.getSize();
+                long totalPages = pageSize == 0 ? 1 : (total + pageSize - 1) / pageSize;
+                yield ofSlice(slice, total, totalPages, true);
+            }
+        };
+    }
+
+    private static <T> PageResponse<T> ofSlice(Slice<T> slice, long totalElements, long totalPages, boolean approximate) {
+        return PageResponse.<T>builder()
+                .content(slice.getContent())
+                .pageNumber(slice.getNumber())
+                .pageSize(slice.getSize())
+                .totalElements(totalElements)
+                .totalPages((int) totalPages)
+                .first(slice.isFirst())
+                .last(slice.isLast())
+                .numberOfElements(slice.getNumberOfElements())
+                .empty(slice.isEmpty())
+                .hasNext(slice.hasNext())
+                .approximate(approximate)
                 .build();
     }
 }
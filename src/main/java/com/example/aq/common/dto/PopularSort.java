@@ -0,0 +1,27 @@
+package com.example.aq.common.dto;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Locale;
+
+/**
+ * 인기 목록 정렬 기준
+ */
+@Getter
+@RequiredArgsConstructor
+public enum PopularSort {
+    LIKES("누적 좋아요순", "likeCount"),
+    HOT("좋아요/조회수와 작성 시각을 함께 반영한 시간 감쇠 인기순", "hotScore");
+
+    private final String description;
+    private final String sortProperty;
+
+    public static PopularSort from(String value) {
+        try {
+            return PopularSort.valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("지원하지 않는 인기 정렬 기준입니다: " + value);
+        }
+    }
+}
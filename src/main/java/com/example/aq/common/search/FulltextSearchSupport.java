@@ -0,0 +1,105 @@
+package com.example.aq.common.search;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 리뷰/레시피 FULLTEXT 검색 설정과 색인 관리
+ * JPA 스키마 생성으로는 FULLTEXT 색인을 만들 수 없으므로, 시작 시 없는 색인만 ngram 파서로 생성합니다.
+ * 색인 생성에 실패하면(MySQL이 아닌 DB 등) FULLTEXT 검색 요청은 키워드(LIKE) 검색으로 처리됩니다.
+ * 점수 = title 가중치 * 제목 점수 + tags 가중치 * 태그 점수 + body 가중치 * 본문 점수
+ */
+@Component
+@Slf4j
+public class FulltextSearchSupport {
+
+    // ngram_token_size 기본값(2)보다 짧은 검색어는 FULLTEXT 색인으로 찾을 수 없음
+    private static final int MIN_QUERY_LENGTH = 2;
+
+    private static final List<FulltextIndex> INDEXES = List.of(
+            new FulltextIndex("reviews", "ft_reviews_title", "title"),
+            new FulltextIndex("reviews", "ft_reviews_body", "content, use_case"),
+            new FulltextIndex("recipes", "ft_recipes_title", "title"),
+            new FulltextIndex("recipes", "ft_recipes_body", "description, prompt_template"),
+            new FulltextIndex("tags", "ft_tags_normalized_name", "normalized_name"));
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${app.search.fulltext.enabled:true}")
+    private boolean enabled;
+
+    @Getter
+    @Value("${app.search.fulltext.boost.title:3}")
+    private double titleBoost;
+
+    @Getter
+    @Value("${app.search.fulltext.boost.tags:2}")
+    private double tagBoost;
+
+    @Getter
+    @Value("${app.search.fulltext.boost.body:1}")
+    private double bodyBoost;
+
+    private volatile boolean available;
+
+    public FulltextSearchSupport(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void ensureIndexes() {
+        if (!enabled) {
+            log.info("FULLTEXT 검색이 비활성화되어 있습니다");
+            return;
+        }
+
+        try {
+            for (FulltextIndex index : INDEXES) {
+                if (!exists(index)) {
+                    log.info("FULLTEXT 색인을 생성합니다: {}.{}", index.table(), index.name());
+                    jdbcTemplate.execute("ALTER TABLE " + index.table() + " ADD FULLTEXT INDEX " + index.name() +
+                            " (" + index.columns() + ") WITH PARSER ngram");
+                }
+            }
+            available = true;
+        } catch (DataAccessException e) {
+            log.warn("FULLTEXT 색인을 준비하지 못해 키워드 검색으로 대체합니다: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 요청한 검색 방식과 검색어로 FULLTEXT 검색을 사용할 수 있는지 판단합니다.
+     */
+    public boolean supports(SearchMode mode, String keyword) {
+        return mode == SearchMode.FULLTEXT && available
+                && keyword != null && keyword.strip().length() >= MIN_QUERY_LENGTH;
+    }
+
+    /**
+     * 관련도순으로 정렬하므로 요청의 정렬 조건은 제거합니다.
+     */
+    public Pageable unsorted(Pageable pageable) {
+        return PageRequest.of(pageable.getPageNumber(), pageable.getPageSize());
+    }
+
+    private boolean exists(FulltextIndex index) {
+        Integer count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM information_schema.STATISTICS " +
+                "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ? AND INDEX_NAME = ?",
+                Integer.class, index.table(), index.name());
+        return count != null && count > 0;
+    }
+
+    private record FulltextIndex(String table, String name, String columns) {
+    }
+}
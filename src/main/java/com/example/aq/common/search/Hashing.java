@@ -0,0 +1,27 @@
+package com.example.aq.common.search;
+
+/**
+ * 색인용 64비트 비암호화 해시 함수
+ */
+public final class Hashing {
+
+    private Hashing() {
+    }
+
+    // 64비트 FNV-1a
+    public static long fnv1a64(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+
+    // SplitMix64 마무리 단계 (입력 비트를 고르게 섞음)
+    public static long mix64(long value) {
+        value = (value ^ (value >>> 30)) * 0xbf58476d1ce4e5b9L;
+        value = (value ^ (value >>> 27)) * 0x94d049bb133111ebL;
+        return value ^ (value >>> 31);
+    }
+}
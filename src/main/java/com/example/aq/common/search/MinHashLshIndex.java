@@ -0,0 +1,187 @@
+package com.example.aq.common.search;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * MinHash 서명과 밴드 단위 LSH 버킷으로 구성된 유사 문서 색인
+ * 문서(ID)의 특징 집합을 bands × rows개의 최소 해시값으로 요약하고, 밴드마다 서명 조각이 같은 문서끼리 같은 버킷에 둡니다.
+ * 후보는 자신이 속한 버킷만 확인해 찾으므로 전체 문서와 비교하지 않으며, 후보의 유사도는 서명 일치 비율(Jaccard 추정치)입니다.
+ */
+public class MinHashLshIndex {
+
+    private final int bands;
+    private final int rows;
+    private final long[] seeds;
+    private final Map<Long, long[]> signatures = new HashMap<>();
+    private final List<Map<Long, Set<Long>>> buckets; // 밴드별 버킷 키 -> 문서 ID
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * 두 문서의 Jaccard 유사도가 s일 때 후보가 될 확률은 1 - (1 - s^rows)^bands 이며,
+     * 대략 (1 / bands)^(1 / rows) 부근에서 급격히 높아집니다.
+     */
+    public MinHashLshIndex(int bands, int rows) {
+        if (bands < 1 || rows < 1) {
+            throw new IllegalArgumentException("밴드 수와 밴드당 행 수는 1 이상이어야 합니다");
+        }
+        this.bands = bands;
+        this.rows = rows;
+        this.seeds = new SplittableRandom(0x5DEECE66DL).longs(bands * rows).toArray();
+        this.buckets = new ArrayList<>(bands);
+        for (int band = 0; band < bands; band++) {
+            buckets.add(new HashMap<>());
+        }
+    }
+
+    /**
+     * 특징 집합의 MinHash 서명을 계산합니다. 특징이 없으면 null을 반환합니다. (색인 잠금 없이 호출 가능)
+     */
+    public long[] signature(Collection<String> features) {
+        if (features == null || features.isEmpty()) {
+            return null;
+        }
+
+        long[] signature = new long[seeds.length];
+        Arrays.fill(signature, Long.MAX_VALUE);
+        for (String feature : features) {
+            long base = Hashing.fnv1a64(feature);
+            for (int i = 0; i < seeds.length; i++) {
+                long value = Hashing.mix64(base ^ seeds[i]);
+                if (value < signature[i]) {
+                    signature[i] = value;
+                }
+            }
+        }
+        return signature;
+    }
+
+    public void put(Long id, long[] signature) {
+        lock.writeLock().lock();
+        try {
+            putInternal(id, signature);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long id) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            signatures.clear();
+            buckets.forEach(Map::clear);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return signatures.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 문서와 버킷을 하나 이상 공유하는 후보 중 추정 유사도가 minSimilarity 이상인 문서를
+     * 유사도 내림차순(동점 시 ID 내림차순)으로 최대 limit개 반환합니다.
+     */
+    public List<Long> similar(Long id, int limit, double minSimilarity) {
+        lock.readLock().lock();
+        try {
+            long[] signature = signatures.get(id);
+            if (signature == null) {
+                return List.of();
+            }
+
+            Set<Long> candidates = new HashSet<>();
+            for (int band = 0; band < bands; band++) {
+                Set<Long> bucket = buckets.get(band).get(bandKey(signature, band));
+                if (bucket != null) {
+                    candidates.addAll(bucket);
+                }
+            }
+            candidates.remove(id);
+
+            Map<Long, Double> scores = new HashMap<>();
+            for (Long candidate : candidates) {
+                double similarity = similarity(signature, signatures.get(candidate));
+                if (similarity >= minSimilarity) {
+                    scores.put(candidate, similarity);
+                }
+            }
+
+            return scores.entrySet().stream()
+                    .sorted(Map.Entry.<Long, Double>comparingByValue().reversed()
+                            .thenComparing(Map.Entry.<Long, Double>comparingByKey().reversed()))
+                    .limit(limit)
+                    .map(Map.Entry::getKey)
+                    .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void putInternal(Long id, long[] signature) {
+        removeInternal(id);
+        if (signature == null) {
+            return;
+        }
+        if (signature.length != seeds.length) {
+            throw new IllegalArgumentException("서명 길이가 색인 설정과 다릅니다");
+        }
+
+        signatures.put(id, signature);
+        for (int band = 0; band < bands; band++) {
+            buckets.get(band).computeIfAbsent(bandKey(signature, band), key -> new HashSet<>()).add(id);
+        }
+    }
+
+    private void removeInternal(Long id) {
+        long[] previous = signatures.remove(id);
+        if (previous == null) {
+            return;
+        }
+        for (int band = 0; band < bands; band++) {
+            Map<Long, Set<Long>> bandBuckets = buckets.get(band);
+            Long key = bandKey(previous, band);
+            Set<Long> bucket = bandBuckets.get(key);
+            if (bucket != null) {
+                bucket.remove(id);
+                if (bucket.isEmpty()) {
+                    bandBuckets.remove(key);
+                }
+            }
+        }
+    }
+
+    private long bandKey(long[] signature, int band) {
+        long key = band;
+        for (int row = band * rows, end = row + rows; row < end; row++) {
+            key = Hashing.mix64(key * 31 + signature[row]);
+        }
+        return key;
+    }
+
+    private static double similarity(long[] left, long[] right) {
+        int matches = 0;
+        for (int i = 0; i < left.length; i++) {
+            if (left[i] == right[i]) {
+                matches++;
+            }
+        }
+        return (double) matches / left.length;
+    }
+}
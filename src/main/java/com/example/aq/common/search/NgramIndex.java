@@ -0,0 +1,189 @@
+package com.example.aq.common.search;
+
+import java.text.Normalizer;
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 문자 bigram/trigram 역색인
+ * 문서(ID)마다 여러 필드를 가중치와 함께 색인하고, 키워드 검색 결과를 관련도순 ID 목록으로 반환합니다.
+ * 한글은 음절 단위 문자 n-gram으로 색인되므로 형태소 분석 없이 부분 일치 검색이 가능합니다.
+ */
+public class NgramIndex {
+
+    private static final int MIN_GRAM = 2;
+    private static final int MAX_GRAM = 3;
+
+    private final float[] fieldWeights;
+    private final Map<String, Set<Long>> postings = new HashMap<>();
+    private final Map<Long, String[]> documents = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * @param fieldWeights put()에 전달되는 필드 순서대로의 가중치
+     */
+    public NgramIndex(float... fieldWeights) {
+        this.fieldWeights = fieldWeights.clone();
+    }
+
+    public void put(Long id, String... fields) {
+        String[] normalized = new String[fieldWeights.length];
+        for (int i = 0; i < normalized.length; i++) {
+            normalized[i] = i < fields.length ? normalize(fields[i]) : "";
+        }
+
+        lock.writeLock().lock();
+        try {
+            removeInternal(id);
+            documents.put(id, normalized);
+            for (String field : normalized) {
+                for (String gram : grams(field)) {
+                    postings.computeIfAbsent(gram, key -> new HashSet<>()).add(id);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long id) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            documents.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 키워드의 모든 n-gram을 포함하는 문서를 후보로 찾고, 관련도 내림차순(동점 시 ID 오름차순)으로 정렬합니다.
+     * 한 글자 키워드는 n-gram을 만들 수 없으므로 저장된 정규화 텍스트를 직접 확인합니다.
+     */
+    public List<Long> search(String keyword) {
+        String query = normalize(keyword);
+        if (query.isEmpty()) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            Collection<Long> candidates = query.length() < MIN_GRAM ? documents.keySet() : candidates(query);
+
+            List<Map.Entry<Long, Float>> scored = new ArrayList<>();
+            for (Long id : candidates) {
+                float score = score(documents.get(id), query);
+                if (score > 0) {
+                    scored.add(Map.entry(id, score));
+                }
+            }
+
+            scored.sort(Map.Entry.<Long, Float>comparingByValue().reversed()
+                    .thenComparing(Map.Entry.comparingByKey()));
+            return scored.stream().map(Map.Entry::getKey).toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private Collection<Long> candidates(String query) {
+        Set<String> queryGrams = grams(query);
+        List<Set<Long>> lists = new ArrayList<>(queryGrams.size());
+        for (String gram : queryGrams) {
+            Set<Long> posting = postings.get(gram);
+            if (posting == null) {
+                return List.of();
+            }
+            lists.add(posting);
+        }
+
+        // 가장 짧은 posting list부터 교집합
+        lists.sort(Comparator.comparingInt(Set::size));
+        Set<Long> result = new HashSet<>(lists.get(0));
+        for (int i = 1; i < lists.size() && !result.isEmpty(); i++) {
+            result.retainAll(lists.get(i));
+        }
+        return result;
+    }
+
+    /**
+     * 필드별 가중치 기반 점수: 연속 부분 일치 > 접두 일치 가산 > 완전 일치 가산.
+     * n-gram을 모두 포함하더라도 키워드가 연속으로 나타나지 않는 문서는 0점으로 제외합니다. (LIKE '%키워드%'와 같은 결과 집합)
+     */
+    private float score(String[] fields, String query) {
+        float score = 0;
+        for (int i = 0; i < fields.length; i++) {
+            String field = fields[i];
+            int index = field.indexOf(query);
+            if (index >= 0) {
+                float weight = fieldWeights[i];
+                score += weight;
+                if (index == 0) {
+                    score += weight * 0.5f;
+                }
+                if (field.length() == query.length()) {
+                    score += weight;
+                }
+            }
+        }
+        return score;
+    }
+
+    private void removeInternal(Long id) {
+        String[] previous = documents.remove(id);
+        if (previous == null) {
+            return;
+        }
+        for (String field : previous) {
+            for (String gram : grams(field)) {
+                Set<Long> posting = postings.get(gram);
+                if (posting != null) {
+                    posting.remove(id);
+                    if (posting.isEmpty()) {
+                        postings.remove(gram);
+                    }
+                }
+            }
+        }
+    }
+
+    private static Set<String> grams(String text) {
+        Set<String> grams = new HashSet<>();
+        for (int n = MIN_GRAM; n <= MAX_GRAM; n++) {
+            for (int i = 0; i + n <= text.length(); i++) {
+                grams.add(text.substring(i, i + n));
+            }
+        }
+        return grams;
+    }
+
+    /**
+     * NFKC 정규화(전각/호환 문자 통합), 소문자화, 연속 공백 축약
+     */
+    public static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        return normalized.trim().replaceAll("\\s+", " ");
+    }
+}
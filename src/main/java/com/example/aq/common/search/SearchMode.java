@@ -0,0 +1,26 @@
+package com.example.aq.common.search;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Locale;
+
+/**
+ * 리뷰/레시피 키워드 검색 방식
+ */
+@Getter
+@RequiredArgsConstructor
+public enum SearchMode {
+    KEYWORD("LIKE 부분 일치, 최신순 정렬"),
+    FULLTEXT("MySQL FULLTEXT(ngram) 색인 검색, 필드 가중치를 적용한 관련도순 정렬");
+
+    private final String description;
+
+    public static SearchMode from(String value) {
+        try {
+            return SearchMode.valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("지원하지 않는 검색 방식입니다: " + value);
+        }
+    }
+}
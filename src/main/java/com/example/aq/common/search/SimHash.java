@@ -0,0 +1,63 @@
+package com.example.aq.common.search;
+
+/**
+ * 64비트 SimHash (문자 3-gram shingle 기반)
+ * 내용이 거의 같은 텍스트는 지문의 해밍 거리가 작으며, 지문을 16비트 밴드 4개로 나누면
+ * 해밍 거리가 3 이하인 두 지문은 비둘기집 원리에 따라 적어도 한 밴드의 값이 정확히 같습니다.
+ */
+public final class SimHash {
+
+    public static final int BANDS = 4;
+    public static final int BAND_BITS = Long.SIZE / BANDS;
+
+    private static final int SHINGLE_SIZE = 3;
+
+    private SimHash() {
+    }
+
+    /**
+     * 여러 텍스트를 정규화(NFKC, 소문자, 공백 축약)한 뒤 shingle 빈도로 가중한 지문을 계산합니다.
+     */
+    public static long of(String... texts) {
+        int[] weights = new int[Long.SIZE];
+        for (String text : texts) {
+            String normalized = NgramIndex.normalize(text);
+            if (normalized.isEmpty()) {
+                continue;
+            }
+            if (normalized.length() <= SHINGLE_SIZE) {
+                accumulate(weights, normalized);
+                continue;
+            }
+            for (int i = 0; i + SHINGLE_SIZE <= normalized.length(); i++) {
+                accumulate(weights, normalized.substring(i, i + SHINGLE_SIZE));
+            }
+        }
+
+        long fingerprint = 0L;
+        for (int bit = 0; bit < Long.SIZE; bit++) {
+            if (weights[bit] > 0) {
+                fingerprint |= 1L << bit;
+            }
+        }
+        return fingerprint;
+    }
+
+    /**
+     * band번째 16비트 조각 (0 ~ 65535)
+     */
+    public static int band(long fingerprint, int band) {
+        return (int) ((fingerprint >>> (band * BAND_BITS)) & 0xFFFF);
+    }
+
+    public static int distance(long left, long right) {
+        return Long.bitCount(left ^ right);
+    }
+
+    private static void accumulate(int[] weights, String shingle) {
+        long hash = Hashing.mix64(Hashing.fnv1a64(shingle));
+        for (int bit = 0; bit < Long.SIZE; bit++) {
+            weights[bit] += ((hash >>> bit) & 1L) == 1L ? 1 : -1;
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.aq.common.util;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+public class PageUtil {
+
+    /**
+     * 2단계 페이지네이션: SQL에서 페이징된 ID 페이지를 받아, 해당 ID의 엔티티만 한 번에 조회한 뒤
+     * ID 페이지의 순서대로 정렬하여 반환합니다.
+     * 컬렉션 fetch join과 페이징을 함께 사용할 때 발생하는 메모리 내 페이징(HHH90003004)을 피하기 위해 사용합니다.
+     */
+    public static <T> Page<T> fetchByIds(Page<Long> idPage,
+                                         Function<List<Long>, List<T>> loader,
+                                         Function<T, Long> idExtractor) {
+        List<Long> ids = idPage.getContent();
+        if (ids.isEmpty()) {
+            return new PageImpl<>(Collections.emptyList(), idPage.getPageable(), idPage.getTotalElements());
+        }
+
+        return new PageImpl<>(fetchByIds(ids, loader, idExtractor), idPage.getPageable(), idPage.getTotalElements());
+    }
+
+    /**
+     * COUNT 쿼리 없이 조회한 ID 슬라이스로 2단계 조회를 수행합니다.
+     */
+    public static <T> Slice<T> fetchByIds(Slice<Long> idSlice,
+                                          Function<List<Long>, List<T>> loader,
+                                          Function<T, Long> idExtractor) {
+        return new SliceImpl<>(fetchByIds(idSlice.getContent(), loader, idExtractor),
+                idSlice.getPageable(), idSlice.hasNext());
+    }
+
+    /**
+     * ID 목록의 엔티티를 한 번에 조회한 뒤 ID 목록의 순서대로 정렬하여 반환합니다. (키셋 페이지네이션용)
+     */
+    public static <T> List<T> fetchByIds(List<Long> ids,
+                                         Function<List<Long>, List<T>> loader,
+                                         Function<T, Long> idExtractor) {
+        if (ids.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        Map<Long, T> entities = loader.apply(ids).stream()
+                .collect(Collectors.toMap(idExtractor, Function.identity(), (a, b) -> a));
+
+        List<T> ordered = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            T entity = entities.get(id);
+            if (entity != null) {
+                ordered.add(entity);
+            }
+        }
+        return ordered;
+    }
+}
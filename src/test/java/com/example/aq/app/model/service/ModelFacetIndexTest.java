@@ -0,0 +1,88 @@
+package com.example.aq.app.model.service;
+
+import com.example.aq.app.model.domain.FacetMatchMode;
+import com.example.aq.app.model.domain.ModelCategory;
+import com.example.aq.app.model.dto.FacetCount;
+import com.example.aq.app.model.dto.ModelResponse;
+import org.junit.jupiter.api.Test;
+
+import java.util.BitSet;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+class ModelFacetIndexTest {
+
+    private final ModelFacetIndex index = new ModelFacetIndex(List.of(
+            model(1L, "Alpha", "OpenAI", ModelCategory.TEXT_GENERATION, "Chat", "Vision"),
+            model(2L, "Beta", "openai", ModelCategory.CODE_GENERATION, "chat", "Code"),
+            model(3L, "Gamma", "Anthropic", ModelCategory.TEXT_GENERATION, "Chat"),
+            model(4L, "Delta", "Google", ModelCategory.TRANSLATION, "Vision")));
+
+    @Test
+    void andRequiresEveryCapability() {
+        BitSet result = index.filter(List.of("chat", " VISION "), FacetMatchMode.AND, null, null);
+
+        assertThat(ids(result)).containsExactly(1L);
+    }
+
+    @Test
+    void orRequiresAnyCapability() {
+        BitSet result = index.filter(List.of("code", "vision"), FacetMatchMode.OR, null, null);
+
+        assertThat(ids(result)).containsExactly(1L, 2L, 4L);
+    }
+
+    @Test
+    void unknownCapabilityMatchesNothingInAndMode() {
+        BitSet result = index.filter(List.of("chat", "audio"), FacetMatchMode.AND, null, null);
+
+        assertThat(result.isEmpty()).isTrue();
+    }
+
+    @Test
+    void combinesCapabilityCategoryAndProviderWithAnd() {
+        BitSet result = index.filter(List.of("chat"), FacetMatchMode.AND,
+                List.of(ModelCategory.TEXT_GENERATION, ModelCategory.CODE_GENERATION), List.of("OPENAI"));
+
+        assertThat(ids(result)).containsExactly(1L, 2L);
+    }
+
+    @Test
+    void countsFacetsWithinResultSet() {
+        BitSet result = index.filter(List.of("chat"), FacetMatchMode.AND, null, null);
+
+        assertThat(index.capabilityCounts(result))
+                .extracting(FacetCount::getValue, FacetCount::getCount)
+                .containsExactly(tuple("Chat", 3L), tuple("Code", 1L), tuple("Vision", 1L));
+        assertThat(index.providerCounts(result))
+                .extracting(FacetCount::getValue, FacetCount::getCount)
+                .containsExactly(tuple("OpenAI", 2L), tuple("Anthropic", 1L));
+        assertThat(index.categoryCounts(result))
+                .extracting(FacetCount::getValue, FacetCount::getCount)
+                .containsExactly(tuple("TEXT_GENERATION", 2L), tuple("CODE_GENERATION", 1L));
+    }
+
+    @Test
+    void emptyFiltersMatchAllModels() {
+        BitSet result = index.filter(List.of(), FacetMatchMode.AND, List.of(), List.of());
+
+        assertThat(ids(result)).containsExactly(1L, 2L, 3L, 4L);
+    }
+
+    private List<Long> ids(BitSet bits) {
+        return index.select(bits).stream().map(ModelResponse::getId).toList();
+    }
+
+    private static ModelResponse model(Long id, String name, String provider, ModelCategory category,
+                                       String... capabilities) {
+        return ModelResponse.builder()
+                .id(id)
+                .name(name)
+                .provider(provider)
+                .category(category)
+                .capabilities(List.of(capabilities))
+                .build();
+    }
+}
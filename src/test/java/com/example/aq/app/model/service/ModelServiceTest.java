@@ -0,0 +1,179 @@
+package com.example.aq.app.model.service;
+
+import com.example.aq.app.counter.service.CounterReconciliationService;
+import com.example.aq.app.model.domain.AIModel;
+import com.example.aq.app.model.domain.ModelCategory;
+import com.example.aq.app.model.dto.ModelChangeKey;
+import com.example.aq.app.model.dto.ModelChangesResponse;
+import com.example.aq.app.model.dto.ModelResponse;
+import com.example.aq.app.model.repository.AIModelRepository;
+import com.example.aq.app.model.repository.ModelRatingHistogramRepository;
+import com.example.aq.app.review.dto.ModelReviewCount;
+import com.example.aq.app.review.repository.ReviewRepository;
+import com.example.aq.common.dto.PageResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * 모델 목록/변경분 조회가 모델마다 리뷰 수를 따로 조회(N+1)하지 않는지 저장소 호출 수로 확인합니다.
+ * 목록은 카탈로그 스냅샷에서 제공되므로 요청 시 저장소 호출이 없어야 하고,
+ * 스냅샷 빌드와 변경분 피드는 모델 수와 무관하게 리뷰 수 집계 쿼리를 한 번만 실행해야 합니다.
+ */
+@ExtendWith(MockitoExtension.class)
+class ModelServiceTest {
+
+    @Mock
+    private AIModelRepository aiModelRepository;
+    @Mock
+    private ReviewRepository reviewRepository;
+    @Mock
+    private ModelRatingHistogramRepository histogramRepository;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    @Mock
+    private CounterReconciliationService counterReconciliationService;
+
+    private ModelCatalog modelCatalog;
+    private ModelService modelService;
+
+    @BeforeEach
+    void setUp() {
+        modelCatalog = new ModelCatalog(aiModelRepository, reviewRepository, eventPublisher,
+                mock(PlatformTransactionManager.class));
+        modelService = new ModelService(aiModelRepository, reviewRepository, histogramRepository,
+                modelCatalog, eventPublisher, counterReconciliationService, new ModelRatingPrior());
+        ReflectionTestUtils.setField(modelService, "changesSettleSeconds", 0L);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {3, 30})
+    void catalogBuildCountsReviewsWithSingleAggregate(int modelCount) {
+        List<AIModel> models = models(modelCount);
+        when(aiModelRepository.findAllActive()).thenReturn(models);
+        when(reviewRepository.countAllGroupByModel()).thenReturn(reviewCounts(models));
+
+        modelCatalog.refresh();
+
+        verify(aiModelRepository, times(1)).findAllActive();
+        verify(reviewRepository, times(1)).countAllGroupByModel();
+        verifyNoMoreInteractions(aiModelRepository, reviewRepository);
+        assertThat(modelCatalog.current().getByName())
+                .extracting(ModelResponse::getReviewCount)
+                .allMatch(count -> count == 2);
+    }
+
+    @Test
+    void listPagesAreServedWithoutRepositoryCalls() {
+        List<AIModel> models = models(30);
+        when(aiModelRepository.findAllActive()).thenReturn(models);
+        when(reviewRepository.countAllGroupByModel()).thenReturn(reviewCounts(models));
+        modelCatalog.refresh();
+        clearInvocations(aiModelRepository);
+        clearInvocations(reviewRepository);
+
+        PageResponse<ModelResponse> first = modelService.getModels(PageRequest.of(0, 5));
+        PageResponse<ModelResponse> large = modelService.getModels(PageRequest.of(0, 25));
+        modelService.getMostReviewedModels(PageRequest.of(1, 10));
+        modelService.getFreeTierModels(PageRequest.of(0, 10));
+        modelService.getModelsByProvider("OpenAI", PageRequest.of(0, 10));
+
+        assertThat(first.getContent()).hasSize(5);
+        assertThat(large.getContent()).hasSize(25);
+        verifyNoInteractions(aiModelRepository, reviewRepository);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {3, 30})
+    void modelChangesCountReviewsOncePerPage(int modelCount) {
+        List<AIModel> models = models(modelCount);
+        List<ModelChangeKey> keys = models.stream().map(ModelServiceTest::changeKey).toList();
+        when(aiModelRepository.findChangedKeysAfter(any(), anyLong(), any(), any())).thenReturn(keys);
+        when(aiModelRepository.findAllWithCapabilitiesByIdIn(anyCollection())).thenReturn(models);
+        when(reviewRepository.countByModelIds(anyCollection())).thenReturn(reviewCounts(models));
+
+        ModelChangesResponse response = modelService.getModelChanges(null, 500);
+
+        assertThat(response.getUpdated()).hasSize(modelCount)
+                .extracting(ModelResponse::getReviewCount)
+                .allMatch(count -> count == 2);
+        verify(aiModelRepository, times(1)).findChangedKeysAfter(any(), anyLong(), any(), any());
+        verify(aiModelRepository, times(1)).findAllWithCapabilitiesByIdIn(anyCollection());
+        verify(reviewRepository, times(1)).countByModelIds(anyCollection());
+        verify(reviewRepository, never()).countActiveByModelId(anyLong());
+        verify(reviewRepository, never()).countByModel(any());
+        verifyNoMoreInteractions(aiModelRepository, reviewRepository);
+    }
+
+    private static List<AIModel> models(int count) {
+        return LongStream.rangeClosed(1, count)
+                .mapToObj(id -> {
+                    AIModel model = AIModel.builder()
+                            .name("model-" + id)
+                            .provider(id % 2 == 0 ? "OpenAI" : "Anthropic")
+                            .category(ModelCategory.TEXT_GENERATION)
+                            .capabilities(List.of("chat"))
+                            .hasFreeTier(id % 3 == 0)
+                            .build();
+                    ReflectionTestUtils.setField(model, "id", id);
+                    ReflectionTestUtils.setField(model, "updatedAt", LocalDateTime.of(2024, 1, 1, 0, 0).plusMinutes(id));
+                    return model;
+                })
+                .toList();
+    }
+
+    private static List<ModelReviewCount> reviewCounts(List<AIModel> models) {
+        return models.stream()
+                .map(model -> (ModelReviewCount) new ModelReviewCount() {
+                    @Override
+                    public Long getModelId() {
+                        return model.getId();
+                    }
+
+                    @Override
+                    public Long getReviewCount() {
+                        return 2L;
+                    }
+                })
+                .toList();
+    }
+
+    private static ModelChangeKey changeKey(AIModel model) {
+        return new ModelChangeKey() {
+            @Override
+            public Long getId() {
+                return model.getId();
+            }
+
+            @Override
+            public LocalDateTime getUpdatedAt() {
+                return model.getUpdatedAt();
+            }
+        };
+    }
+}
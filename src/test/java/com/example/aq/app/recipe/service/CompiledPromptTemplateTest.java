@@ -0,0 +1,60 @@
+package com.example.aq.app.recipe.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.entry;
+
+class CompiledPromptTemplateTest {
+
+    @Test
+    void rendersRepeatedVariablesAndDefaults() {
+        CompiledPromptTemplate template = CompiledPromptTemplate.compile(
+                "{{lang|Java}}로 {{task}}를 작성하세요. {{task}} 결과만 출력합니다.");
+
+        assertThat(template.render(Map.of("task", "정렬")))
+                .isEqualTo("Java로 정렬를 작성하세요. 정렬 결과만 출력합니다.");
+        assertThat(template.render(Map.of("task", "정렬", "lang", "Kotlin")))
+                .startsWith("Kotlin로");
+    }
+
+    @Test
+    void emptyValueFallsBackToDefault() {
+        CompiledPromptTemplate template = CompiledPromptTemplate.compile("tone: {{tone|formal}}");
+
+        assertThat(template.render(Map.of("tone", ""))).isEqualTo("tone: formal");
+    }
+
+    @Test
+    void keepsUnclosedAndNamelessSlotsAsLiterals() {
+        CompiledPromptTemplate template = CompiledPromptTemplate.compile("{{ }} {{|x}} {{name}} {{open");
+
+        assertThat(template.variables()).containsOnlyKeys("name");
+        assertThat(template.render(Map.of("name", "A"))).isEqualTo("{{ }} {{|x}} A {{open");
+    }
+
+    @Test
+    void reportsAllMissingVariablesOnce() {
+        CompiledPromptTemplate template = CompiledPromptTemplate.compile("{{a}} {{b}} {{a}} {{c|ok}}");
+
+        assertThatThrownBy(() -> template.render(Map.of()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageEndingWith("a, b");
+    }
+
+    @Test
+    void variableIsRequiredIfAnyOccurrenceHasNoDefault() {
+        CompiledPromptTemplate template = CompiledPromptTemplate.compile("{{topic|AI}} {{style}} {{topic}}");
+
+        assertThat(template.variables()).containsExactly(entry("topic", null), entry("style", null));
+        assertThat(template.requiredVariables()).containsExactly("topic", "style");
+    }
+
+    @Test
+    void nullTemplateRendersEmpty() {
+        assertThat(CompiledPromptTemplate.compile(null).render(null)).isEmpty();
+    }
+}
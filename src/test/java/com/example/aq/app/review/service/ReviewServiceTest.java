@@ -0,0 +1,145 @@
+package com.example.aq.app.review.service;
+
+import com.example.aq.app.model.domain.AIModel;
+import com.example.aq.app.model.repository.AIModelRepository;
+import com.example.aq.app.model.repository.ModelRatingHistogramRepository;
+import com.example.aq.app.model.service.ModelRatingPrior;
+import com.example.aq.app.review.domain.Review;
+import com.example.aq.app.review.dto.UpdateReviewRequest;
+import com.example.aq.app.review.repository.ReviewRepository;
+import com.example.aq.app.tag.service.TagService;
+import com.example.aq.app.user.domain.User;
+import com.example.aq.common.exception.ResourceNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.when;
+
+/**
+ * 리뷰 수정/삭제가 모델의 리뷰 수, 평점 합계, 평점 분포에 한 번만 반영되는지 확인합니다.
+ * 모델 카운터와 분포는 저장소 목에 대한 증분 호출을 메모리에 누적해 검증합니다.
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class ReviewServiceTest {
+
+    private static final Long MODEL_ID = 10L;
+    private static final Long AUTHOR_ID = 20L;
+    private static final Long REVIEW_ID = 30L;
+
+    @Mock
+    private ReviewRepository reviewRepository;
+    @Mock
+    private AIModelRepository aiModelRepository;
+    @Mock
+    private ModelRatingHistogramRepository histogramRepository;
+    @Mock
+    private ModelRatingPrior ratingPrior;
+    @Mock
+    private TagService tagService;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private ReviewService reviewService;
+
+    private Review review;
+    private long reviewCount;
+    private long ratingSum;
+    private final int[] histogram = new int[5];
+
+    @BeforeEach
+    void setUp() {
+        AIModel model = AIModel.builder().name("model").provider("provider").build();
+        ReflectionTestUtils.setField(model, "id", MODEL_ID);
+        User author = User.builder().email("author@example.com").nickname("author").build();
+        ReflectionTestUtils.setField(author, "id", AUTHOR_ID);
+        review = Review.builder().model(model).author(author).title("title").content("content").rating(4).build();
+        ReflectionTestUtils.setField(review, "id", REVIEW_ID);
+
+        // 리뷰 1건이 반영된 상태에서 시작
+        reviewCount = 1;
+        ratingSum = 4;
+        histogram[3] = 1;
+
+        when(reviewRepository.findActiveByIdForUpdate(REVIEW_ID))
+                .thenAnswer(invocation -> Optional.of(review).filter(Review::getActive));
+        when(reviewRepository.save(any(Review.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(aiModelRepository.applyRatingDelta(eq(MODEL_ID), anyInt(), anyLong(), any())).thenAnswer(invocation -> {
+            reviewCount += invocation.<Integer>getArgument(1);
+            ratingSum += invocation.<Long>getArgument(2);
+            return 1;
+        });
+        doAnswer(invocation -> {
+            Integer removed = invocation.getArgument(1);
+            Integer added = invocation.getArgument(2);
+            if (removed != null) {
+                histogram[removed - 1]--;
+            }
+            if (added != null) {
+                histogram[added - 1]++;
+            }
+            return null;
+        }).when(histogramRepository).applyRatingChange(eq(MODEL_ID), any(), any());
+    }
+
+    @Test
+    void deletingSameReviewTwiceChangesCountersOnce() {
+        reviewService.deleteReview(REVIEW_ID, AUTHOR_ID);
+
+        assertThat(reviewCount).isZero();
+        assertThat(ratingSum).isZero();
+        assertThat(histogram).containsExactly(0, 0, 0, 0, 0);
+
+        assertThatThrownBy(() -> reviewService.deleteReview(REVIEW_ID, AUTHOR_ID))
+                .isInstanceOf(ResourceNotFoundException.class);
+
+        assertThat(reviewCount).isZero();
+        assertThat(ratingSum).isZero();
+        assertThat(histogram).containsExactly(0, 0, 0, 0, 0);
+    }
+
+    @Test
+    void editingDeletedReviewDoesNotShiftCounters() {
+        reviewService.deleteReview(REVIEW_ID, AUTHOR_ID);
+
+        UpdateReviewRequest request = UpdateReviewRequest.builder()
+                .title("title").content("content").rating(1).tags(List.of()).build();
+        assertThatThrownBy(() -> reviewService.updateReview(REVIEW_ID, request, AUTHOR_ID))
+                .isInstanceOf(ResourceNotFoundException.class);
+
+        assertThat(reviewCount).isZero();
+        assertThat(ratingSum).isZero();
+        assertThat(histogram).containsExactly(0, 0, 0, 0, 0);
+    }
+
+    @Test
+    void editingActiveReviewMovesRatingBetweenBuckets() {
+        UpdateReviewRequest request = UpdateReviewRequest.builder()
+                .title("title").content("content").rating(2).tags(List.of()).build();
+
+        reviewService.updateReview(REVIEW_ID, request, AUTHOR_ID);
+
+        assertThat(reviewCount).isEqualTo(1);
+        assertThat(ratingSum).isEqualTo(2);
+        assertThat(histogram).containsExactly(0, 1, 0, 0, 0);
+    }
+}
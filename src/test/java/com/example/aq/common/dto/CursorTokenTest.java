@@ -0,0 +1,58 @@
+package com.example.aq.common.dto;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CursorTokenTest {
+
+    @Test
+    void roundTripsDateTimeKey() {
+        LocalDateTime updatedAt = LocalDateTime.of(2026, 10, 18, 9, 30, 15, 123_456_000);
+
+        CursorToken decoded = CursorToken.decode(CursorToken.of(updatedAt, 42L).encode());
+
+        assertThat(decoded.sortKeyAsDateTime()).isEqualTo(updatedAt);
+        assertThat(decoded.getId()).isEqualTo(42L);
+    }
+
+    @Test
+    void roundTripsNumericKeys() {
+        assertThat(CursorToken.decode(CursorToken.of(-7L, 1L).encode()).sortKeyAsLong()).isEqualTo(-7L);
+        assertThat(CursorToken.decode(CursorToken.of(3.25, 1L).encode()).sortKeyAsDouble()).isEqualTo(3.25);
+    }
+
+    @Test
+    void blankCursorStartsFromTheTop() {
+        CursorToken start = CursorToken.decodeOrDescendingStart(" ");
+
+        assertThat(start.getId()).isEqualTo(Long.MAX_VALUE);
+        assertThat(start.sortKeyAsLong()).isEqualTo(Long.MAX_VALUE);
+    }
+
+    @Test
+    void rejectsMalformedTokens() {
+        assertThatThrownBy(() -> CursorToken.decode("not base64!"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> CursorToken.decode(encode("no-separator")))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> CursorToken.decode(encode("2026-01-01T00:00|abc")))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void rejectsSortKeyOfAnotherType() {
+        CursorToken token = CursorToken.decode(CursorToken.of(10L, 1L).encode());
+
+        assertThatThrownBy(token::sortKeyAsDateTime).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static String encode(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.aq.common.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MinHashLshIndexTest {
+
+    private final MinHashLshIndex index = new MinHashLshIndex(16, 4);
+
+    @Test
+    void findsNearDuplicateButNotUnrelatedDocument() {
+        Set<String> base = features("a", 40);
+        Set<String> near = new HashSet<>(base);
+        near.remove("a0");
+        near.add("extra");
+
+        index.put(1L, index.signature(base));
+        index.put(2L, index.signature(near));
+        index.put(3L, index.signature(features("z", 40)));
+
+        assertThat(index.similar(1L, 10, 0.5)).containsExactly(2L);
+    }
+
+    @Test
+    void removeDropsDocumentFromCandidates() {
+        long[] signature = index.signature(features("a", 20));
+        index.put(1L, signature);
+        index.put(2L, signature);
+
+        index.remove(2L);
+
+        assertThat(index.similar(1L, 10, 0.0)).isEmpty();
+        assertThat(index.size()).isEqualTo(1);
+    }
+
+    @Test
+    void putReplacesPreviousSignature() {
+        index.put(1L, index.signature(features("a", 20)));
+        index.put(2L, index.signature(features("a", 20)));
+
+        index.put(2L, index.signature(features("z", 20)));
+
+        assertThat(index.similar(1L, 10, 0.5)).isEmpty();
+        assertThat(index.size()).isEqualTo(2);
+    }
+
+    @Test
+    void ordersBySimilarityThenIdDescendingAndAppliesLimit() {
+        Set<String> base = features("a", 40);
+        index.put(1L, index.signature(base));
+        index.put(2L, index.signature(base));
+        index.put(3L, index.signature(base));
+
+        assertThat(index.similar(1L, 1, 0.5)).containsExactly(3L);
+    }
+
+    @Test
+    void emptyFeaturesHaveNoSignature() {
+        assertThat(index.signature(Set.of())).isNull();
+        assertThat(index.similar(99L, 10, 0.0)).isEmpty();
+    }
+
+    @Test
+    void rejectsSignatureOfDifferentLength() {
+        assertThatThrownBy(() -> index.put(1L, new long[3])).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static Set<String> features(String prefix, int count) {
+        Set<String> features = new HashSet<>();
+        for (int i = 0; i < count; i++) {
+            features.add(prefix + i);
+        }
+        return features;
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.aq.common.search;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * NgramIndex 검색과 LIKE '%키워드%'에 해당하는 전체 선형 탐색의 질의당 시간 비교 (10k / 100k 문서)
+ * 선형 탐색은 DB 왕복과 행 읽기 비용이 없는 하한값이며, 두 방식의 결과 집합이 같은지도 함께 확인합니다.
+ * 실행: NGRAM_BENCHMARK=true gradle test --tests '*NgramIndexBenchmarkTest'
+ */
+@EnabledIfEnvironmentVariable(named = "NGRAM_BENCHMARK", matches = "true")
+class NgramIndexBenchmarkTest {
+
+    private static final String[] WORDS = {
+            "gpt", "claude", "gemini", "llama", "mistral", "qwen", "vision", "code", "chat", "instruct",
+            "embedding", "reasoning", "multimodal", "assistant", "turbo", "mini", "pro", "ultra", "flash", "sonnet",
+            "언어", "모델", "이미지", "생성", "번역", "요약", "코드", "추론", "대화", "검색"};
+    private static final String[] KEYWORDS = {"gpt", "laude", "mini", "코드", "생성 모델", "turbo chat", "xyz"};
+    private static final int WARMUP_ROUNDS = 5;
+    private static final int MEASURE_ROUNDS = 20;
+
+    @Test
+    void compareWithLinearScan() {
+        for (int size : new int[]{10_000, 100_000}) {
+            run(size);
+        }
+    }
+
+    private void run(int size) {
+        Random random = new Random(42);
+        NgramIndex index = new NgramIndex(3f, 2f, 1f);
+        List<String[]> rows = new ArrayList<>(size);
+        for (long id = 1; id <= size; id++) {
+            String[] fields = {sentence(random, 2), sentence(random, 1), sentence(random, 6)};
+            index.put(id, fields);
+            rows.add(new String[]{NgramIndex.normalize(fields[0]), NgramIndex.normalize(fields[1]),
+                    NgramIndex.normalize(fields[2])});
+        }
+
+        for (String keyword : KEYWORDS) {
+            assertThat(new HashSet<>(index.search(keyword))).isEqualTo(new HashSet<>(linearScan(rows, keyword)));
+
+            for (int i = 0; i < WARMUP_ROUNDS; i++) {
+                index.search(keyword);
+                linearScan(rows, keyword);
+            }
+            long indexNanos = measure(() -> index.search(keyword));
+            long scanNanos = measure(() -> linearScan(rows, keyword));
+            System.out.printf("rows=%d keyword=%-12s matches=%-6d index=%8.1fus scan=%8.1fus%n",
+                    size, keyword, index.search(keyword).size(), indexNanos / 1000.0, scanNanos / 1000.0);
+        }
+    }
+
+    private static long measure(Runnable query) {
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURE_ROUNDS; i++) {
+            query.run();
+        }
+        return (System.nanoTime() - start) / MEASURE_ROUNDS;
+    }
+
+    private static List<Long> linearScan(List<String[]> rows, String keyword) {
+        String query = NgramIndex.normalize(keyword);
+        List<Long> matches = new ArrayList<>();
+        for (int i = 0; i < rows.size(); i++) {
+            for (String field : rows.get(i)) {
+                if (field.contains(query)) {
+                    matches.add(i + 1L);
+                    break;
+                }
+            }
+        }
+        return matches;
+    }
+
+    private static String sentence(Random random, int words) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < words; i++) {
+            if (i > 0) {
+                builder.append(' ');
+            }
+            builder.append(WORDS[random.nextInt(WORDS.length)]);
+            if (random.nextInt(4) == 0) {
+                builder.append('-').append(random.nextInt(100));
+            }
+        }
+        return builder.toString();
+    }
+}
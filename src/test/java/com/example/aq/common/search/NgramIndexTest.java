@@ -0,0 +1,47 @@
+package com.example.aq.common.search;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NgramIndexTest {
+
+    @Test
+    void excludesDocumentsContainingAllGramsButNotTheKeyword() {
+        NgramIndex index = new NgramIndex(1f);
+        index.put(1L, "abcd");
+        index.put(2L, "abc bcd"); // "abc", "bcd" gram을 모두 포함하지만 "abcd"는 연속으로 나타나지 않음
+
+        assertThat(index.search("abcd")).containsExactly(1L);
+    }
+
+    @Test
+    void ranksByFieldWeightThenPrefixThenExactMatch() {
+        NgramIndex index = new NgramIndex(3f, 1f);
+        index.put(1L, "other", "gpt model");
+        index.put(2L, "my gpt", "");
+        index.put(3L, "gpt-4", "");
+        index.put(4L, "gpt", "");
+
+        assertThat(index.search("GPT")).containsExactly(4L, 3L, 2L, 1L);
+    }
+
+    @Test
+    void matchesSingleCharacterKeywordBySubstring() {
+        NgramIndex index = new NgramIndex(1f);
+        index.put(1L, "클로드");
+        index.put(2L, "제미나이");
+
+        assertThat(index.search("드")).containsExactly(1L);
+    }
+
+    @Test
+    void removeDropsDocumentFromResults() {
+        NgramIndex index = new NgramIndex(1f);
+        index.put(1L, "llama");
+        index.remove(1L);
+
+        assertThat(index.search("llama")).isEmpty();
+        assertThat(index.size()).isZero();
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.aq.common.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SimHashTest {
+
+    @Test
+    void fingerprintsWithinThreeBitsShareABand() {
+        SplittableRandom random = new SplittableRandom(7);
+        for (int trial = 0; trial < 10_000; trial++) {
+            long fingerprint = random.nextLong();
+            long other = fingerprint;
+            int flips = random.nextInt(SimHash.BANDS);
+            for (int i = 0; i < flips; i++) {
+                other ^= 1L << random.nextInt(Long.SIZE);
+            }
+
+            assertThat(SimHash.distance(fingerprint, other)).isLessThan(SimHash.BANDS);
+            assertThat(sharesBand(fingerprint, other)).isTrue();
+        }
+    }
+
+    @Test
+    void bandsReassembleTheFingerprint() {
+        long fingerprint = 0x0123_4567_89AB_CDEFL;
+        long reassembled = 0L;
+        for (int band = 0; band < SimHash.BANDS; band++) {
+            int value = SimHash.band(fingerprint, band);
+            assertThat(value).isBetween(0, 0xFFFF);
+            reassembled |= (long) value << (band * SimHash.BAND_BITS);
+        }
+
+        assertThat(reassembled).isEqualTo(fingerprint);
+    }
+
+    @Test
+    void normalizedTextHasSameFingerprint() {
+        assertThat(SimHash.of("Summarize  THIS article", "desc"))
+                .isEqualTo(SimHash.of("summarize this article", "DESC"));
+    }
+
+    @Test
+    void smallEditStaysCloserThanUnrelatedText() {
+        String prompt = "다음 글을 세 문장으로 요약하고 핵심 키워드 다섯 개를 뽑아 주세요. 글: {{text}}";
+        long original = SimHash.of(prompt);
+        long edited = SimHash.of(prompt.replace("다섯", "여섯"));
+        long unrelated = SimHash.of("Translate the following Python function into idiomatic Kotlin code");
+
+        assertThat(SimHash.distance(original, edited)).isLessThan(SimHash.distance(original, unrelated));
+    }
+
+    private static boolean sharesBand(long left, long right) {
+        for (int band = 0; band < SimHash.BANDS; band++) {
+            if (SimHash.band(left, band) == SimHash.band(right, band)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}